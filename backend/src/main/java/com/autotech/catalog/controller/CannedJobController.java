@@ -5,6 +5,7 @@ import com.autotech.catalog.dto.CannedJobRequest;
 import com.autotech.catalog.dto.CannedJobResponse;
 import com.autotech.catalog.service.CannedJobService;
 import com.autotech.common.dto.ApiResponse;
+import com.autotech.common.web.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/canned-jobs")
@@ -32,12 +34,19 @@ public class CannedJobController {
     @GetMapping
     public ResponseEntity<ApiResponse<Page<CannedJobResponse>>> search(
             @RequestParam(required = false) String query,
-            @PageableDefault(size = 12, sort = "title") Pageable pageable) {
+            @PageableDefault(size = 12, sort = "title") Pageable pageable,
+            WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, cannedJobService.getListVersion())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(ApiResponse.success(cannedJobService.search(query, pageable)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<CannedJobDetailResponse>> getById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<CannedJobDetailResponse>> getById(@PathVariable Long id, WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, cannedJobService.getLastModified(id))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(ApiResponse.success(cannedJobService.getById(id)));
     }
 
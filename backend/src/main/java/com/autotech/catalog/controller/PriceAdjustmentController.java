@@ -0,0 +1,29 @@
+package com.autotech.catalog.controller;
+
+import com.autotech.catalog.dto.PriceAdjustmentRequest;
+import com.autotech.catalog.dto.PriceAdjustmentResponse;
+import com.autotech.catalog.service.PriceAdjustmentService;
+import com.autotech.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/price-adjustments")
+@RequiredArgsConstructor
+public class PriceAdjustmentController {
+
+    private final PriceAdjustmentService priceAdjustmentService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<PriceAdjustmentResponse>> adjust(
+            @Valid @RequestBody PriceAdjustmentRequest request) {
+        PriceAdjustmentResponse result = priceAdjustmentService.adjust(request);
+        String message = request.dryRun() ? "Vista previa del ajuste de precios" : "Precios actualizados";
+        return ResponseEntity.ok(ApiResponse.success(message, result));
+    }
+}
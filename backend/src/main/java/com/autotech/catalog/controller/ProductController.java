@@ -2,8 +2,10 @@ package com.autotech.catalog.controller;
 
 import com.autotech.catalog.dto.ProductRequest;
 import com.autotech.catalog.dto.ProductResponse;
+import com.autotech.catalog.dto.StockAdjustmentRequest;
 import com.autotech.catalog.service.ProductService;
 import com.autotech.common.dto.ApiResponse;
+import com.autotech.common.web.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/products")
@@ -31,12 +34,19 @@ public class ProductController {
     @GetMapping
     public ResponseEntity<ApiResponse<Page<ProductResponse>>> search(
             @RequestParam(required = false) String query,
-            @PageableDefault(size = 12, sort = "name") Pageable pageable) {
+            @PageableDefault(size = 12, sort = "name") Pageable pageable,
+            WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, productService.getListVersion())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(ApiResponse.success(productService.search(query, pageable)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ProductResponse>> getById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<ProductResponse>> getById(@PathVariable Long id, WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, productService.getLastModified(id))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(ApiResponse.success(productService.getById(id)));
     }
 
@@ -54,6 +64,13 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success("Producto actualizado", productService.update(id, request)));
     }
 
+    @PostMapping("/{id}/stock-adjustments")
+    public ResponseEntity<ApiResponse<ProductResponse>> adjustStock(
+            @PathVariable Long id,
+            @Valid @RequestBody StockAdjustmentRequest request) {
+        return ResponseEntity.ok(ApiResponse.success("Stock ajustado", productService.adjustStock(id, request)));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Long id) {
         productService.delete(id);
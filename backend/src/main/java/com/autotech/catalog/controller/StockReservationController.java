@@ -0,0 +1,43 @@
+package com.autotech.catalog.controller;
+
+import com.autotech.catalog.dto.StockReservationRequest;
+import com.autotech.catalog.dto.StockReservationResponse;
+import com.autotech.catalog.service.StockReservationService;
+import com.autotech.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stock-reservations")
+@RequiredArgsConstructor
+public class StockReservationController {
+
+    private final StockReservationService stockReservationService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<StockReservationResponse>> reserve(
+            @Valid @RequestBody StockReservationRequest request) {
+        StockReservationResponse created = stockReservationService.reserve(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("Stock reservado", created));
+    }
+
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<ApiResponse<Void>> confirm(@PathVariable Long id) {
+        stockReservationService.confirm(id);
+        return ResponseEntity.ok(ApiResponse.success("Reserva confirmada", null));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> release(@PathVariable Long id) {
+        stockReservationService.release(id);
+        return ResponseEntity.ok(ApiResponse.success("Reserva liberada", null));
+    }
+}
@@ -10,12 +10,17 @@ import java.util.List;
 @Component
 public class CannedJobMapper {
 
-    public CannedJobResponse toResponse(CannedJob entity) {
+    public CannedJobResponse toResponse(CannedJob entity, CannedJobTotals totals) {
         if (entity == null) return null;
+        if (totals == null) totals = CannedJobTotals.empty(entity.getId());
         return new CannedJobResponse(
                 entity.getId(),
                 entity.getTitle(),
                 entity.getDescription(),
+                totals.servicesTotal(),
+                totals.productsTotal(),
+                totals.servicesTotal().add(totals.productsTotal()),
+                totals.lineCount(),
                 entity.getCreatedAt(),
                 entity.getUpdatedAt()
         );
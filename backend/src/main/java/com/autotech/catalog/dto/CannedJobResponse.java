@@ -1,11 +1,16 @@
 package com.autotech.catalog.dto;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public record CannedJobResponse(
         Long id,
         String title,
         String description,
+        BigDecimal servicesTotal,
+        BigDecimal productsTotal,
+        BigDecimal total,
+        Long lineCount,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {}
@@ -9,6 +9,9 @@ import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 
 public record CannedJobServiceRequest(
+        // Id of an existing line to update; null for a new line
+        Long id,
+
         @NotBlank(message = "El nombre del servicio es obligatorio")
         @Size(max = 255, message = "El nombre no puede superar los 255 caracteres")
         String serviceName,
@@ -0,0 +1,15 @@
+package com.autotech.catalog.dto;
+
+import java.math.BigDecimal;
+
+public record CannedJobTotals(
+        Long cannedJobId,
+        BigDecimal servicesTotal,
+        BigDecimal productsTotal,
+        Long lineCount
+) {
+
+    public static CannedJobTotals empty(Long cannedJobId) {
+        return new CannedJobTotals(cannedJobId, BigDecimal.ZERO, BigDecimal.ZERO, 0L);
+    }
+}
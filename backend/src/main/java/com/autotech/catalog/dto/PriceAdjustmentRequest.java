@@ -0,0 +1,50 @@
+package com.autotech.catalog.dto;
+
+import com.autotech.catalog.model.PriceAdjustmentMode;
+import com.autotech.catalog.model.PriceAdjustmentTarget;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+/**
+ * Body of {@code POST /api/price-adjustments}. {@code amount} is a percentage (12.5 = +12.5%)
+ * or a fixed amount added to every price, and may be negative. New prices are rounded to the
+ * nearest multiple of {@code roundTo} and never go below zero.
+ */
+public record PriceAdjustmentRequest(
+        @NotNull(message = "El alcance del ajuste es obligatorio")
+        PriceAdjustmentTarget target,
+
+        @NotNull(message = "El tipo de ajuste es obligatorio")
+        PriceAdjustmentMode mode,
+
+        @NotNull(message = "El valor del ajuste es obligatorio")
+        @Digits(integer = 10, fraction = 2, message = "El valor debe tener como máximo 10 dígitos enteros y 2 decimales")
+        BigDecimal amount,
+
+        @DecimalMin(value = "0.01", message = "El redondeo debe ser de al menos 0.01")
+        @Digits(integer = 10, fraction = 2, message = "El redondeo debe tener como máximo 10 dígitos enteros y 2 decimales")
+        BigDecimal roundTo,
+
+        // Matches name or description, like the catalog search
+        @Size(max = 255, message = "El filtro no puede superar los 255 caracteres")
+        String query,
+
+        // Also reprice canned job lines whose name matches an affected service or product
+        boolean includeCannedJobs,
+
+        boolean dryRun
+) {
+
+    public void validate() {
+        if (mode == PriceAdjustmentMode.PERCENTAGE && amount.compareTo(BigDecimal.valueOf(-100)) <= 0) {
+            throw new IllegalArgumentException("El porcentaje de ajuste debe ser mayor a -100");
+        }
+        if (amount.signum() == 0) {
+            throw new IllegalArgumentException("El valor del ajuste no puede ser cero");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.autotech.catalog.dto;
+
+import java.util.List;
+
+/**
+ * Rows changed per kind of item; on a dry run, rows that would change. {@code preview} is only
+ * filled on a dry run and is capped, so it may list fewer rows than the counts.
+ */
+public record PriceAdjustmentResponse(
+        boolean dryRun,
+        int services,
+        int products,
+        int cannedJobServices,
+        int cannedJobProducts,
+        List<PriceChangePreview> preview
+) {}
@@ -0,0 +1,13 @@
+package com.autotech.catalog.dto;
+
+import com.autotech.catalog.model.PricedItemType;
+
+import java.math.BigDecimal;
+
+public record PriceChangePreview(
+        PricedItemType type,
+        Long id,
+        String name,
+        BigDecimal currentPrice,
+        BigDecimal newPrice
+) {}
@@ -29,10 +29,10 @@ public class ProductMapper {
                 .build();
     }
 
+    // quantity is initial stock only; after creation it moves through StockLedgerRepository
     public void updateEntity(ProductRequest request, Product entity) {
         entity.setName(request.name());
         entity.setDescription(request.description());
-        entity.setQuantity(request.quantity() != null ? request.quantity() : 0);
         entity.setUnitPrice(request.unitPrice());
     }
 }
@@ -16,6 +16,7 @@ public record ProductRequest(
         @Size(max = 5000, message = "La descripción no puede superar los 5000 caracteres")
         String description,
 
+        // Initial stock on create; ignored on update, use a stock adjustment instead
         @Min(value = 0, message = "La cantidad no puede ser negativa")
         Integer quantity,
 
@@ -0,0 +1,9 @@
+package com.autotech.catalog.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record StockAdjustmentRequest(
+        // Units to add; negative to take units off (breakage, count corrections)
+        @NotNull(message = "La cantidad a ajustar es obligatoria")
+        Integer delta
+) {}
@@ -0,0 +1,13 @@
+package com.autotech.catalog.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record StockReservationRequest(
+        @NotNull(message = "El producto es obligatorio")
+        Long productId,
+
+        @NotNull(message = "La cantidad es obligatoria")
+        @Positive(message = "La cantidad debe ser mayor a cero")
+        Integer quantity
+) {}
@@ -0,0 +1,10 @@
+package com.autotech.catalog.dto;
+
+import java.time.LocalDateTime;
+
+public record StockReservationResponse(
+        Long id,
+        Long productId,
+        Integer quantity,
+        LocalDateTime expiresAt
+) {}
@@ -0,0 +1,6 @@
+package com.autotech.catalog.model;
+
+public enum PriceAdjustmentMode {
+    PERCENTAGE,
+    FIXED
+}
@@ -0,0 +1,7 @@
+package com.autotech.catalog.model;
+
+public enum PriceAdjustmentTarget {
+    SERVICES,
+    PRODUCTS,
+    ALL
+}
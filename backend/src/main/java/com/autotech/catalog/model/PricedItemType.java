@@ -0,0 +1,8 @@
+package com.autotech.catalog.model;
+
+public enum PricedItemType {
+    SERVICE,
+    PRODUCT,
+    CANNED_JOB_SERVICE,
+    CANNED_JOB_PRODUCT
+}
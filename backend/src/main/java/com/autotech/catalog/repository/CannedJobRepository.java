@@ -1,19 +1,57 @@
 package com.autotech.catalog.repository;
 
+import com.autotech.catalog.dto.CannedJobTotals;
 import com.autotech.catalog.model.CannedJob;
+import com.autotech.common.dto.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CannedJobRepository extends JpaRepository<CannedJob, Long> {
 
-    Page<CannedJob> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-            String title, String description, Pageable pageable);
+    @Query("SELECT cj.updatedAt FROM CannedJob cj WHERE cj.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @Query("SELECT new com.autotech.common.dto.ResourceVersion(COUNT(cj), MAX(cj.updatedAt)) FROM CannedJob cj")
+    ResourceVersion findVersion();
+
+    // search_vector is kept up to date by triggers, see V7__canned_job_full_text_search.sql
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = """
+                SELECT cj.* FROM canned_jobs cj
+                WHERE cj.search_vector @@ to_tsquery('spanish', :tsQuery)
+                ORDER BY ts_rank(cj.search_vector, to_tsquery('spanish', :tsQuery)) DESC, cj.id DESC
+            """, countQuery = """
+                SELECT COUNT(*) FROM canned_jobs cj
+                WHERE cj.search_vector @@ to_tsquery('spanish', :tsQuery)
+            """, nativeQuery = true)
+    Page<CannedJob> searchRanked(@Param("tsQuery") String tsQuery, Pageable pageable);
+
+    // One statement per page; each subquery is an index lookup on the line tables' canned_job_id
+    @Query("""
+            SELECT new com.autotech.catalog.dto.CannedJobTotals(
+                cj.id,
+                (SELECT COALESCE(SUM(s.price), 0) FROM CannedJobService s WHERE s.cannedJob = cj),
+                (SELECT COALESCE(SUM(p.quantity * p.unitPrice), 0) FROM CannedJobProduct p WHERE p.cannedJob = cj),
+                (SELECT COUNT(s) FROM CannedJobService s WHERE s.cannedJob = cj)
+                    + (SELECT COUNT(p) FROM CannedJobProduct p WHERE p.cannedJob = cj))
+            FROM CannedJob cj
+            WHERE cj.id IN :ids
+            """)
+    List<CannedJobTotals> findTotalsByIdIn(@Param("ids") Collection<Long> ids);
 
     @EntityGraph(attributePaths = {"services", "products"})
     Optional<CannedJob> findWithDetailsById(Long id);
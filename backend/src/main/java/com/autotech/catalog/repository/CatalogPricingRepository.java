@@ -0,0 +1,156 @@
+package com.autotech.catalog.repository;
+
+import com.autotech.catalog.dto.PriceChangePreview;
+import com.autotech.catalog.model.PricedItemType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based repricing of catalog items and canned job lines. Rows are selected by the same
+ * name/description filter as the catalog search; canned job lines have no description and are
+ * selected through the name of a matching service or product. Only rows whose price actually
+ * changes are counted, previewed or written.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogPricingRepository {
+
+    /**
+     * {@code price * factor + delta}, rounded to the nearest multiple of {@code step}.
+     */
+    public record PriceFormula(BigDecimal factor, BigDecimal delta, BigDecimal step) {
+    }
+
+    private record PricedTable(String table, String nameColumn, String priceColumn, String filter, boolean line) {
+    }
+
+    private static final String CATALOG_FILTER = "(t.name ILIKE ? OR COALESCE(t.description, '') ILIKE ?)";
+
+    private static final String LINE_FILTER = """
+            t.%s IN (SELECT s.name FROM %s s WHERE s.name ILIKE ? OR COALESCE(s.description, '') ILIKE ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int count(PricedItemType type, String pattern, PriceFormula formula) {
+        PricedTable table = tableOf(type);
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT COUNT(*) FROM " + table.table() + " t WHERE " + changedRows(table, pattern, formula, args);
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args.toArray());
+        return count == null ? 0 : count;
+    }
+
+    public List<PriceChangePreview> preview(PricedItemType type, String pattern, PriceFormula formula, int limit) {
+        PricedTable table = tableOf(type);
+        List<Object> args = new ArrayList<>();
+        String newPrice = newPrice(table, formula, args);
+        String sql = "SELECT t.id, t." + table.nameColumn() + " AS name, t." + table.priceColumn() + " AS price, "
+                + newPrice + " AS new_price FROM " + table.table() + " t WHERE "
+                + changedRows(table, pattern, formula, args)
+                + " ORDER BY t." + table.nameColumn() + ", t.id LIMIT ?";
+        args.add(limit);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new PriceChangePreview(
+                type,
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getBigDecimal("price"),
+                rs.getBigDecimal("new_price")), args.toArray());
+    }
+
+    /**
+     * Next chunk of ids to reprice, in id order after {@code afterId}.
+     */
+    public List<Long> findChangedIds(PricedItemType type, String pattern, PriceFormula formula,
+                                     long afterId, int limit) {
+        PricedTable table = tableOf(type);
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT t.id FROM " + table.table() + " t WHERE " + changedRows(table, pattern, formula, args)
+                + " AND t.id > ? ORDER BY t.id LIMIT ?";
+        args.add(afterId);
+        args.add(limit);
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    /**
+     * Reprices the given rows in one statement and returns how many changed. Canned job lines
+     * also bump their job's {@code updated_at} in the same statement, so conditional GETs see
+     * the new prices.
+     */
+    public int reprice(PricedItemType type, Collection<Long> ids, PriceFormula formula, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        PricedTable table = tableOf(type);
+        List<Object> setArgs = new ArrayList<>();
+        String newPrice = newPrice(table, formula, setArgs);
+        List<Object> whereArgs = new ArrayList<>();
+        String changed = changedPrice(table, formula, whereArgs);
+        Timestamp nowTs = Timestamp.valueOf(now);
+
+        String update = "UPDATE " + table.table() + " t SET " + table.priceColumn() + " = " + newPrice
+                + ", updated_at = ? WHERE t.id = ANY(?) AND " + changed
+                + " RETURNING " + (table.line() ? "t.canned_job_id" : "t.id");
+        String sql = table.line()
+                ? "WITH changed AS (" + update + "), touched AS ("
+                        + "UPDATE canned_jobs c SET updated_at = ? WHERE c.id IN (SELECT canned_job_id FROM changed)) "
+                        + "SELECT COUNT(*) FROM changed"
+                : "WITH changed AS (" + update + ") SELECT COUNT(*) FROM changed";
+
+        List<Integer> result = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            int index = 1;
+            for (Object arg : setArgs) {
+                ps.setObject(index++, arg);
+            }
+            ps.setTimestamp(index++, nowTs);
+            ps.setArray(index++, connection.createArrayOf("bigint", ids.toArray()));
+            for (Object arg : whereArgs) {
+                ps.setObject(index++, arg);
+            }
+            if (table.line()) {
+                ps.setTimestamp(index, nowTs);
+            }
+            return ps;
+        }, (rs, rowNum) -> rs.getInt(1));
+        return result.isEmpty() ? 0 : result.getFirst();
+    }
+
+    private static String changedRows(PricedTable table, String pattern, PriceFormula formula, List<Object> args) {
+        args.add(pattern);
+        args.add(pattern);
+        return table.filter() + " AND " + changedPrice(table, formula, args);
+    }
+
+    private static String changedPrice(PricedTable table, PriceFormula formula, List<Object> args) {
+        String price = "t." + table.priceColumn();
+        return price + " IS NOT NULL AND " + newPrice(table, formula, args) + " <> " + price;
+    }
+
+    // Never below zero; a fixed decrease larger than a price takes it to zero, not negative
+    private static String newPrice(PricedTable table, PriceFormula formula, List<Object> args) {
+        args.add(formula.factor());
+        args.add(formula.delta());
+        args.add(formula.step());
+        args.add(formula.step());
+        return "GREATEST(ROUND((t." + table.priceColumn() + " * ? + ?) / ?) * ?, 0)";
+    }
+
+    private static PricedTable tableOf(PricedItemType type) {
+        return switch (type) {
+            case SERVICE -> new PricedTable("services", "name", "price", CATALOG_FILTER, false);
+            case PRODUCT -> new PricedTable("products", "name", "unit_price", CATALOG_FILTER, false);
+            case CANNED_JOB_SERVICE -> new PricedTable("canned_job_services", "service_name", "price",
+                    LINE_FILTER.formatted("service_name", "services"), true);
+            case CANNED_JOB_PRODUCT -> new PricedTable("canned_job_products", "product_name", "unit_price",
+                    LINE_FILTER.formatted("product_name", "products"), true);
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.autotech.catalog.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stock movements as single conditional statements. Every write is one round trip, so the
+ * product row lock is held only for that statement plus the commit, and concurrent reservations
+ * of the same product queue on it briefly instead of reading, checking and writing back a stale
+ * quantity.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockLedgerRepository {
+
+    // Decrement and reservation insert in one statement; no row comes back when stock is short
+    private static final String RESERVE_SQL = """
+            WITH taken AS (
+                UPDATE products SET quantity = quantity - ?, updated_at = ?
+                WHERE id = ? AND quantity >= ?
+                RETURNING id
+            )
+            INSERT INTO stock_reservations (product_id, quantity, expires_at, created_at)
+            SELECT id, ?, ?, ? FROM taken
+            RETURNING id
+            """;
+
+    private static final String CONFIRM_SQL = "DELETE FROM stock_reservations WHERE id = ? RETURNING id";
+
+    private static final String RELEASE_SQL = """
+            WITH released AS (
+                DELETE FROM stock_reservations WHERE id = ?
+                RETURNING product_id, quantity
+            )
+            UPDATE products p SET quantity = p.quantity + r.quantity, updated_at = ?
+            FROM released r
+            WHERE p.id = r.product_id
+            RETURNING p.id
+            """;
+
+    // SKIP LOCKED lets several instances sweep at once; units are summed per product so a hot
+    // product gets one UPDATE per batch however many of its reservations expired
+    private static final String RELEASE_EXPIRED_SQL = """
+            WITH expired AS (
+                DELETE FROM stock_reservations
+                WHERE id IN (SELECT id FROM stock_reservations
+                             WHERE expires_at <= ?
+                             ORDER BY expires_at
+                             LIMIT ?
+                             FOR UPDATE SKIP LOCKED)
+                RETURNING product_id, quantity
+            ), restored AS (
+                UPDATE products p SET quantity = p.quantity + e.quantity, updated_at = ?
+                FROM (SELECT product_id, SUM(quantity) AS quantity FROM expired GROUP BY product_id) e
+                WHERE p.id = e.product_id
+            )
+            SELECT COUNT(*) FROM expired
+            """;
+
+    private static final String ADJUST_SQL = """
+            UPDATE products SET quantity = quantity + ?, updated_at = ?
+            WHERE id = ? AND quantity + ? >= 0
+            RETURNING quantity
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes {@code quantity} units off the product and records the reservation. Returns the
+     * reservation id, or empty when the product does not exist or has fewer units available.
+     */
+    public Optional<Long> reserve(Long productId, int quantity, LocalDateTime expiresAt, LocalDateTime now) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        List<Long> ids = jdbcTemplate.queryForList(RESERVE_SQL, Long.class,
+                quantity, nowTs, productId, quantity, quantity, Timestamp.valueOf(expiresAt), nowTs);
+        return ids.stream().findFirst();
+    }
+
+    /**
+     * Drops the reservation, keeping its units out of stock. Returns false when it no longer exists.
+     */
+    public boolean confirm(Long reservationId) {
+        return !jdbcTemplate.queryForList(CONFIRM_SQL, Long.class, reservationId).isEmpty();
+    }
+
+    /**
+     * Drops the reservation and gives its units back. Returns false when it no longer exists.
+     */
+    public boolean release(Long reservationId, LocalDateTime now) {
+        return !jdbcTemplate.queryForList(RELEASE_SQL, Long.class, reservationId, Timestamp.valueOf(now)).isEmpty();
+    }
+
+    /**
+     * Releases up to {@code limit} reservations that expired at or before {@code now}. Returns how
+     * many were released.
+     */
+    public int releaseExpired(LocalDateTime now, int limit) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Long released = jdbcTemplate.queryForObject(RELEASE_EXPIRED_SQL, Long.class, nowTs, limit, nowTs);
+        return released == null ? 0 : released.intValue();
+    }
+
+    /**
+     * Adds {@code delta} units (negative to take them off). Returns the new stock, or empty when
+     * the product does not exist or the result would be negative.
+     */
+    public Optional<Integer> adjust(Long productId, int delta, LocalDateTime now) {
+        return jdbcTemplate.queryForList(ADJUST_SQL, Integer.class, delta, Timestamp.valueOf(now), productId, delta)
+                .stream().findFirst();
+    }
+
+    public Optional<Integer> findAvailable(Long productId) {
+        return jdbcTemplate.queryForList("SELECT quantity FROM products WHERE id = ?", Integer.class, productId)
+                .stream().findFirst();
+    }
+}
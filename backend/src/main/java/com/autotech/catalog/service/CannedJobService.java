@@ -3,15 +3,22 @@ package com.autotech.catalog.service;
 import com.autotech.catalog.dto.CannedJobDetailResponse;
 import com.autotech.catalog.dto.CannedJobRequest;
 import com.autotech.catalog.dto.CannedJobResponse;
+import com.autotech.common.dto.ResourceVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+
 public interface CannedJobService {
 
     Page<CannedJobResponse> search(String query, Pageable pageable);
 
     CannedJobDetailResponse getById(Long id);
 
+    LocalDateTime getLastModified(Long id);
+
+    ResourceVersion getListVersion();
+
     CannedJobDetailResponse create(CannedJobRequest request);
 
     CannedJobDetailResponse update(Long id, CannedJobRequest request);
@@ -6,17 +6,34 @@ import com.autotech.catalog.dto.CannedJobProductRequest;
 import com.autotech.catalog.dto.CannedJobRequest;
 import com.autotech.catalog.dto.CannedJobResponse;
 import com.autotech.catalog.dto.CannedJobServiceRequest;
+import com.autotech.catalog.dto.CannedJobTotals;
 import com.autotech.catalog.model.CannedJob;
 import com.autotech.catalog.model.CannedJobProduct;
 import com.autotech.catalog.repository.CannedJobRepository;
+import com.autotech.common.dto.ResourceVersion;
 import com.autotech.common.exception.ResourceNotFoundException;
+import com.autotech.common.model.BaseEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -29,13 +46,41 @@ public class CannedJobServiceImpl implements CannedJobService {
     @Transactional(readOnly = true)
     public Page<CannedJobResponse> search(String query, Pageable pageable) {
         log.debug("Searching canned jobs with query: '{}'", query);
-        if (query == null || query.isBlank()) {
-            return cannedJobRepository.findAll(pageable)
-                    .map(cannedJobMapper::toResponse);
+        String tsQuery = toPrefixTsQuery(query);
+        if (tsQuery == null) {
+            return withTotals(cannedJobRepository.findAll(pageable));
+        }
+        // Results are ranked by ts_rank, so any caller-provided sort is dropped
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return withTotals(cannedJobRepository.searchRanked(tsQuery, unsorted));
+    }
+
+    // Totals for the whole page come from one aggregate query instead of loading each job's lines
+    private Page<CannedJobResponse> withTotals(Page<CannedJob> page) {
+        if (page.isEmpty()) {
+            return page.map(job -> cannedJobMapper.toResponse(job, null));
         }
-        return cannedJobRepository
-                .findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(query, query, pageable)
-                .map(cannedJobMapper::toResponse);
+        Map<Long, CannedJobTotals> totals = cannedJobRepository
+                .findTotalsByIdIn(page.map(CannedJob::getId).getContent()).stream()
+                .collect(Collectors.toMap(CannedJobTotals::cannedJobId, Function.identity()));
+        return page.map(job -> cannedJobMapper.toResponse(job, totals.get(job.getId())));
+    }
+
+    /**
+     * Turns free text into a to_tsquery expression where every word must match as a prefix, so
+     * "pastillas fre" already finds "pastillas de freno". Only letters and digits are kept, which
+     * also keeps tsquery operators typed by the user out of the expression. Returns null when
+     * there is nothing left to search for.
+     */
+    static String toPrefixTsQuery(String query) {
+        if (query == null) {
+            return null;
+        }
+        String tsQuery = Arrays.stream(query.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+        return tsQuery.isEmpty() ? null : tsQuery;
     }
 
     @Override
@@ -47,6 +92,18 @@ public class CannedJobServiceImpl implements CannedJobService {
         return cannedJobMapper.toDetailResponse(entity);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDateTime getLastModified(Long id) {
+        return cannedJobRepository.findUpdatedAtById(id).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getListVersion() {
+        return cannedJobRepository.findVersion();
+    }
+
     @Override
     @Transactional
     public CannedJobDetailResponse create(CannedJobRequest request) {
@@ -66,9 +123,33 @@ public class CannedJobServiceImpl implements CannedJobService {
         entity.setTitle(request.title());
         entity.setDescription(request.description());
 
-        entity.getServices().clear();
-        entity.getProducts().clear();
-        addChildEntities(entity, request);
+        // Merge lines by id instead of clear-and-add, so untouched lines cost no statement at all
+        boolean servicesChanged = mergeLines(entity.getServices(), request.services(),
+                CannedJobServiceRequest::id,
+                (line, req) -> !Objects.equals(line.getServiceName(), req.serviceName())
+                        || !sameAmount(line.getPrice(), req.price()),
+                (line, req) -> {
+                    line.setServiceName(req.serviceName());
+                    line.setPrice(req.price());
+                },
+                req -> newService(entity, req),
+                "servicio");
+        boolean productsChanged = mergeLines(entity.getProducts(), request.products(),
+                CannedJobProductRequest::id,
+                (line, req) -> !Objects.equals(line.getProductName(), req.productName())
+                        || !Objects.equals(line.getQuantity(), req.quantity())
+                        || !sameAmount(line.getUnitPrice(), req.unitPrice()),
+                (line, req) -> {
+                    line.setProductName(req.productName());
+                    line.setQuantity(req.quantity());
+                    line.setUnitPrice(req.unitPrice());
+                },
+                req -> newProduct(entity, req),
+                "producto");
+        if (servicesChanged || productsChanged) {
+            // Line changes alone do not dirty the parent; bump updatedAt so conditional GETs see a new version
+            entity.setUpdatedAt(LocalDateTime.now());
+        }
 
         CannedJob saved = cannedJobRepository.save(entity);
         log.info("Updated canned job with id {}", saved.getId());
@@ -88,25 +169,75 @@ public class CannedJobServiceImpl implements CannedJobService {
     private void addChildEntities(CannedJob entity, CannedJobRequest request) {
         if (request.services() != null) {
             for (CannedJobServiceRequest svcReq : request.services()) {
-                com.autotech.catalog.model.CannedJobService svc =
-                        com.autotech.catalog.model.CannedJobService.builder()
-                                .cannedJob(entity)
-                                .serviceName(svcReq.serviceName())
-                                .price(svcReq.price())
-                                .build();
-                entity.getServices().add(svc);
+                entity.getServices().add(newService(entity, svcReq));
             }
         }
         if (request.products() != null) {
             for (CannedJobProductRequest prodReq : request.products()) {
-                CannedJobProduct prod = CannedJobProduct.builder()
-                        .cannedJob(entity)
-                        .productName(prodReq.productName())
-                        .quantity(prodReq.quantity())
-                        .unitPrice(prodReq.unitPrice())
-                        .build();
-                entity.getProducts().add(prod);
+                entity.getProducts().add(newProduct(entity, prodReq));
             }
         }
     }
+
+    private static com.autotech.catalog.model.CannedJobService newService(CannedJob entity, CannedJobServiceRequest req) {
+        return com.autotech.catalog.model.CannedJobService.builder()
+                .cannedJob(entity)
+                .serviceName(req.serviceName())
+                .price(req.price())
+                .build();
+    }
+
+    private static CannedJobProduct newProduct(CannedJob entity, CannedJobProductRequest req) {
+        return CannedJobProduct.builder()
+                .cannedJob(entity)
+                .productName(req.productName())
+                .quantity(req.quantity())
+                .unitPrice(req.unitPrice())
+                .build();
+    }
+
+    /**
+     * Applies the requested lines to the current ones: lines with a known id are updated only
+     * when a value differs, lines without id are added and current lines left out are removed
+     * (orphanRemoval deletes them). Returns whether anything changed.
+     */
+    private static <E extends BaseEntity, R> boolean mergeLines(
+            Set<E> current,
+            List<R> requested,
+            Function<R, Long> idOf,
+            BiPredicate<E, R> differs,
+            BiConsumer<E, R> apply,
+            Function<R, E> create,
+            String lineName) {
+        Map<Long, E> byId = current.stream().collect(Collectors.toMap(BaseEntity::getId, Function.identity()));
+        Set<Long> kept = new HashSet<>();
+        boolean changed = false;
+        for (R req : requested == null ? List.<R>of() : requested) {
+            Long id = idOf.apply(req);
+            if (id == null) {
+                current.add(create.apply(req));
+                changed = true;
+                continue;
+            }
+            E line = byId.get(id);
+            if (line == null) {
+                throw new IllegalArgumentException(
+                        "El " + lineName + " con ID " + id + " no pertenece a este trabajo enlatado");
+            }
+            if (!kept.add(id)) {
+                throw new IllegalArgumentException("El " + lineName + " con ID " + id + " está repetido");
+            }
+            if (differs.test(line, req)) {
+                apply.accept(line, req);
+                changed = true;
+            }
+        }
+        changed |= current.removeIf(line -> line.getId() != null && !kept.contains(line.getId()));
+        return changed;
+    }
+
+    // 10.0 and 10.00 are the same price; equals() would count that as a change
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
 }
@@ -0,0 +1,9 @@
+package com.autotech.catalog.service;
+
+import com.autotech.catalog.dto.PriceAdjustmentRequest;
+import com.autotech.catalog.dto.PriceAdjustmentResponse;
+
+public interface PriceAdjustmentService {
+
+    PriceAdjustmentResponse adjust(PriceAdjustmentRequest request);
+}
@@ -0,0 +1,135 @@
+package com.autotech.catalog.service;
+
+import com.autotech.catalog.dto.PriceAdjustmentRequest;
+import com.autotech.catalog.dto.PriceAdjustmentResponse;
+import com.autotech.catalog.dto.PriceChangePreview;
+import com.autotech.catalog.model.PriceAdjustmentMode;
+import com.autotech.catalog.model.PriceAdjustmentTarget;
+import com.autotech.catalog.model.PricedItemType;
+import com.autotech.catalog.repository.CatalogPricingRepository;
+import com.autotech.catalog.repository.CatalogPricingRepository.PriceFormula;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk repricing. Rows are repriced in chunks of {@code chunk-size} ids, one autocommitted
+ * statement per chunk, so each chunk holds its row locks only for that statement and the counter
+ * can keep editing estimates meanwhile. The run as a whole is not atomic: if it fails halfway,
+ * the chunks already written stay written, and a dry run shows what is left.
+ */
+@Slf4j
+@Service
+public class PriceAdjustmentServiceImpl implements PriceAdjustmentService {
+
+    private static final BigDecimal DEFAULT_ROUND_TO = new BigDecimal("0.01");
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final CatalogPricingRepository catalogPricingRepository;
+    private final int chunkSize;
+    private final int previewLimit;
+
+    public PriceAdjustmentServiceImpl(
+            CatalogPricingRepository catalogPricingRepository,
+            @Value("${autotech.pricing.chunk-size:500}") int chunkSize,
+            @Value("${autotech.pricing.preview-limit:50}") int previewLimit) {
+        this.catalogPricingRepository = catalogPricingRepository;
+        this.chunkSize = chunkSize;
+        this.previewLimit = previewLimit;
+    }
+
+    @Override
+    public PriceAdjustmentResponse adjust(PriceAdjustmentRequest request) {
+        request.validate();
+        PriceFormula formula = formulaOf(request);
+        String pattern = likePattern(request.query());
+        List<PricedItemType> types = typesOf(request);
+
+        Map<PricedItemType, Integer> counts = new EnumMap<>(PricedItemType.class);
+        List<PriceChangePreview> preview = new ArrayList<>();
+        if (request.dryRun()) {
+            for (PricedItemType type : types) {
+                counts.put(type, catalogPricingRepository.count(type, pattern, formula));
+                int remaining = previewLimit - preview.size();
+                if (remaining > 0) {
+                    preview.addAll(catalogPricingRepository.preview(type, pattern, formula, remaining));
+                }
+            }
+        } else {
+            LocalDateTime now = LocalDateTime.now();
+            for (PricedItemType type : types) {
+                counts.put(type, repriceInChunks(type, pattern, formula, now));
+            }
+            log.info("Adjusted prices ({} {} {}, query '{}'): {}",
+                    request.mode(), request.amount(), request.target(), request.query(), counts);
+        }
+
+        return new PriceAdjustmentResponse(
+                request.dryRun(),
+                counts.getOrDefault(PricedItemType.SERVICE, 0),
+                counts.getOrDefault(PricedItemType.PRODUCT, 0),
+                counts.getOrDefault(PricedItemType.CANNED_JOB_SERVICE, 0),
+                counts.getOrDefault(PricedItemType.CANNED_JOB_PRODUCT, 0),
+                preview);
+    }
+
+    private int repriceInChunks(PricedItemType type, String pattern, PriceFormula formula, LocalDateTime now) {
+        int total = 0;
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = catalogPricingRepository.findChangedIds(type, pattern, formula, afterId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            total += catalogPricingRepository.reprice(type, ids, formula, now);
+            afterId = ids.getLast();
+        } while (ids.size() == chunkSize);
+        return total;
+    }
+
+    static PriceFormula formulaOf(PriceAdjustmentRequest request) {
+        BigDecimal step = request.roundTo() != null ? request.roundTo() : DEFAULT_ROUND_TO;
+        if (request.mode() == PriceAdjustmentMode.PERCENTAGE) {
+            BigDecimal factor = BigDecimal.ONE.add(request.amount().divide(ONE_HUNDRED));
+            return new PriceFormula(factor, BigDecimal.ZERO, step);
+        }
+        return new PriceFormula(BigDecimal.ONE, request.amount(), step);
+    }
+
+    // Same contains-match as the catalog search; LIKE wildcards typed by the user match literally
+    static String likePattern(String query) {
+        if (query == null || query.isBlank()) {
+            return "%";
+        }
+        String escaped = query.trim()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static List<PricedItemType> typesOf(PriceAdjustmentRequest request) {
+        List<PricedItemType> types = new ArrayList<>();
+        if (request.target() != PriceAdjustmentTarget.PRODUCTS) {
+            types.add(PricedItemType.SERVICE);
+            if (request.includeCannedJobs()) {
+                types.add(PricedItemType.CANNED_JOB_SERVICE);
+            }
+        }
+        if (request.target() != PriceAdjustmentTarget.SERVICES) {
+            types.add(PricedItemType.PRODUCT);
+            if (request.includeCannedJobs()) {
+                types.add(PricedItemType.CANNED_JOB_PRODUCT);
+            }
+        }
+        return types;
+    }
+}
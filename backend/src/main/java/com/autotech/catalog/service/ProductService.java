@@ -2,18 +2,28 @@ package com.autotech.catalog.service;
 
 import com.autotech.catalog.dto.ProductRequest;
 import com.autotech.catalog.dto.ProductResponse;
+import com.autotech.catalog.dto.StockAdjustmentRequest;
+import com.autotech.common.dto.ResourceVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+
 public interface ProductService {
 
     Page<ProductResponse> search(String query, Pageable pageable);
 
     ProductResponse getById(Long id);
 
+    LocalDateTime getLastModified(Long id);
+
+    ResourceVersion getListVersion();
+
     ProductResponse create(ProductRequest request);
 
     ProductResponse update(Long id, ProductRequest request);
 
+    ProductResponse adjustStock(Long id, StockAdjustmentRequest request);
+
     void delete(Long id);
 }
@@ -3,8 +3,12 @@ package com.autotech.catalog.service;
 import com.autotech.catalog.dto.ProductMapper;
 import com.autotech.catalog.dto.ProductRequest;
 import com.autotech.catalog.dto.ProductResponse;
+import com.autotech.catalog.dto.StockAdjustmentRequest;
 import com.autotech.catalog.model.Product;
 import com.autotech.catalog.repository.ProductRepository;
+import com.autotech.catalog.repository.StockLedgerRepository;
+import com.autotech.common.dto.ResourceVersion;
+import com.autotech.common.exception.InsufficientStockException;
 import com.autotech.common.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +17,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -20,6 +26,7 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final StockLedgerRepository stockLedgerRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -43,6 +50,18 @@ public class ProductServiceImpl implements ProductService {
         return productMapper.toResponse(entity);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDateTime getLastModified(Long id) {
+        return productRepository.findUpdatedAtById(id).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getListVersion() {
+        return productRepository.findVersion();
+    }
+
     @Override
     @Transactional
     public ProductResponse create(ProductRequest request) {
@@ -63,6 +82,23 @@ public class ProductServiceImpl implements ProductService {
         return productMapper.toResponse(saved);
     }
 
+    @Override
+    @Transactional
+    public ProductResponse adjustStock(Long id, StockAdjustmentRequest request) {
+        if (request.delta() == 0) {
+            throw new IllegalArgumentException("La cantidad a ajustar no puede ser cero");
+        }
+        if (stockLedgerRepository.adjust(id, request.delta(), LocalDateTime.now()).isEmpty()) {
+            int available = stockLedgerRepository.findAvailable(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Product", id));
+            throw new InsufficientStockException(
+                    "Stock insuficiente: se quieren descontar " + -request.delta()
+                            + " unidades y hay " + available + " disponibles");
+        }
+        log.info("Adjusted stock of product {} by {}", id, request.delta());
+        return getById(id);
+    }
+
     @Override
     @Transactional
     public void delete(Long id) {
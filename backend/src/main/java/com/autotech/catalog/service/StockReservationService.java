@@ -0,0 +1,15 @@
+package com.autotech.catalog.service;
+
+import com.autotech.catalog.dto.StockReservationRequest;
+import com.autotech.catalog.dto.StockReservationResponse;
+
+public interface StockReservationService {
+
+    StockReservationResponse reserve(StockReservationRequest request);
+
+    void confirm(Long reservationId);
+
+    void release(Long reservationId);
+
+    int releaseExpired();
+}
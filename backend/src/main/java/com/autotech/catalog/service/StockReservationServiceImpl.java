@@ -0,0 +1,100 @@
+package com.autotech.catalog.service;
+
+import com.autotech.catalog.dto.StockReservationRequest;
+import com.autotech.catalog.dto.StockReservationResponse;
+import com.autotech.catalog.repository.StockLedgerRepository;
+import com.autotech.common.exception.InsufficientStockException;
+import com.autotech.common.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Reservations take units off {@code products.quantity} right away and hold them until they are
+ * confirmed (the units are consumed), released (the units go back) or expire (released by the
+ * sweep). The check and the decrement are one conditional UPDATE, so stock can never go negative
+ * no matter how many requests race for the same product.
+ */
+@Slf4j
+@Service
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private final StockLedgerRepository stockLedgerRepository;
+    private final Duration reservationTtl;
+    private final int expiryBatchSize;
+
+    public StockReservationServiceImpl(
+            StockLedgerRepository stockLedgerRepository,
+            @Value("${autotech.stock.reservation-ttl:PT30M}") Duration reservationTtl,
+            @Value("${autotech.stock.expiry-batch-size:500}") int expiryBatchSize) {
+        this.stockLedgerRepository = stockLedgerRepository;
+        this.reservationTtl = reservationTtl;
+        this.expiryBatchSize = expiryBatchSize;
+    }
+
+    @Override
+    @Transactional
+    public StockReservationResponse reserve(StockReservationRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(reservationTtl);
+        Long reservationId = stockLedgerRepository
+                .reserve(request.productId(), request.quantity(), expiresAt, now)
+                .orElseThrow(() -> shortage(request));
+        log.debug("Reserved {} units of product {} (reservation {})",
+                request.quantity(), request.productId(), reservationId);
+        return new StockReservationResponse(reservationId, request.productId(), request.quantity(), expiresAt);
+    }
+
+    @Override
+    @Transactional
+    public void confirm(Long reservationId) {
+        if (!stockLedgerRepository.confirm(reservationId)) {
+            throw reservationNotFound(reservationId);
+        }
+        log.debug("Confirmed stock reservation {}", reservationId);
+    }
+
+    @Override
+    @Transactional
+    public void release(Long reservationId) {
+        if (!stockLedgerRepository.release(reservationId, LocalDateTime.now())) {
+            throw reservationNotFound(reservationId);
+        }
+        log.debug("Released stock reservation {}", reservationId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${autotech.stock.expiry-interval:PT1M}")
+    public int releaseExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int released;
+        // Each batch commits on its own, so a large backlog never holds many product rows at once
+        do {
+            released = stockLedgerRepository.releaseExpired(now, expiryBatchSize);
+            total += released;
+        } while (released == expiryBatchSize);
+        if (total > 0) {
+            log.info("Released {} expired stock reservations", total);
+        }
+        return total;
+    }
+
+    private RuntimeException shortage(StockReservationRequest request) {
+        return stockLedgerRepository.findAvailable(request.productId())
+                .<RuntimeException>map(available -> new InsufficientStockException(
+                        "Stock insuficiente: se pidieron " + request.quantity()
+                                + " unidades y hay " + available + " disponibles"))
+                .orElseGet(() -> new ResourceNotFoundException("Product", request.productId()));
+    }
+
+    private static ResourceNotFoundException reservationNotFound(Long reservationId) {
+        return new ResourceNotFoundException(
+                "La reserva de stock " + reservationId + " no existe, ya fue confirmada, liberada o venció");
+    }
+}
@@ -1,12 +1,22 @@
 package com.autotech.client.controller;
 
+import com.autotech.client.dto.ClientAutocompleteIndexStats;
 import com.autotech.client.dto.ClientAutocompleteResponse;
+import com.autotech.client.dto.ClientDuplicateMatch;
+import com.autotech.client.dto.ClientImportResult;
+import com.autotech.client.dto.ClientOverviewResponse;
 import com.autotech.client.dto.ClientRequest;
 import com.autotech.client.dto.ClientResponse;
 import com.autotech.client.dto.ClientUpgradeRequest;
 import com.autotech.client.model.ClientType;
+import com.autotech.client.service.ClientOverviewService;
 import com.autotech.client.service.ClientService;
 import com.autotech.common.dto.ApiResponse;
+import com.autotech.common.dto.CursorPage;
+import com.autotech.common.dto.ExportJobResponse;
+import com.autotech.common.export.ExportFormat;
+import com.autotech.common.export.ExportJobService;
+import com.autotech.common.web.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,7 +28,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -27,13 +42,19 @@ import java.util.List;
 public class ClientController {
 
     private final ClientService clientService;
+    private final ClientOverviewService clientOverviewService;
+    private final ExportJobService exportJobService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<Page<ClientResponse>>> getAll(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            WebRequest webRequest) {
 
+        if (ConditionalGet.isNotModified(webRequest, clientService.getListVersion())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         String[] sortSplit = sort.split(",");
         String sortParam = sortSplit[0];
         Sort.Direction sortDir = sortSplit.length > 1 ? Sort.Direction.fromString(sortSplit[1]) : Sort.Direction.DESC;
@@ -42,11 +63,27 @@ public class ClientController {
         return ResponseEntity.ok(ApiResponse.success(clientService.getAll(pageable)));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ClientResponse>>> getAllByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+        return ResponseEntity.ok(ApiResponse.success(clientService.getAllByCursor(cursor, size, sort)));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ClientResponse>> getById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<ClientResponse>> getById(@PathVariable Long id, WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, clientService.getLastModified(id))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(ApiResponse.success(clientService.getById(id)));
     }
 
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<ApiResponse<ClientOverviewResponse>> getOverview(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(clientOverviewService.getOverview(id)));
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<ClientResponse>> create(
             @Valid @RequestBody ClientRequest request) {
@@ -102,12 +139,55 @@ public class ClientController {
         return ResponseEntity.ok(ApiResponse.success(clientService.autocomplete(query)));
     }
 
+    @PostMapping("/autocomplete/rebuild")
+    public ResponseEntity<ApiResponse<ClientAutocompleteIndexStats>> rebuildAutocompleteIndex() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Índice de autocompletado reconstruido", clientService.rebuildAutocompleteIndex()));
+    }
+
+    @GetMapping("/duplicates")
+    public ResponseEntity<ApiResponse<List<ClientDuplicateMatch>>> findDuplicates(
+            @RequestParam(defaultValue = "0.85") double minScore,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(clientService.findDuplicates(minScore, limit)));
+    }
+
+    @PostMapping("/duplicates/check")
+    public ResponseEntity<ApiResponse<List<ClientDuplicateMatch>>> checkDuplicates(
+            @RequestBody ClientRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(clientService.checkDuplicates(request)));
+    }
+
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportToExcel() {
-        byte[] excelBytes = clientService.exportToExcel();
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "xlsx") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = exportJobService.stream("clients",
+                (out, progress) -> clientService.export(exportFormat, gzip, out, progress));
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=clientes.xlsx")
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(excelBytes);
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=" + exportFormat.filename("clientes", gzip))
+                .contentType(gzip ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType(exportFormat.contentType()))
+                .body(body);
+    }
+
+    @PostMapping("/export")
+    public ResponseEntity<ApiResponse<ExportJobResponse>> startExport(
+            @RequestParam(defaultValue = "xlsx") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ExportJobResponse job = exportJobService.submit("clients", exportFormat.filename("clientes", gzip),
+                (out, progress) -> clientService.export(exportFormat, gzip, out, progress));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("Exportación iniciada", job));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ClientImportResult>> importClients(
+            @RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            ClientImportResult result = clientService.importClients(in, file.getOriginalFilename());
+            return ResponseEntity.ok(ApiResponse.success("Importación de clientes finalizada", result));
+        }
     }
 }
@@ -0,0 +1,10 @@
+package com.autotech.client.dto;
+
+import java.time.LocalDateTime;
+
+public record ClientAutocompleteIndexStats(
+        int entries,
+        int tokens,
+        long estimatedBytes,
+        LocalDateTime builtAt
+) {}
@@ -0,0 +1,16 @@
+package com.autotech.client.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One pending estimate or unpaid invoice of a client, as listed in the client overview.
+ */
+public record ClientDocumentSummary(
+        Long id,
+        Long vehicleId,
+        String plate,
+        Long repairOrderId,
+        BigDecimal total,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,12 @@
+package com.autotech.client.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Count and amount of a client's estimates or invoices in one status.
+ */
+public record ClientDocumentTotals(
+        String status,
+        long count,
+        BigDecimal total
+) {}
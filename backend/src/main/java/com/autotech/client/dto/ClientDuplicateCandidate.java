@@ -0,0 +1,12 @@
+package com.autotech.client.dto;
+
+import com.autotech.client.model.ClientType;
+
+public record ClientDuplicateCandidate(
+        Long id,
+        String firstName,
+        String lastName,
+        String dni,
+        String phone,
+        ClientType clientType
+) {}
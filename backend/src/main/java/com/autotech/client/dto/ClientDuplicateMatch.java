@@ -0,0 +1,10 @@
+package com.autotech.client.dto;
+
+import java.util.List;
+
+public record ClientDuplicateMatch(
+        ClientDuplicateCandidate primary,
+        ClientDuplicateCandidate duplicate,
+        double score,
+        List<String> reasons
+) {}
@@ -0,0 +1,6 @@
+package com.autotech.client.dto;
+
+public record ClientImportError(
+        int row,
+        String message
+) {}
@@ -0,0 +1,10 @@
+package com.autotech.client.dto;
+
+import java.util.List;
+
+public record ClientImportResult(
+        int totalRows,
+        int imported,
+        int rejected,
+        List<ClientImportError> errors
+) {}
@@ -0,0 +1,15 @@
+package com.autotech.client.dto;
+
+import com.autotech.vehicle.dto.VehicleResponse;
+
+import java.util.List;
+
+public record ClientOverviewResponse(
+        ClientResponse client,
+        List<VehicleResponse> vehicles,
+        List<ClientRepairOrderSummary> openRepairOrders,
+        List<ClientDocumentSummary> pendingEstimates,
+        List<ClientDocumentSummary> unpaidInvoices,
+        List<ClientDocumentTotals> estimateTotals,
+        List<ClientDocumentTotals> invoiceTotals
+) {}
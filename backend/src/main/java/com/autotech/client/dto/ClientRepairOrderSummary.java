@@ -0,0 +1,12 @@
+package com.autotech.client.dto;
+
+import java.time.LocalDateTime;
+
+public record ClientRepairOrderSummary(
+        Long id,
+        String title,
+        Long vehicleId,
+        String plate,
+        String status,
+        LocalDateTime createdAt
+) {}
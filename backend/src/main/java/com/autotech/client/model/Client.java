@@ -23,6 +23,11 @@ public class Client extends BaseEntity {
     @Column(name = "last_name", nullable = false, length = 100)
     private String lastName;
 
+    // Generated by the database from the names, see ClientDuplicateDetector.nameKey
+    @Setter(AccessLevel.NONE)
+    @Column(name = "name_key", length = 220, insertable = false, updatable = false)
+    private String nameKey;
+
     @Column(name = "dni", length = 20)
     private String dni;
 
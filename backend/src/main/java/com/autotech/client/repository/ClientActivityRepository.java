@@ -0,0 +1,114 @@
+package com.autotech.client.repository;
+
+import com.autotech.client.dto.ClientDocumentSummary;
+import com.autotech.client.dto.ClientDocumentTotals;
+import com.autotech.client.dto.ClientRepairOrderSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Read-only projections of a client's repair orders, estimates and invoices for the client
+ * overview. Those modules have no services yet, so their tables are read directly; every query
+ * goes through the {@code client_id} index of its table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClientActivityRepository {
+
+    private static final String OPEN_REPAIR_ORDERS_SQL = """
+            SELECT ro.id, ro.title, ro.vehicle_id, v.plate, ro.status, ro.created_at
+            FROM repair_orders ro
+            JOIN vehicles v ON v.id = ro.vehicle_id
+            WHERE ro.client_id = ? AND ro.status <> 'ENTREGADO'
+            ORDER BY ro.created_at DESC, ro.id DESC
+            """;
+
+    // Pending documents are listed oldest first: those are the ones waiting longest on the client
+    private static final String PENDING_ESTIMATES_SQL = """
+            SELECT e.id, e.vehicle_id, v.plate, e.repair_order_id, e.total, e.created_at
+            FROM estimates e
+            JOIN vehicles v ON v.id = e.vehicle_id
+            WHERE e.client_id = ? AND e.status = 'PENDIENTE'
+            ORDER BY e.created_at, e.id
+            LIMIT ?
+            """;
+
+    private static final String UNPAID_INVOICES_SQL = """
+            SELECT i.id, i.vehicle_id, v.plate, i.repair_order_id, i.total, i.created_at
+            FROM invoices i
+            LEFT JOIN vehicles v ON v.id = i.vehicle_id
+            WHERE i.client_id = ? AND i.status = 'PENDIENTE'
+            ORDER BY i.created_at, i.id
+            LIMIT ?
+            """;
+
+    private static final String ESTIMATE_TOTALS_SQL = """
+            SELECT status, COUNT(*) AS count, COALESCE(SUM(total), 0) AS total
+            FROM estimates
+            WHERE client_id = ?
+            GROUP BY status
+            ORDER BY status
+            """;
+
+    private static final String INVOICE_TOTALS_SQL = """
+            SELECT status, COUNT(*) AS count, COALESCE(SUM(total), 0) AS total
+            FROM invoices
+            WHERE client_id = ?
+            GROUP BY status
+            ORDER BY status
+            """;
+
+    private static final RowMapper<ClientDocumentTotals> TOTALS_MAPPER = (rs, rowNum) -> new ClientDocumentTotals(
+            rs.getString("status"),
+            rs.getLong("count"),
+            rs.getBigDecimal("total"));
+
+    private static final RowMapper<ClientDocumentSummary> DOCUMENT_MAPPER = (rs, rowNum) -> new ClientDocumentSummary(
+            rs.getLong("id"),
+            rs.getObject("vehicle_id", Long.class),
+            rs.getString("plate"),
+            rs.getObject("repair_order_id", Long.class),
+            rs.getBigDecimal("total"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Repair orders not yet delivered, newest first.
+     */
+    public List<ClientRepairOrderSummary> findOpenRepairOrders(Long clientId) {
+        return jdbcTemplate.query(OPEN_REPAIR_ORDERS_SQL, (rs, rowNum) -> new ClientRepairOrderSummary(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getLong("vehicle_id"),
+                rs.getString("plate"),
+                rs.getString("status"),
+                rs.getTimestamp("created_at").toLocalDateTime()), clientId);
+    }
+
+    /**
+     * Estimates still waiting for the client's answer, oldest first, at most {@code limit} of them.
+     */
+    public List<ClientDocumentSummary> findPendingEstimates(Long clientId, int limit) {
+        return jdbcTemplate.query(PENDING_ESTIMATES_SQL, DOCUMENT_MAPPER, clientId, limit);
+    }
+
+    /**
+     * Invoices not yet paid, oldest first, at most {@code limit} of them.
+     */
+    public List<ClientDocumentSummary> findUnpaidInvoices(Long clientId, int limit) {
+        return jdbcTemplate.query(UNPAID_INVOICES_SQL, DOCUMENT_MAPPER, clientId, limit);
+    }
+
+    public List<ClientDocumentTotals> findEstimateTotals(Long clientId) {
+        return jdbcTemplate.query(ESTIMATE_TOTALS_SQL, TOTALS_MAPPER, clientId);
+    }
+
+    public List<ClientDocumentTotals> findInvoiceTotals(Long clientId) {
+        return jdbcTemplate.query(INVOICE_TOTALS_SQL, TOTALS_MAPPER, clientId);
+    }
+}
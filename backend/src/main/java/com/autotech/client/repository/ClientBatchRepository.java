@@ -0,0 +1,54 @@
+package com.autotech.client.repository;
+
+import com.autotech.client.model.Client;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain JDBC writes for bulk operations. Hibernate cannot batch inserts into {@code clients}
+ * because ids come from an IDENTITY column, so large imports go through here instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClientBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO clients (first_name, last_name, dni, commercial_name, email, phone, address,
+                                 province, country, client_type, entry_date, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Client> clients) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, clients, BATCH_SIZE, (ps, client) -> {
+            ps.setString(1, client.getFirstName());
+            ps.setString(2, client.getLastName());
+            ps.setString(3, client.getDni());
+            ps.setString(4, client.getCommercialName());
+            ps.setString(5, client.getEmail());
+            ps.setString(6, client.getPhone());
+            ps.setString(7, client.getAddress());
+            ps.setString(8, client.getProvince());
+            ps.setString(9, client.getCountry());
+            ps.setString(10, client.getClientType().name());
+            if (client.getEntryDate() != null) {
+                ps.setDate(11, Date.valueOf(client.getEntryDate()));
+            } else {
+                ps.setNull(11, Types.DATE);
+            }
+            ps.setTimestamp(12, now);
+            ps.setTimestamp(13, now);
+        });
+    }
+}
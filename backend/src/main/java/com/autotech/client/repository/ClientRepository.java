@@ -1,23 +1,76 @@
 package com.autotech.client.repository;
 
+import com.autotech.client.dto.ClientAutocompleteResponse;
+import com.autotech.client.dto.ClientDuplicateCandidate;
+import com.autotech.client.dto.ClientResponse;
 import com.autotech.client.model.Client;
 import com.autotech.client.model.ClientType;
+import com.autotech.common.dto.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 // import org.springframework.data.jpa.repository.EntityGraph;
-// import java.util.Optional;
 
 @Repository
-public interface ClientRepository extends JpaRepository<Client, Long> {
+public interface ClientRepository extends JpaRepository<Client, Long>, JpaSpecificationExecutor<Client> {
+
+    String RESPONSE_SELECT = """
+            SELECT new com.autotech.client.dto.ClientResponse(
+                c.id, c.firstName, c.lastName, c.dni, c.commercialName, c.email, c.phone, c.address,
+                c.province, c.country, c.clientType, c.entryDate, c.createdAt, c.updatedAt)
+            FROM Client c
+            """;
+
+    // Shared with ClientSearchBenchmarkIT so the plan it checks is the one searchRanked runs
+    String SEARCH_RANKED_WHERE = """
+            WHERE LOWER(c.first_name) LIKE CONCAT('%', LOWER(:query), '%')
+               OR LOWER(c.last_name) LIKE CONCAT('%', LOWER(:query), '%')
+               OR LOWER(c.dni) LIKE CONCAT('%', LOWER(:query), '%')
+               OR LOWER(c.first_name || ' ' || c.last_name) % LOWER(:query)
+            """;
+
+    String SEARCH_RANKED_SQL = "SELECT c.* FROM clients c " + SEARCH_RANKED_WHERE + """
+            ORDER BY GREATEST(
+                        similarity(LOWER(c.first_name), LOWER(:query)),
+                        similarity(LOWER(c.last_name), LOWER(:query)),
+                        similarity(LOWER(COALESCE(c.dni, '')), LOWER(:query)),
+                        similarity(LOWER(c.first_name || ' ' || c.last_name), LOWER(:query))) DESC,
+                     c.id DESC
+            """;
 
     boolean existsByDni(String dni);
 
-    Page<Client> findByClientType(ClientType clientType, Pageable pageable);
+    @Query("SELECT c.updatedAt FROM Client c WHERE c.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    @Query("SELECT new com.autotech.common.dto.ResourceVersion(COUNT(c), MAX(c.updatedAt)) FROM Client c")
+    ResourceVersion findVersion();
+
+    @Query("SELECT c.dni FROM Client c WHERE c.dni IN :dnis")
+    List<String> findExistingDnis(@Param("dnis") Collection<String> dnis);
+
+    // --- Read-only projections: select straight into the response, no managed entities ---
+
+    @Query(value = RESPONSE_SELECT, countQuery = "SELECT COUNT(c) FROM Client c")
+    Page<ClientResponse> findAllResponses(Pageable pageable);
+
+    @Query(value = RESPONSE_SELECT + " WHERE c.clientType = :clientType",
+            countQuery = "SELECT COUNT(c) FROM Client c WHERE c.clientType = :clientType")
+    Page<ClientResponse> findResponsesByClientType(@Param("clientType") ClientType clientType, Pageable pageable);
 
     @Query("SELECT c FROM Client c WHERE LOWER(c.dni) LIKE LOWER(CONCAT('%', :query, '%'))")
     Page<Client> findByDniContaining(@Param("query") String query, Pageable pageable);
@@ -30,6 +83,47 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
             """)
     Page<Client> search(@Param("query") String query, Pageable pageable);
 
+    // Native query: mapped to entities, but loaded read-only so no dirty-checking snapshot is kept
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = SEARCH_RANKED_SQL,
+            countQuery = "SELECT COUNT(*) FROM clients c " + SEARCH_RANKED_WHERE,
+            nativeQuery = true)
+    Page<Client> searchRanked(@Param("query") String query, Pageable pageable);
+
+    @Query("SELECT new com.autotech.client.dto.ClientAutocompleteResponse(c.id, c.firstName, c.lastName, c.dni) FROM Client c")
+    List<ClientAutocompleteResponse> findAllAutocompleteEntries();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.autotech.client.dto.ClientDuplicateCandidate(
+                c.id, c.firstName, c.lastName, c.dni, c.phone, c.clientType)
+            FROM Client c
+            """)
+    List<ClientDuplicateCandidate> findAllDuplicateCandidates();
+
+    // Blocking keys must match the expression indexes in V4__client_duplicate_blocking_indexes.sql
+    // and the name_key column of V10__client_name_key.sql
+    @Query("""
+            SELECT new com.autotech.client.dto.ClientDuplicateCandidate(
+                c.id, c.firstName, c.lastName, c.dni, c.phone, c.clientType)
+            FROM Client c
+            WHERE right(function('regexp_replace', c.phone, '[^0-9]', '', 'g'), 8) = :phoneKey
+               OR function('regexp_replace', c.dni, '[^0-9]', '', 'g') = :dniKey
+               OR c.nameKey = :nameKey
+            """)
+    List<ClientDuplicateCandidate> findDuplicateCandidates(
+            @Param("phoneKey") String phoneKey,
+            @Param("dniKey") String dniKey,
+            @Param("nameKey") String nameKey,
+            Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Client c ORDER BY c.id")
+    Stream<Client> streamAll();
+
     /*
      * @EntityGraph(attributePaths = {"vehicles"})
      * Optional<Client> findWithVehiclesById(Long id);
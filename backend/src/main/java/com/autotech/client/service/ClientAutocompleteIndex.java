@@ -0,0 +1,216 @@
+package com.autotech.client.service;
+
+import com.autotech.client.dto.ClientAutocompleteIndexStats;
+import com.autotech.client.dto.ClientAutocompleteResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * In-process prefix index over id, first name, last name and DNI of every client.
+ * <p>
+ * Each normalized token is stored in a sorted skip list keyed by {@code token + '\0' + id},
+ * so a prefix lookup is a range scan. Reads never lock; writes are serialized so that a
+ * rebuild cannot interleave with an upsert.
+ */
+@Component
+public class ClientAutocompleteIndex {
+
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Rough per-object sizes on a 64-bit JVM with compressed oops
+    private static final long STRING_OVERHEAD_BYTES = 40;
+    private static final long ENTRY_OVERHEAD_BYTES = 120;
+    private static final long TOKEN_NODE_OVERHEAD_BYTES = 64;
+
+    private final Object writeLock = new Object();
+    private volatile State state = new State(LocalDateTime.now());
+
+    public ClientAutocompleteIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("clients.autocomplete.index.memory", this, index -> index.state.bytes.get())
+                .description("Estimated heap used by the client autocomplete index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("clients.autocomplete.index.entries", this, index -> index.state.entries.size())
+                .description("Clients held by the autocomplete index")
+                .register(meterRegistry);
+    }
+
+    public List<ClientAutocompleteResponse> search(String query, int limit) {
+        State current = state;
+        List<String> terms = queryTerms(query);
+        if (terms.isEmpty()) {
+            return current.entries.values().stream()
+                    .limit(limit)
+                    .map(Entry::client)
+                    .toList();
+        }
+
+        // Scan the range of the longest term, it is the most selective one
+        String pivot = terms.stream().max((a, b) -> Integer.compare(a.length(), b.length())).orElseThrow();
+        Set<Long> visited = new HashSet<>();
+        List<ClientAutocompleteResponse> results = new ArrayList<>(limit);
+        for (Long id : current.tokens.subMap(pivot, pivot + Character.MAX_VALUE).values()) {
+            if (!visited.add(id)) {
+                continue;
+            }
+            Entry entry = current.entries.get(id);
+            if (entry != null && entry.matchesAll(terms)) {
+                results.add(entry.client());
+                if (results.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
+    public void put(ClientAutocompleteResponse client) {
+        synchronized (writeLock) {
+            State current = state;
+            current.remove(client.id());
+            current.add(client);
+        }
+    }
+
+    public void remove(Long clientId) {
+        synchronized (writeLock) {
+            state.remove(clientId);
+        }
+    }
+
+    /**
+     * Replaces the whole index with the clients returned by the loader. The loader runs
+     * while holding the write lock, so concurrent upserts wait instead of being lost.
+     */
+    public ClientAutocompleteIndexStats rebuild(Supplier<? extends Collection<ClientAutocompleteResponse>> loader) {
+        synchronized (writeLock) {
+            State fresh = new State(LocalDateTime.now());
+            loader.get().forEach(fresh::add);
+            state = fresh;
+            return stats();
+        }
+    }
+
+    public ClientAutocompleteIndexStats stats() {
+        State current = state;
+        return new ClientAutocompleteIndexStats(
+                current.entries.size(),
+                current.tokenCount.get(),
+                current.bytes.get(),
+                current.builtAt);
+    }
+
+    static String[] tokenize(String... fields) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field == null || field.isBlank()) {
+                continue;
+            }
+            String normalized = TextNormalizer.normalize(field);
+            for (String part : NON_ALPHANUMERIC.split(normalized)) {
+                if (!part.isEmpty()) {
+                    tokens.add(part);
+                }
+            }
+            // "12.345.678" and "Jean-Pierre" must also match when typed without separators
+            String compact = NON_ALPHANUMERIC.matcher(normalized).replaceAll("");
+            if (!compact.isEmpty()) {
+                tokens.add(compact);
+            }
+        }
+        return tokens.toArray(String[]::new);
+    }
+
+    private static List<String> queryTerms(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(WHITESPACE.split(TextNormalizer.normalize(query.trim())))
+                .map(term -> NON_ALPHANUMERIC.matcher(term).replaceAll(""))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+
+    private static long sizeOf(String value) {
+        return value == null ? 0 : STRING_OVERHEAD_BYTES + value.length();
+    }
+
+    private record Entry(ClientAutocompleteResponse client, String[] tokens, long bytes) {
+
+        boolean matchesAll(List<String> terms) {
+            for (String term : terms) {
+                boolean matched = false;
+                for (String token : tokens) {
+                    if (token.startsWith(term)) {
+                        matched = true;
+                        break;
+                    }
+                }
+                if (!matched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class State {
+
+        private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<String, Long> tokens = new ConcurrentSkipListMap<>();
+        private final AtomicInteger tokenCount = new AtomicInteger();
+        private final AtomicLong bytes = new AtomicLong();
+        private final LocalDateTime builtAt;
+
+        private State(LocalDateTime builtAt) {
+            this.builtAt = builtAt;
+        }
+
+        private void add(ClientAutocompleteResponse client) {
+            String[] clientTokens = tokenize(client.firstName(), client.lastName(), client.dni());
+            long entryBytes = ENTRY_OVERHEAD_BYTES
+                    + sizeOf(client.firstName()) + sizeOf(client.lastName()) + sizeOf(client.dni());
+            for (String token : clientTokens) {
+                tokens.put(key(token, client.id()), client.id());
+                entryBytes += 2 * sizeOf(token) + TOKEN_NODE_OVERHEAD_BYTES;
+            }
+            entries.put(client.id(), new Entry(client, clientTokens, entryBytes));
+            tokenCount.addAndGet(clientTokens.length);
+            bytes.addAndGet(entryBytes);
+        }
+
+        private void remove(Long clientId) {
+            Entry previous = entries.remove(clientId);
+            if (previous == null) {
+                return;
+            }
+            for (String token : previous.tokens()) {
+                tokens.remove(key(token, clientId));
+            }
+            tokenCount.addAndGet(-previous.tokens().length);
+            bytes.addAndGet(-previous.bytes());
+        }
+
+        private static String key(String token, Long id) {
+            return token + ID_SEPARATOR + id;
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.autotech.client.service;
+
+import com.autotech.client.dto.ClientDuplicateCandidate;
+import com.autotech.client.dto.ClientDuplicateMatch;
+import com.autotech.client.model.ClientType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+/**
+ * Finds likely duplicate clients without comparing every pair.
+ * <p>
+ * Each client gets up to three blocking keys: the last digits of the phone, the DNI digits
+ * and a phonetic code of the last name plus the first initial. Only clients sharing a key are
+ * compared, and blocks are scored in parallel on a dedicated fork-join pool. A pair sharing
+ * several keys is scored once, in the block of the first key they share. Blocks too large to
+ * compare exhaustively (a very common surname) fall back to a sorted neighbourhood window.
+ */
+@Component
+public class ClientDuplicateDetector {
+
+    private static final int PHONE_KEY = 0;
+    private static final int DNI_KEY = 1;
+    private static final int NAME_KEY = 2;
+    private static final int KEY_TYPES = 3;
+
+    // Local number without area or country code, "011 5555-0000" and "+54 9 11 5555 0000" agree
+    private static final int PHONE_KEY_DIGITS = 8;
+    private static final int MIN_DNI_DIGITS = 6;
+    private static final int MAX_BLOCK_SIZE = 200;
+    private static final int NEIGHBOURHOOD_WINDOW = 20;
+
+    private static final double NAME_WEIGHT = 0.5;
+    private static final double DNI_WEIGHT = 0.3;
+    private static final double PHONE_WEIGHT = 0.2;
+    private static final double SIMILAR_NAME_THRESHOLD = 0.85;
+
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+    private static final Pattern NON_LETTERS = Pattern.compile("[^a-z]+");
+    private static final Pattern SOFT_C = Pattern.compile("c([ei])");
+    private static final Pattern SOFT_G = Pattern.compile("g([ei])");
+    private static final Pattern SILENT_U = Pattern.compile("gu([ei])");
+    private static final Pattern REPEATED = Pattern.compile("(.)\\1+");
+
+    private static final Comparator<ClientDuplicateMatch> BY_SCORE_DESC =
+            Comparator.comparingDouble(ClientDuplicateMatch::score).reversed();
+
+    // Registered clients win over TEMPORAL ones, then whoever has a DNI, then the oldest
+    private static final Comparator<ClientDuplicateCandidate> PRIMARY_FIRST =
+            Comparator.comparing((ClientDuplicateCandidate client) -> client.clientType() == ClientType.TEMPORAL)
+                    .thenComparing(client -> client.dni() == null || client.dni().isBlank())
+                    .thenComparing(ClientDuplicateCandidate::id, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Scans all given clients and returns the best {@code limit} pairs scoring at least
+     * {@code minScore}, highest first.
+     */
+    public List<ClientDuplicateMatch> findDuplicates(List<ClientDuplicateCandidate> clients, double minScore, int limit) {
+        return pool.submit(() -> {
+            Profile[] profiles = clients.parallelStream().map(Profile::of).toArray(Profile[]::new);
+            return buildBlocks(profiles).parallelStream()
+                    .flatMap(block -> scoreBlock(block, profiles, minScore).stream())
+                    .sorted(BY_SCORE_DESC)
+                    .limit(limit)
+                    .toList();
+        }).join();
+    }
+
+    /**
+     * Scores a single client, which may not be saved yet, against candidates already narrowed
+     * down by blocking key.
+     */
+    public List<ClientDuplicateMatch> findMatches(ClientDuplicateCandidate client,
+                                                  List<ClientDuplicateCandidate> candidates,
+                                                  double minScore) {
+        Profile probe = Profile.of(client);
+        return candidates.stream()
+                .filter(candidate -> client.id() == null || !client.id().equals(candidate.id()))
+                .map(candidate -> score(probe, Profile.of(candidate)))
+                .filter(match -> match.score() >= minScore)
+                .sorted(BY_SCORE_DESC)
+                .toList();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    static String phoneKey(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        String digits = NON_DIGITS.matcher(phone).replaceAll("");
+        return digits.length() < PHONE_KEY_DIGITS ? null : digits.substring(digits.length() - PHONE_KEY_DIGITS);
+    }
+
+    static String dniKey(String dni) {
+        if (dni == null) {
+            return null;
+        }
+        String digits = NON_DIGITS.matcher(dni).replaceAll("");
+        return digits.length() < MIN_DNI_DIGITS ? null : digits;
+    }
+
+    static String normalizeName(String value) {
+        if (value == null) {
+            return "";
+        }
+        return NON_LETTERS.matcher(TextNormalizer.normalize(value)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Name blocking key: phonetic last name plus the phonetic first initial, {@code null} when the
+     * last name has no letters. Stored as {@code clients.name_key} by V10__client_name_key.sql.
+     */
+    static String nameKey(String firstName, String lastName) {
+        String lastNameCode = phonetic(normalizeName(lastName));
+        if (lastNameCode.isEmpty()) {
+            return null;
+        }
+        String firstNameCode = phonetic(normalizeName(firstName));
+        return lastNameCode + '|' + (firstNameCode.isEmpty() ? "" : firstNameCode.substring(0, 1));
+    }
+
+    /**
+     * Phonetic code for Spanish surnames: "Gonzalez"/"Gonsales", "Rodriguez"/"Rodrigues",
+     * "Vazquez"/"Basques" and "Villalba"/"Bilalva" each share a code.
+     */
+    static String phonetic(String normalizedName) {
+        String code = NON_LETTERS.matcher(normalizedName).replaceAll("");
+        code = SOFT_C.matcher(code).replaceAll("s$1");
+        code = SOFT_G.matcher(code).replaceAll("j$1");
+        code = SILENT_U.matcher(code).replaceAll("g$1");
+        code = code.replace("qu", "k")
+                .replace("c", "k")
+                .replace("z", "s")
+                .replace("x", "s")
+                .replace("v", "b")
+                .replace("w", "u")
+                .replace("h", "");
+        if (code.endsWith("y")) {
+            code = code.substring(0, code.length() - 1) + "i";
+        }
+        return REPEATED.matcher(code).replaceAll("$1");
+    }
+
+    static double jaroWinkler(String a, String b) {
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        int window = Math.max(0, Math.max(a.length(), b.length()) / 2 - 1);
+        boolean[] aMatched = new boolean[a.length()];
+        boolean[] bMatched = new boolean[b.length()];
+        int matches = 0;
+        for (int i = 0; i < a.length(); i++) {
+            int end = Math.min(b.length(), i + window + 1);
+            for (int j = Math.max(0, i - window); j < end; j++) {
+                if (!bMatched[j] && a.charAt(i) == b.charAt(j)) {
+                    aMatched[i] = true;
+                    bMatched[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < a.length(); i++) {
+            if (!aMatched[i]) {
+                continue;
+            }
+            while (!bMatched[j]) {
+                j++;
+            }
+            if (a.charAt(i) != b.charAt(j)) {
+                transpositions++;
+            }
+            j++;
+        }
+        double m = matches;
+        double jaro = (m / a.length() + m / b.length() + (m - transpositions / 2.0) / m) / 3;
+        int prefix = 0;
+        int maxPrefix = Math.min(4, Math.min(a.length(), b.length()));
+        while (prefix < maxPrefix && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1 - jaro);
+    }
+
+    private static List<Block> buildBlocks(Profile[] profiles) {
+        List<Block> blocks = new ArrayList<>();
+        for (int type = 0; type < KEY_TYPES; type++) {
+            Map<String, List<Integer>> members = new HashMap<>();
+            for (int i = 0; i < profiles.length; i++) {
+                String key = profiles[i].keys()[type];
+                if (key != null) {
+                    members.computeIfAbsent(key, k -> new ArrayList<>(2)).add(i);
+                }
+            }
+            for (List<Integer> block : members.values()) {
+                if (block.size() > 1) {
+                    blocks.add(new Block(type, block.stream().mapToInt(Integer::intValue).toArray()));
+                }
+            }
+        }
+        return blocks;
+    }
+
+    private static List<ClientDuplicateMatch> scoreBlock(Block block, Profile[] profiles, double minScore) {
+        int[] members = block.members();
+        if (members.length > MAX_BLOCK_SIZE) {
+            members = Arrays.stream(members).boxed()
+                    .sorted(Comparator.comparing(i -> profiles[i].fullName()))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+        int window = members.length > MAX_BLOCK_SIZE ? NEIGHBOURHOOD_WINDOW : members.length;
+        List<ClientDuplicateMatch> matches = new ArrayList<>();
+        for (int i = 0; i < members.length; i++) {
+            Profile a = profiles[members[i]];
+            int end = Math.min(members.length, i + window + 1);
+            for (int j = i + 1; j < end; j++) {
+                Profile b = profiles[members[j]];
+                if (sharesEarlierKey(a, b, block.keyType())) {
+                    continue;
+                }
+                ClientDuplicateMatch match = score(a, b);
+                if (match.score() >= minScore) {
+                    matches.add(match);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static boolean sharesEarlierKey(Profile a, Profile b, int keyType) {
+        for (int type = 0; type < keyType; type++) {
+            if (a.keys()[type] != null && a.keys()[type].equals(b.keys()[type])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ClientDuplicateMatch score(Profile a, Profile b) {
+        List<String> reasons = new ArrayList<>(3);
+        double nameSimilarity = 0.6 * jaroWinkler(a.lastName(), b.lastName())
+                + 0.4 * jaroWinkler(a.firstName(), b.firstName());
+        double weighted = NAME_WEIGHT * nameSimilarity;
+        double weights = NAME_WEIGHT;
+        if (nameSimilarity >= SIMILAR_NAME_THRESHOLD) {
+            reasons.add("Nombre similar");
+        }
+        String dniA = a.keys()[DNI_KEY];
+        String dniB = b.keys()[DNI_KEY];
+        if (dniA != null && dniB != null) {
+            weights += DNI_WEIGHT;
+            if (dniA.equals(dniB)) {
+                weighted += DNI_WEIGHT;
+                reasons.add("Mismo DNI");
+            }
+        }
+        String phoneA = a.keys()[PHONE_KEY];
+        String phoneB = b.keys()[PHONE_KEY];
+        if (phoneA != null && phoneB != null) {
+            weights += PHONE_WEIGHT;
+            if (phoneA.equals(phoneB)) {
+                weighted += PHONE_WEIGHT;
+                reasons.add("Mismo teléfono");
+            }
+        }
+        double score = Math.round(weighted / weights * 1000) / 1000.0;
+        boolean aFirst = PRIMARY_FIRST.compare(a.client(), b.client()) <= 0;
+        return aFirst
+                ? new ClientDuplicateMatch(a.client(), b.client(), score, reasons)
+                : new ClientDuplicateMatch(b.client(), a.client(), score, reasons);
+    }
+
+    private record Block(int keyType, int[] members) {}
+
+    private record Profile(ClientDuplicateCandidate client, String firstName, String lastName, String[] keys) {
+
+        static Profile of(ClientDuplicateCandidate client) {
+            String firstName = normalizeName(client.firstName());
+            String lastName = normalizeName(client.lastName());
+            String[] keys = new String[KEY_TYPES];
+            keys[PHONE_KEY] = phoneKey(client.phone());
+            keys[DNI_KEY] = dniKey(client.dni());
+            keys[NAME_KEY] = nameKey(client.firstName(), client.lastName());
+            return new Profile(client, firstName, lastName, keys);
+        }
+
+        String fullName() {
+            return lastName + ' ' + firstName;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.autotech.client.service;
+
+import com.autotech.client.dto.ClientRequest;
+import com.autotech.client.model.ClientType;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads client rows from CSV or XLSX uploads one at a time, so memory does not depend on the
+ * file size. CSV goes through a streaming Commons CSV parser and XLSX through the POI SAX
+ * event model. Columns are matched by header using the same names as the Excel export.
+ */
+@Component
+public class ClientImportReader {
+
+    private static final DateTimeFormatter LOCAL_DATE = DateTimeFormatter.ofPattern("d/M/yyyy");
+
+    private static final Map<String, String> HEADERS = Map.ofEntries(
+            Map.entry("nombre", "firstName"),
+            Map.entry("apellido", "lastName"),
+            Map.entry("dni", "dni"),
+            Map.entry("nombre comercial", "commercialName"),
+            Map.entry("email", "email"),
+            Map.entry("telefono", "phone"),
+            Map.entry("direccion", "address"),
+            Map.entry("provincia", "province"),
+            Map.entry("pais", "country"),
+            Map.entry("tipo", "clientType"),
+            Map.entry("fecha entrada", "entryDate"));
+
+    /**
+     * A parsed data row. {@code number} is the 1-based row in the file, header included, so it
+     * matches what the user sees in a spreadsheet. Exactly one of {@code request} and
+     * {@code error} is set.
+     */
+    public record Row(int number, ClientRequest request, String error) {}
+
+    public void read(InputStream in, String filename, Consumer<Row> consumer) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        try {
+            if (name.endsWith(".csv")) {
+                readCsv(in, consumer);
+            } else if (name.endsWith(".xlsx")) {
+                readXlsx(in, consumer);
+            } else {
+                throw new IllegalArgumentException("Formato de archivo no soportado, use CSV o XLSX");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error al leer el archivo de importación", e);
+        }
+    }
+
+    // --- CSV ---
+
+    private void readCsv(InputStream in, Consumer<Row> consumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setDelimiter(detectDelimiter(reader))
+                .setIgnoreEmptyLines(true)
+                .setTrim(true)
+                .build();
+
+        try (CSVParser parser = CSVParser.parse(reader, format)) {
+            Iterator<CSVRecord> records = parser.iterator();
+            if (!records.hasNext()) {
+                throw new IllegalArgumentException("El archivo está vacío");
+            }
+            Map<Integer, String> columns = resolveColumns(records.next().toList());
+            int rowNumber = 1;
+            while (records.hasNext()) {
+                CSVRecord record = records.next();
+                rowNumber++;
+                Map<String, String> values = new HashMap<>();
+                columns.forEach((index, field) -> {
+                    if (index < record.size()) {
+                        values.put(field, record.get(index));
+                    }
+                });
+                emit(rowNumber, values, consumer);
+            }
+        }
+    }
+
+    /**
+     * Spreadsheet tools in Spanish locales write ';' separated files, so look at the header line.
+     */
+    private char detectDelimiter(BufferedReader reader) throws IOException {
+        reader.mark(8192);
+        String header = reader.readLine();
+        reader.reset();
+        if (header == null) {
+            return ',';
+        }
+        long semicolons = header.chars().filter(c -> c == ';').count();
+        long commas = header.chars().filter(c -> c == ',').count();
+        return semicolons > commas ? ';' : ',';
+    }
+
+    // --- XLSX ---
+
+    private void readXlsx(InputStream in, Consumer<Row> consumer) throws IOException {
+        // OPCPackage reads a file lazily; opening it from a stream would inflate the whole zip in memory
+        Path tempFile = Files.createTempFile("client-import-", ".xlsx");
+        try {
+            Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            try (OPCPackage pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ)) {
+                XSSFReader xssfReader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+                StylesTable styles = xssfReader.getStylesTable();
+                Iterator<InputStream> sheets = xssfReader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    throw new IllegalArgumentException("El archivo está vacío");
+                }
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(
+                            styles, null, strings, new SheetRowHandler(consumer), new DataFormatter(), false));
+                    parser.parse(new InputSource(sheet));
+                }
+            } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+                throw new IllegalArgumentException("El archivo XLSX no es válido");
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private final class SheetRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<Row> consumer;
+        private final List<String> cells = new ArrayList<>();
+        private Map<Integer, String> columns;
+
+        private SheetRowHandler(Consumer<Row> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // Blank cells are not reported, so place each value by its column letter
+            int column = new CellReference(cellReference).getCol();
+            while (cells.size() <= column) {
+                cells.add(null);
+            }
+            cells.set(column, formattedValue == null ? null : formattedValue.trim());
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (columns == null) {
+                columns = resolveColumns(cells);
+                return;
+            }
+            if (cells.stream().allMatch(value -> value == null || value.isEmpty())) {
+                return;
+            }
+            Map<String, String> values = new HashMap<>();
+            columns.forEach((index, field) -> {
+                if (index < cells.size()) {
+                    values.put(field, cells.get(index));
+                }
+            });
+            emit(rowNum + 1, values, consumer);
+        }
+    }
+
+    // --- Row mapping ---
+
+    private Map<Integer, String> resolveColumns(List<String> headerRow) {
+        Map<Integer, String> columns = new HashMap<>();
+        for (int i = 0; i < headerRow.size(); i++) {
+            String header = headerRow.get(i);
+            if (header == null) {
+                continue;
+            }
+            String field = HEADERS.get(TextNormalizer.normalize(header.replace("\uFEFF", "").trim()));
+            if (field != null) {
+                columns.put(i, field);
+            }
+        }
+        if (!columns.containsValue("firstName") || !columns.containsValue("lastName")
+                || !columns.containsValue("phone") || !columns.containsValue("clientType")) {
+            throw new IllegalArgumentException(
+                    "El archivo debe incluir las columnas Nombre, Apellido, Teléfono y Tipo");
+        }
+        return columns;
+    }
+
+    private void emit(int rowNumber, Map<String, String> values, Consumer<Row> consumer) {
+        ClientType clientType;
+        LocalDate entryDate;
+        try {
+            clientType = parseClientType(values.get("clientType"));
+            entryDate = parseDate(values.get("entryDate"));
+        } catch (IllegalArgumentException e) {
+            consumer.accept(new Row(rowNumber, null, e.getMessage()));
+            return;
+        }
+        ClientRequest request = new ClientRequest(
+                blankToNull(values.get("firstName")),
+                blankToNull(values.get("lastName")),
+                blankToNull(values.get("dni")),
+                blankToNull(values.get("commercialName")),
+                blankToNull(values.get("email")),
+                blankToNull(values.get("phone")),
+                blankToNull(values.get("address")),
+                blankToNull(values.get("province")),
+                blankToNull(values.get("country")),
+                clientType,
+                entryDate);
+        consumer.accept(new Row(rowNumber, request, null));
+    }
+
+    private ClientType parseClientType(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return ClientType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Tipo de cliente inválido: " + value);
+        }
+    }
+
+    private LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return value.contains("/") ? LocalDate.parse(value.trim(), LOCAL_DATE) : LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Fecha de entrada inválida: " + value);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,8 @@
+package com.autotech.client.service;
+
+import com.autotech.client.dto.ClientOverviewResponse;
+
+public interface ClientOverviewService {
+
+    ClientOverviewResponse getOverview(Long clientId);
+}
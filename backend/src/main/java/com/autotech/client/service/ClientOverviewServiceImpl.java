@@ -0,0 +1,110 @@
+package com.autotech.client.service;
+
+import com.autotech.client.dto.ClientDocumentSummary;
+import com.autotech.client.dto.ClientDocumentTotals;
+import com.autotech.client.dto.ClientOverviewResponse;
+import com.autotech.client.dto.ClientRepairOrderSummary;
+import com.autotech.client.dto.ClientResponse;
+import com.autotech.client.repository.ClientActivityRepository;
+import com.autotech.vehicle.dto.VehicleResponse;
+import com.autotech.vehicle.service.VehicleService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Assembles everything reception needs when opening a client in one call.
+ * <p>
+ * Lives apart from {@link ClientServiceImpl} because {@link VehicleService} already depends on
+ * {@link ClientService}. The client, its vehicles, its open repair orders and its documents are
+ * independent read-only sections, so they run concurrently on virtual threads and the response
+ * takes as long as the slowest one. Every section holds a pool connection while it runs, so all
+ * overviews share a fixed number of permits: a burst of overviews queues on the semaphore instead
+ * of draining the Hikari pool. Repair orders, estimates and invoices have no services yet and come
+ * straight from {@link ClientActivityRepository}.
+ */
+@Slf4j
+@Service
+public class ClientOverviewServiceImpl implements ClientOverviewService {
+
+    private final ClientService clientService;
+    private final VehicleService vehicleService;
+    private final ClientActivityRepository clientActivityRepository;
+    private final Semaphore connectionPermits;
+    private final int documentLimit;
+
+    public ClientOverviewServiceImpl(
+            ClientService clientService,
+            VehicleService vehicleService,
+            ClientActivityRepository clientActivityRepository,
+            @Value("${autotech.client-overview.max-concurrent-queries:4}") int maxConcurrentQueries,
+            @Value("${autotech.client-overview.document-limit:20}") int documentLimit) {
+        this.clientService = clientService;
+        this.vehicleService = vehicleService;
+        this.clientActivityRepository = clientActivityRepository;
+        this.connectionPermits = new Semaphore(maxConcurrentQueries, true);
+        this.documentLimit = documentLimit;
+    }
+
+    @Override
+    public ClientOverviewResponse getOverview(Long clientId) {
+        log.debug("Building overview for client {}", clientId);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<ClientResponse> client = section(() -> clientService.getById(clientId), executor);
+            CompletableFuture<List<VehicleResponse>> vehicles =
+                    section(() -> vehicleService.getByClientId(clientId), executor);
+            CompletableFuture<List<ClientRepairOrderSummary>> repairOrders =
+                    section(() -> clientActivityRepository.findOpenRepairOrders(clientId), executor);
+            // Four small queries on the client_id indexes: one section, run back to back
+            CompletableFuture<Documents> documents = section(() -> new Documents(
+                    clientActivityRepository.findPendingEstimates(clientId, documentLimit),
+                    clientActivityRepository.findUnpaidInvoices(clientId, documentLimit),
+                    clientActivityRepository.findEstimateTotals(clientId),
+                    clientActivityRepository.findInvoiceTotals(clientId)), executor);
+
+            // The client goes first so an unknown id surfaces as its 404, not as empty sections
+            ClientResponse clientResponse = join(client);
+            Documents clientDocuments = join(documents);
+            return new ClientOverviewResponse(clientResponse, join(vehicles), join(repairOrders),
+                    clientDocuments.pendingEstimates(), clientDocuments.unpaidInvoices(),
+                    clientDocuments.estimateTotals(), clientDocuments.invoiceTotals());
+        }
+    }
+
+    private <T> CompletableFuture<T> section(Supplier<T> query, ExecutorService executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            connectionPermits.acquireUninterruptibly();
+            try {
+                return query.get();
+            } finally {
+                connectionPermits.release();
+            }
+        }, executor);
+    }
+
+    // Rethrow the original exception so GlobalExceptionHandler maps it (e.g. 404 for an unknown client)
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Documents(
+            List<ClientDocumentSummary> pendingEstimates,
+            List<ClientDocumentSummary> unpaidInvoices,
+            List<ClientDocumentTotals> estimateTotals,
+            List<ClientDocumentTotals> invoiceTotals) {}
+}
@@ -1,26 +1,44 @@
 package com.autotech.client.service;
 
+import com.autotech.client.dto.ClientAutocompleteIndexStats;
 import com.autotech.client.dto.ClientAutocompleteResponse;
+import com.autotech.client.dto.ClientDuplicateMatch;
+import com.autotech.client.dto.ClientImportResult;
 import com.autotech.client.dto.ClientRequest;
 import com.autotech.client.dto.ClientResponse;
 import com.autotech.client.dto.ClientUpgradeRequest;
 import com.autotech.client.model.Client;
 import com.autotech.client.model.ClientType;
+import com.autotech.common.dto.CursorPage;
+import com.autotech.common.dto.ResourceVersion;
+import com.autotech.common.export.ExportFormat;
+import com.autotech.common.export.ExportProgress;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ClientService {
 
     Page<ClientResponse> getAll(Pageable pageable);
 
+    CursorPage<ClientResponse> getAllByCursor(String cursor, int size, String sort);
+
     ClientResponse getById(Long id);
 
     Client findEntityById(Long id);
 
+    LocalDateTime getLastModified(Long id);
+
+    ResourceVersion getListVersion();
+
     List<ClientAutocompleteResponse> autocomplete(String query);
 
+    ClientAutocompleteIndexStats rebuildAutocompleteIndex();
+
     ClientResponse create(ClientRequest request);
 
     ClientResponse update(Long id, ClientRequest request);
@@ -33,5 +51,11 @@ public interface ClientService {
 
     ClientResponse upgradeToRegistered(Long id, ClientUpgradeRequest request);
 
-    byte[] exportToExcel();
+    void export(ExportFormat format, boolean gzip, OutputStream out, ExportProgress progress);
+
+    ClientImportResult importClients(InputStream in, String filename);
+
+    List<ClientDuplicateMatch> findDuplicates(double minScore, int limit);
+
+    List<ClientDuplicateMatch> checkDuplicates(ClientRequest request);
 }
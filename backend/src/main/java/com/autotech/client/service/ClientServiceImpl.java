@@ -1,43 +1,105 @@
 package com.autotech.client.service;
 
+import com.autotech.client.dto.ClientAutocompleteIndexStats;
 import com.autotech.client.dto.ClientAutocompleteResponse;
+import com.autotech.client.dto.ClientDuplicateCandidate;
+import com.autotech.client.dto.ClientDuplicateMatch;
+import com.autotech.client.dto.ClientImportError;
+import com.autotech.client.dto.ClientImportResult;
 import com.autotech.client.dto.ClientMapper;
 import com.autotech.client.dto.ClientRequest;
 import com.autotech.client.dto.ClientResponse;
 import com.autotech.client.dto.ClientUpgradeRequest;
 import com.autotech.client.model.Client;
 import com.autotech.client.model.ClientType;
+import com.autotech.client.repository.ClientBatchRepository;
 import com.autotech.client.repository.ClientRepository;
+import com.autotech.common.dto.CursorPage;
+import com.autotech.common.dto.ResourceVersion;
 import com.autotech.common.exception.ResourceNotFoundException;
+import com.autotech.common.export.ExportEngine;
+import com.autotech.common.export.ExportFormat;
+import com.autotech.common.export.ExportProgress;
+import com.autotech.common.export.ExportSchema;
+import com.autotech.common.pagination.KeysetPageRequest;
+import com.autotech.common.transaction.TransactionCallbacks;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ClientServiceImpl implements ClientService {
 
+    private static final int AUTOCOMPLETE_LIMIT = 20;
+    private static final ExportSchema<Client> EXPORT_SCHEMA = ExportSchema.<Client>builder("Clientes")
+            .column("id", "ID", 10, Client::getId)
+            .column("firstName", "Nombre", 20, Client::getFirstName)
+            .column("lastName", "Apellido", 20, Client::getLastName)
+            .column("dni", "DNI", 14, Client::getDni)
+            .column("commercialName", "Nombre Comercial", 30, Client::getCommercialName)
+            .column("email", "Email", 30, Client::getEmail)
+            .column("phone", "Teléfono", 16, Client::getPhone)
+            .column("address", "Dirección", 35, Client::getAddress)
+            .column("province", "Provincia", 20, Client::getProvince)
+            .column("country", "País", 16, Client::getCountry)
+            .column("clientType", "Tipo", 12, Client::getClientType)
+            .column("entryDate", "Fecha Entrada", 14, Client::getEntryDate)
+            .build();
+    private static final int IMPORT_CHUNK_SIZE = 1000;
+    private static final double DUPLICATE_CHECK_MIN_SCORE = 0.85;
+    private static final int DUPLICATE_CHECK_CANDIDATES = 200;
+    private static final int DUPLICATE_CHECK_LIMIT = 10;
+    private static final int MAX_DUPLICATE_SUGGESTIONS = 1000;
+
     private final ClientRepository clientRepository;
     private final ClientMapper clientMapper;
+    private final ClientAutocompleteIndex autocompleteIndex;
+    private final EntityManager entityManager;
+    private final ClientImportReader clientImportReader;
+    private final ClientBatchRepository clientBatchRepository;
+    private final Validator validator;
+    private final ClientDuplicateDetector duplicateDetector;
+    private final ExportEngine exportEngine;
 
     // --- CRUD ---
 
     @Override
     @Transactional(readOnly = true)
     public Page<ClientResponse> getAll(Pageable pageable) {
-        return clientRepository.findAll(pageable).map(clientMapper::toResponse);
+        return clientRepository.findAllResponses(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ClientResponse> getAllByCursor(String cursor, int size, String sort) {
+        KeysetPageRequest request = KeysetPageRequest.of(cursor, size, sort);
+        List<Client> rows = clientRepository.findBy(request.<Client>seek(),
+                query -> query.sortBy(request.sort()).limit(request.fetchSize()).all());
+        return request.toPage(rows, clientMapper::toResponse);
     }
 
     @Override
@@ -48,6 +110,18 @@ public class ClientServiceImpl implements ClientService {
         return clientMapper.toResponse(client);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDateTime getLastModified(Long id) {
+        return clientRepository.findUpdatedAtById(id).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion getListVersion() {
+        return clientRepository.findVersion();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Client findEntityById(Long id) {
@@ -56,17 +130,22 @@ public class ClientServiceImpl implements ClientService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ClientAutocompleteResponse> autocomplete(String query) {
-        Page<Client> results;
-        if (query != null && !query.isBlank()) {
-            results = clientRepository.search(query, PageRequest.of(0, 20));
-        } else {
-            results = clientRepository.findAll(PageRequest.of(0, 20));
-        }
-        return results.getContent().stream()
-                .map(c -> new ClientAutocompleteResponse(c.getId(), c.getFirstName(), c.getLastName(), c.getDni()))
-                .toList();
+        return autocompleteIndex.search(query, AUTOCOMPLETE_LIMIT);
+    }
+
+    @Override
+    public ClientAutocompleteIndexStats rebuildAutocompleteIndex() {
+        log.info("Rebuilding client autocomplete index");
+        ClientAutocompleteIndexStats stats = autocompleteIndex.rebuild(clientRepository::findAllAutocompleteEntries);
+        log.info("Client autocomplete index rebuilt with {} clients (~{} bytes)",
+                stats.entries(), stats.estimatedBytes());
+        return stats;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildAutocompleteIndex();
     }
 
     @Override
@@ -74,9 +153,15 @@ public class ClientServiceImpl implements ClientService {
     public ClientResponse create(ClientRequest request) {
         validateClientType(request);
         validateDniUniqueness(request.dni());
+        List<ClientDuplicateMatch> duplicates = checkDuplicates(request);
         Client client = clientMapper.toEntity(request);
         Client saved = clientRepository.save(client);
+        refreshAutocompleteEntry(saved);
         log.info("Created client with id {}", saved.getId());
+        if (!duplicates.isEmpty()) {
+            log.warn("Client {} looks like a duplicate of client(s) {}", saved.getId(),
+                    duplicates.stream().map(match -> match.primary().id()).toList());
+        }
         return clientMapper.toResponse(saved);
     }
 
@@ -101,6 +186,7 @@ public class ClientServiceImpl implements ClientService {
         existing.setEntryDate(request.entryDate());
 
         Client saved = clientRepository.save(existing);
+        refreshAutocompleteEntry(saved);
         log.info("Updated client with id {}", saved.getId());
         return clientMapper.toResponse(saved);
     }
@@ -113,6 +199,7 @@ public class ClientServiceImpl implements ClientService {
         }
         // TODO: Check for dependencies (Vehicles, Orders, etc.) once implemented
         clientRepository.deleteById(id);
+        TransactionCallbacks.afterCommit(() -> autocompleteIndex.remove(id));
         log.info("Deleted client with id {}", id);
     }
 
@@ -121,13 +208,18 @@ public class ClientServiceImpl implements ClientService {
     @Override
     @Transactional(readOnly = true)
     public Page<ClientResponse> search(String query, Pageable pageable) {
-        return clientRepository.search(query, pageable).map(clientMapper::toResponse);
+        log.debug("Searching clients with query: '{}'", query);
+        // Results are ordered by trigram similarity; a caller sort would silently override the ranking
+        if (pageable.getSort().isSorted()) {
+            throw new IllegalArgumentException("La búsqueda de clientes se ordena por relevancia y no admite ordenamiento");
+        }
+        return clientRepository.searchRanked(query.trim(), pageable).map(clientMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ClientResponse> findByClientType(ClientType clientType, Pageable pageable) {
-        return clientRepository.findByClientType(clientType, pageable).map(clientMapper::toResponse);
+        return clientRepository.findResponsesByClientType(clientType, pageable);
     }
 
     // --- Upgrade ---
@@ -157,6 +249,7 @@ public class ClientServiceImpl implements ClientService {
         client.setEntryDate(request.entryDate());
 
         Client saved = clientRepository.save(client);
+        refreshAutocompleteEntry(saved);
         log.info("Upgraded client {} from TEMPORAL to {}", id, request.clientType());
         return clientMapper.toResponse(saved);
     }
@@ -165,58 +258,155 @@ public class ClientServiceImpl implements ClientService {
 
     @Override
     @Transactional(readOnly = true)
-    public byte[] exportToExcel() {
-        List<Client> clients = clientRepository.findAll();
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("Clientes");
-
-            // Header
-            Row headerRow = sheet.createRow(0);
-            String[] headers = { "ID", "Nombre", "Apellido", "DNI", "Nombre Comercial", "Email", "Teléfono",
-                    "Dirección", "Provincia", "País", "Tipo", "Fecha Entrada" };
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                CellStyle style = workbook.createCellStyle();
-                Font font = workbook.createFont();
-                font.setBold(true);
-                style.setFont(font);
-                cell.setCellStyle(style);
+    public void export(ExportFormat format, boolean gzip, OutputStream out, ExportProgress progress) {
+        log.info("Exporting clients as {}", format);
+        progress.setTotal(clientRepository.count());
+        try (Stream<Client> clients = clientRepository.streamAll()) {
+            // Keep the persistence context from growing with the export; every column is already loaded
+            Stream<Client> rows = clients.peek(entityManager::detach);
+            long written = exportEngine.write(EXPORT_SCHEMA, rows, format, gzip, out, progress);
+            log.info("Exported {} clients as {}", written, format);
+        } catch (IOException e) {
+            log.error("Error exporting clients", e);
+            throw new RuntimeException("Error al exportar clientes", e);
+        }
+    }
+
+    // --- Import ---
+
+    @Override
+    @Transactional
+    public ClientImportResult importClients(InputStream in, String filename) {
+        log.info("Importing clients from {}", filename);
+        ImportProgress progress = new ImportProgress();
+        List<ClientImportReader.Row> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+
+        clientImportReader.read(in, filename, row -> {
+            chunk.add(row);
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                importChunk(chunk, progress);
+                chunk.clear();
             }
+        });
+        importChunk(chunk, progress);
 
-            // Data
-            int rowIdx = 1;
-            for (Client client : clients) {
-                Row row = sheet.createRow(rowIdx++);
-                row.createCell(0).setCellValue(client.getId());
-                row.createCell(1).setCellValue(client.getFirstName());
-                row.createCell(2).setCellValue(client.getLastName());
-                row.createCell(3).setCellValue(client.getDni() != null ? client.getDni() : "");
-                row.createCell(4).setCellValue(client.getCommercialName() != null ? client.getCommercialName() : "");
-                row.createCell(5).setCellValue(client.getEmail() != null ? client.getEmail() : "");
-                row.createCell(6).setCellValue(client.getPhone());
-                row.createCell(7).setCellValue(client.getAddress() != null ? client.getAddress() : "");
-                row.createCell(8).setCellValue(client.getProvince() != null ? client.getProvince() : "");
-                row.createCell(9).setCellValue(client.getCountry() != null ? client.getCountry() : "");
-                row.createCell(10).setCellValue(client.getClientType().name());
-                row.createCell(11).setCellValue(client.getEntryDate() != null ? client.getEntryDate().toString() : "");
+        if (progress.imported > 0) {
+            // Rows were written with plain JDBC, so reload the index instead of upserting entry by entry
+            TransactionCallbacks.afterCommit(this::rebuildAutocompleteIndex);
+        }
+        log.info("Imported {} of {} clients from {}, {} rejected",
+                progress.imported, progress.total, filename, progress.errors.size());
+        return new ClientImportResult(progress.total, progress.imported, progress.errors.size(), progress.errors);
+    }
+
+    // --- Duplicate detection ---
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClientDuplicateMatch> findDuplicates(double minScore, int limit) {
+        if (minScore <= 0 || minScore > 1) {
+            throw new IllegalArgumentException("El puntaje mínimo debe estar entre 0 y 1");
+        }
+        if (limit < 1 || limit > MAX_DUPLICATE_SUGGESTIONS) {
+            throw new IllegalArgumentException(
+                    "El límite debe estar entre 1 y " + MAX_DUPLICATE_SUGGESTIONS);
+        }
+        long start = System.nanoTime();
+        List<ClientDuplicateCandidate> clients = clientRepository.findAllDuplicateCandidates();
+        List<ClientDuplicateMatch> matches = duplicateDetector.findDuplicates(clients, minScore, limit);
+        log.info("Duplicate scan over {} clients returned {} suggestions in {} ms",
+                clients.size(), matches.size(), (System.nanoTime() - start) / 1_000_000);
+        return matches;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClientDuplicateMatch> checkDuplicates(ClientRequest request) {
+        ClientDuplicateCandidate probe = new ClientDuplicateCandidate(null, request.firstName(), request.lastName(),
+                request.dni(), request.phone(), request.clientType());
+        List<ClientDuplicateCandidate> candidates = clientRepository.findDuplicateCandidates(
+                ClientDuplicateDetector.phoneKey(request.phone()),
+                ClientDuplicateDetector.dniKey(request.dni()),
+                ClientDuplicateDetector.nameKey(request.firstName(), request.lastName()),
+                PageRequest.of(0, DUPLICATE_CHECK_CANDIDATES));
+        return duplicateDetector.findMatches(probe, candidates, DUPLICATE_CHECK_MIN_SCORE).stream()
+                .limit(DUPLICATE_CHECK_LIMIT)
+                .toList();
+    }
+
+    private void importChunk(List<ClientImportReader.Row> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        progress.total += chunk.size();
+
+        // Per-row checks first, so the DNI lookup only covers rows that could still be imported
+        List<ClientImportReader.Row> candidates = new ArrayList<>(chunk.size());
+        for (ClientImportReader.Row row : chunk) {
+            String error = row.error() != null ? row.error() : validateImportRow(row.request(), progress.seenDnis);
+            if (error != null) {
+                progress.errors.add(new ClientImportError(row.number(), error));
+            } else {
+                candidates.add(row);
             }
+        }
 
-            // Auto size columns
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
+        Set<String> dnis = candidates.stream()
+                .map(row -> row.request().dni())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> existingDnis = dnis.isEmpty() ? Set.of() : new HashSet<>(clientRepository.findExistingDnis(dnis));
+
+        List<Client> clients = new ArrayList<>(candidates.size());
+        for (ClientImportReader.Row row : candidates) {
+            String dni = row.request().dni();
+            if (dni != null && existingDnis.contains(dni)) {
+                progress.errors.add(new ClientImportError(row.number(), "Ya existe un cliente con el DNI: " + dni));
+            } else {
+                clients.add(clientMapper.toEntity(row.request()));
             }
+        }
+        if (!clients.isEmpty()) {
+            clientBatchRepository.insertAll(clients);
+            progress.imported += clients.size();
+        }
+    }
 
-            workbook.write(out);
-            return out.toByteArray();
-        } catch (IOException e) {
-            log.error("Error exporting clients to Excel", e);
-            throw new RuntimeException("Error al exportar clientes a Excel", e);
+    private String validateImportRow(ClientRequest request, Set<String> seenDnis) {
+        Set<ConstraintViolation<ClientRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
         }
+        try {
+            validateClientType(request);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        if (request.dni() != null && !seenDnis.add(request.dni())) {
+            return "El DNI " + request.dni() + " está repetido en el archivo";
+        }
+        return null;
+    }
+
+    private static final class ImportProgress {
+
+        private final List<ClientImportError> errors = new ArrayList<>();
+        private final Set<String> seenDnis = new HashSet<>();
+        private int total;
+        private int imported;
     }
 
     // --- Private helpers ---
 
+    private void refreshAutocompleteEntry(Client client) {
+        ClientAutocompleteResponse entry = new ClientAutocompleteResponse(
+                client.getId(), client.getFirstName(), client.getLastName(), client.getDni());
+        TransactionCallbacks.afterCommit(() -> autocompleteIndex.put(entry));
+    }
+
     private void validateClientType(ClientRequest request) {
         if (request.clientType() == ClientType.PERSONAL || request.clientType() == ClientType.EMPRESA) {
             if (request.dni() == null || request.dni().isBlank()) {
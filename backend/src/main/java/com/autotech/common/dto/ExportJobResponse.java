@@ -0,0 +1,18 @@
+package com.autotech.common.dto;
+
+import com.autotech.common.export.ExportJobStatus;
+
+import java.time.LocalDateTime;
+
+public record ExportJobResponse(
+        String id,
+        String type,
+        String filename,
+        ExportJobStatus status,
+        long processedRows,
+        long totalRows,
+        String error,
+        LocalDateTime submittedAt,
+        LocalDateTime finishedAt,
+        LocalDateTime expiresAt
+) {}
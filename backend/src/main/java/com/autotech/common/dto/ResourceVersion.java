@@ -0,0 +1,8 @@
+package com.autotech.common.dto;
+
+import java.time.LocalDateTime;
+
+public record ResourceVersion(
+        long count,
+        LocalDateTime lastModified
+) {}
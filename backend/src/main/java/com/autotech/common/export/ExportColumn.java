@@ -0,0 +1,9 @@
+package com.autotech.common.export;
+
+import java.util.function.Function;
+
+/**
+ * One exported column: the JSON key, the CSV/XLSX header, the XLSX width in characters and how
+ * to read the value from a row. Values may be strings, numbers, booleans, enums, dates or null.
+ */
+public record ExportColumn<T>(String key, String header, int width, Function<T, ?> value) {}
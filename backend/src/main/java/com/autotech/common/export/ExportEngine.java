@@ -0,0 +1,186 @@
+package com.autotech.common.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a stream of rows in any {@link ExportFormat}, optionally gzipped.
+ * <p>
+ * Rows are consumed one at a time, so memory stays flat whatever the row count as long as the
+ * caller streams from a cursor. CSV and NDJSON go straight to a buffered writer; XLSX goes
+ * through SXSSF, which keeps a small window of rows in memory and spills the rest to disk.
+ * The output stream is flushed but not closed.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExportEngine {
+
+    private static final int XLSX_ROW_WINDOW = 100;
+    private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public <T> long write(ExportSchema<T> schema, Stream<T> rows, ExportFormat format, boolean gzip,
+                          OutputStream out, ExportProgress progress) throws IOException {
+        if (!gzip) {
+            long written = write(schema, rows, format, out, progress);
+            out.flush();
+            return written;
+        }
+        GZIPOutputStream compressed = new GZIPOutputStream(new NonClosingOutputStream(out), GZIP_BUFFER_BYTES);
+        try (compressed) {
+            return write(schema, rows, format, compressed, progress);
+        }
+    }
+
+    private <T> long write(ExportSchema<T> schema, Stream<T> rows, ExportFormat format, OutputStream out,
+                           ExportProgress progress) throws IOException {
+        List<ExportColumn<T>> columns = schema.columns();
+        Iterator<T> iterator = rows.iterator();
+        return switch (format) {
+            case CSV -> writeCsv(columns, iterator, out, progress);
+            case NDJSON -> writeNdjson(columns, iterator, out, progress);
+            case XLSX -> writeXlsx(schema.sheetName(), columns, iterator, out, progress);
+        };
+    }
+
+    private <T> long writeCsv(List<ExportColumn<T>> columns, Iterator<T> rows, OutputStream out,
+                              ExportProgress progress) throws IOException {
+        Writer writer = new OutputStreamWriter(new NonClosingOutputStream(out), StandardCharsets.UTF_8);
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setHeader(columns.stream().map(ExportColumn::header).toArray(String[]::new))
+                .build();
+        long count = 0;
+        try (CSVPrinter printer = new CSVPrinter(writer, format)) {
+            Object[] values = new Object[columns.size()];
+            while (rows.hasNext()) {
+                T row = rows.next();
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = columns.get(i).value().apply(row);
+                }
+                printer.printRecord(values);
+                count++;
+                progress.advance();
+            }
+        }
+        return count;
+    }
+
+    private <T> long writeNdjson(List<ExportColumn<T>> columns, Iterator<T> rows, OutputStream out,
+                                 ExportProgress progress) throws IOException {
+        // Per-value flushing is on by default for ObjectMapper and would flush every field
+        ObjectWriter valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(new NonClosingOutputStream(out), JsonEncoding.UTF8);
+        try (generator) {
+            generator.setRootValueSeparator(null);
+            while (rows.hasNext()) {
+                T row = rows.next();
+                generator.writeStartObject();
+                for (ExportColumn<T> column : columns) {
+                    generator.writeFieldName(column.key());
+                    writeJsonValue(generator, valueWriter, column.value().apply(row));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                count++;
+                progress.advance();
+            }
+        }
+        return count;
+    }
+
+    private <T> long writeXlsx(String sheetName, List<ExportColumn<T>> columns, Iterator<T> rows,
+                               OutputStream out, ExportProgress progress) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try (workbook) {
+            Sheet sheet = workbook.createSheet(sheetName);
+
+            // Header: one shared style, fixed widths (autoSizeColumn would need every row in memory)
+            Font headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            CellStyle headerStyle = workbook.createCellStyle();
+            headerStyle.setFont(headerFont);
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < columns.size(); i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(columns.get(i).header());
+                cell.setCellStyle(headerStyle);
+                sheet.setColumnWidth(i, columns.get(i).width() * 256);
+            }
+
+            int rowIdx = 1;
+            while (rows.hasNext()) {
+                T item = rows.next();
+                Row row = sheet.createRow(rowIdx++);
+                for (int i = 0; i < columns.size(); i++) {
+                    Object value = columns.get(i).value().apply(item);
+                    if (value instanceof Number number) {
+                        row.createCell(i).setCellValue(number.doubleValue());
+                    } else {
+                        row.createCell(i).setCellValue(value != null ? value.toString() : "");
+                    }
+                }
+                progress.advance();
+            }
+            workbook.write(out);
+            return rowIdx - 1L;
+        }
+    }
+
+    private static void writeJsonValue(JsonGenerator generator, ObjectWriter valueWriter, Object value)
+            throws IOException {
+        switch (value) {
+            case null -> generator.writeNull();
+            case String text -> generator.writeString(text);
+            case Long number -> generator.writeNumber(number);
+            case Integer number -> generator.writeNumber(number);
+            case Boolean flag -> generator.writeBoolean(flag);
+            default -> valueWriter.writeValue(generator, value);
+        }
+    }
+
+    // The caller owns the response/file stream; writers here may only flush it
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        private NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
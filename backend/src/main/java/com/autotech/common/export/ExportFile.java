@@ -0,0 +1,5 @@
+package com.autotech.common.export;
+
+import java.nio.file.Path;
+
+public record ExportFile(Path path, String filename) {}
@@ -0,0 +1,89 @@
+package com.autotech.common.export;
+
+import com.autotech.common.dto.ExportJobResponse;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mutable state of one export. Written by the worker thread and read by status polls, so every
+ * field that changes after submission is volatile or atomic.
+ */
+class ExportJob implements ExportProgress {
+
+    private final String id;
+    private final String type;
+    private final String filename;
+    private final Path file;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final AtomicLong processedRows = new AtomicLong();
+    private volatile long totalRows;
+    private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+    private volatile LocalDateTime expiresAt;
+
+    ExportJob(String id, String type, String filename, Path file) {
+        this.id = id;
+        this.type = type;
+        this.filename = filename;
+        this.file = file;
+    }
+
+    @Override
+    public void setTotal(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    @Override
+    public void advance() {
+        processedRows.incrementAndGet();
+    }
+
+    void start() {
+        status = ExportJobStatus.RUNNING;
+    }
+
+    void complete(LocalDateTime expiresAt) {
+        finish(ExportJobStatus.COMPLETED, null, expiresAt);
+    }
+
+    void fail(String error, LocalDateTime expiresAt) {
+        finish(ExportJobStatus.FAILED, error, expiresAt);
+    }
+
+    // Status is written last and read first, so a finished status always comes with its details
+    private void finish(ExportJobStatus status, String error, LocalDateTime expiresAt) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+        this.status = status;
+    }
+
+    boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+
+    String id() {
+        return id;
+    }
+
+    String filename() {
+        return filename;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    ExportJobStatus status() {
+        return status;
+    }
+
+    ExportJobResponse toResponse() {
+        ExportJobStatus current = status;
+        return new ExportJobResponse(id, type, filename, current, processedRows.get(), totalRows, error,
+                submittedAt, finishedAt, expiresAt);
+    }
+}
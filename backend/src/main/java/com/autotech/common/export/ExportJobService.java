@@ -0,0 +1,22 @@
+package com.autotech.common.export;
+
+import com.autotech.common.dto.ExportJobResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ExportJobService {
+
+    ExportJobResponse submit(String type, String filename, ExportWriter writer);
+
+    /**
+     * Takes an export slot for an export written straight to the response, released once the body
+     * has been written. Throws {@link java.util.concurrent.RejectedExecutionException} when every
+     * slot is in use.
+     */
+    StreamingResponseBody stream(String type, ExportWriter writer);
+
+    ExportJobResponse getJob(String jobId);
+
+    ExportFile getFile(String jobId);
+
+    void deleteExpired();
+}
@@ -0,0 +1,179 @@
+package com.autotech.common.export;
+
+import com.autotech.common.dto.ExportJobResponse;
+import com.autotech.common.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs exports off the request thread and keeps the results on disk until they expire.
+ * <p>
+ * A fixed pool of {@code autotech.export.concurrency} low-priority threads does the work; up to
+ * {@code autotech.export.queue-capacity} more jobs wait their turn and anything beyond that is
+ * rejected. Exports streamed straight to the response draw from the same
+ * {@code autotech.export.concurrency} slots as the jobs, so at most that many exports of either
+ * kind hold a database connection and a workbook at once; a streamed export finding no free slot
+ * is rejected rather than queued, since the request would otherwise hang. Files are written next to their final name and moved into place only when
+ * complete. Job state lives in memory, so jobs do not survive a restart.
+ */
+@Slf4j
+@Service
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final Semaphore slots;
+    private final Path directory;
+    private final Duration retention;
+
+    public ExportJobServiceImpl(
+            @Value("${autotech.export.concurrency:2}") int concurrency,
+            @Value("${autotech.export.queue-capacity:10}") int queueCapacity,
+            @Value("${autotech.export.retention:PT1H}") Duration retention,
+            @Value("${autotech.export.directory:}") String directory) throws IOException {
+        this.directory = directory.isBlank()
+                ? Files.createTempDirectory("autotech-exports")
+                : Files.createDirectories(Path.of(directory));
+        this.retention = retention;
+        this.slots = new Semaphore(concurrency, true);
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("export-", 1).priority(Thread.MIN_PRIORITY).daemon(true).factory());
+        log.info("Export jobs write to {} with {} workers", this.directory, concurrency);
+    }
+
+    @Override
+    public ExportJobResponse submit(String type, String filename, ExportWriter writer) {
+        String id = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(id, type, filename, directory.resolve(id));
+        jobs.put(id, job);
+        try {
+            executor.execute(() -> run(job, writer));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            log.warn("Rejected {} export, {} exports already queued", type, executor.getQueue().size());
+            throw new RejectedExecutionException("Hay demasiadas exportaciones en curso, intente nuevamente en unos minutos");
+        }
+        log.info("Queued {} export job {}", type, id);
+        return job.toResponse();
+    }
+
+    @Override
+    public StreamingResponseBody stream(String type, ExportWriter writer) {
+        if (!slots.tryAcquire()) {
+            log.warn("Rejected streamed {} export, all {} export slots in use", type, executor.getCorePoolSize());
+            throw new RejectedExecutionException("Hay demasiadas exportaciones en curso, intente nuevamente en unos minutos");
+        }
+        return out -> {
+            try {
+                writer.write(out, ExportProgress.NONE);
+            } finally {
+                slots.release();
+            }
+        };
+    }
+
+    @Override
+    public ExportJobResponse getJob(String jobId) {
+        return findJob(jobId).toResponse();
+    }
+
+    @Override
+    public ExportFile getFile(String jobId) {
+        ExportJob job = findJob(jobId);
+        if (job.status() != ExportJobStatus.COMPLETED) {
+            throw new IllegalArgumentException("La exportación todavía no está disponible para descargar");
+        }
+        return new ExportFile(job.file(), job.filename());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${autotech.export.cleanup-interval:PT5M}")
+    public void deleteExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        jobs.values().removeIf(job -> {
+            if (!job.isExpired(now)) {
+                return false;
+            }
+            deleteQuietly(job.file());
+            log.debug("Deleted expired export job {}", job.id());
+            return true;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        jobs.values().forEach(job -> deleteQuietly(job.file()));
+    }
+
+    private void run(ExportJob job, ExportWriter writer) {
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Error al generar la exportación", LocalDateTime.now().plus(retention));
+            return;
+        }
+        try {
+            write(job, writer);
+        } finally {
+            slots.release();
+        }
+    }
+
+    private void write(ExportJob job, ExportWriter writer) {
+        job.start();
+        long start = System.nanoTime();
+        Path partial = directory.resolve(job.id() + ".part");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                writer.write(out, job);
+            }
+            Files.move(partial, job.file(), StandardCopyOption.ATOMIC_MOVE);
+            job.complete(LocalDateTime.now().plus(retention));
+            log.info("Export job {} finished in {} ms", job.id(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Export job {} failed", job.id(), e);
+            deleteQuietly(partial);
+            job.fail("Error al generar la exportación", LocalDateTime.now().plus(retention));
+        }
+    }
+
+    private ExportJob findJob(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Export job not found with id: " + jobId);
+        }
+        return job;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.autotech.common.export;
+
+public enum ExportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
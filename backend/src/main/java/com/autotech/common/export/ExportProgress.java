@@ -0,0 +1,22 @@
+package com.autotech.common.export;
+
+/**
+ * Lets an export report how far it got. Exports call {@link #setTotal} once they know the row
+ * count and {@link #advance} after every row written.
+ */
+public interface ExportProgress {
+
+    ExportProgress NONE = new ExportProgress() {
+        @Override
+        public void setTotal(long totalRows) {
+        }
+
+        @Override
+        public void advance() {
+        }
+    };
+
+    void setTotal(long totalRows);
+
+    void advance();
+}
@@ -0,0 +1,34 @@
+package com.autotech.common.export;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The columns of an export, declared once per module and shared by every format.
+ */
+public record ExportSchema<T>(String sheetName, List<ExportColumn<T>> columns) {
+
+    public static <T> Builder<T> builder(String sheetName) {
+        return new Builder<>(sheetName);
+    }
+
+    public static final class Builder<T> {
+
+        private final String sheetName;
+        private final List<ExportColumn<T>> columns = new ArrayList<>();
+
+        private Builder(String sheetName) {
+            this.sheetName = sheetName;
+        }
+
+        public Builder<T> column(String key, String header, int width, Function<T, ?> value) {
+            columns.add(new ExportColumn<>(key, header, width, value));
+            return this;
+        }
+
+        public ExportSchema<T> build() {
+            return new ExportSchema<>(sheetName, List.copyOf(columns));
+        }
+    }
+}
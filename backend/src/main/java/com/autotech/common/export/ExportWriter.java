@@ -0,0 +1,10 @@
+package com.autotech.common.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@FunctionalInterface
+public interface ExportWriter {
+
+    void write(OutputStream out, ExportProgress progress) throws IOException;
+}
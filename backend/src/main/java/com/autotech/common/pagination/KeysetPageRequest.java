@@ -0,0 +1,152 @@
+package com.autotech.common.pagination;
+
+import com.autotech.common.dto.CursorPage;
+import com.autotech.common.model.BaseEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Seek-based page request over a {@link BaseEntity} column plus {@code id} as tie-breaker.
+ * <p>
+ * Instead of {@code OFFSET n} the next page is selected with
+ * {@code (sort, id) < (lastSort, lastId)} (or {@code >} for ascending order), so every page
+ * costs the same as the first one and no {@code COUNT(*)} is issued. Criteria has no row-value
+ * comparison, so it is spelled as {@code sort <= lastSort AND (sort < lastSort OR (sort = lastSort
+ * AND id < lastId))}: the redundant first conjunct is what PostgreSQL turns into an index range
+ * condition, without it the OR is only a filter over every row already seen. The continuation token is
+ * an opaque base64 string that also records the sort it was issued for; an empty cursor asks
+ * for the first page.
+ */
+public record KeysetPageRequest(
+        String property,
+        Sort.Direction direction,
+        Comparable<?> afterValue,
+        Long afterId,
+        int size
+) {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    // Only BaseEntity columns are seekable: they are NOT NULL and share the composite indexes
+    private static final Map<String, Column> COLUMNS = Map.of(
+            "createdAt", new Column(BaseEntity::getCreatedAt, LocalDateTime::parse),
+            "updatedAt", new Column(BaseEntity::getUpdatedAt, LocalDateTime::parse),
+            "id", new Column(BaseEntity::getId, Long::valueOf));
+
+    public static KeysetPageRequest of(String cursor, int size, String sort) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + MAX_SIZE);
+        }
+        String[] sortSplit = sort.split(",");
+        String property = sortSplit[0].trim();
+        if (!COLUMNS.containsKey(property)) {
+            throw new IllegalArgumentException("No se puede paginar por cursor ordenando por: " + property);
+        }
+        Sort.Direction direction = sortSplit.length > 1
+                ? Sort.Direction.fromString(sortSplit[1].trim())
+                : Sort.Direction.DESC;
+
+        if (cursor == null || cursor.isBlank()) {
+            return new KeysetPageRequest(property, direction, null, null, size);
+        }
+        return decode(cursor, property, direction, size);
+    }
+
+    public boolean isFirstPage() {
+        return afterId == null;
+    }
+
+    public Sort sort() {
+        return property.equals("id")
+                ? Sort.by(direction, "id")
+                : Sort.by(new Sort.Order(direction, property), new Sort.Order(direction, "id"));
+    }
+
+    /**
+     * Fetch one row more than requested: its presence is what tells whether a next page exists.
+     */
+    public int fetchSize() {
+        return size + 1;
+    }
+
+    public <T extends BaseEntity> Specification<T> seek() {
+        return (root, query, cb) -> {
+            if (isFirstPage()) {
+                return null;
+            }
+            Expression<Long> id = root.get("id");
+            if (property.equals("id")) {
+                return beyond(cb, id, afterId);
+            }
+            Expression<Comparable<Object>> column = root.get(property);
+            return cb.and(
+                    atOrBeyond(cb, column, afterValue),
+                    cb.or(
+                            beyond(cb, column, afterValue),
+                            cb.and(cb.equal(column, afterValue), beyond(cb, id, afterId))));
+        };
+    }
+
+    public <T extends BaseEntity, R> CursorPage<R> toPage(List<T> rows, Function<? super T, R> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encode(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), size, hasNext, nextCursor);
+    }
+
+    String encode(BaseEntity last) {
+        String raw = String.join(SEPARATOR,
+                property,
+                direction.name(),
+                String.valueOf(COLUMNS.get(property).extractor().apply(last)),
+                String.valueOf(last.getId()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static KeysetPageRequest decode(String cursor, String property, Sort.Direction direction, int size) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        if (!parts[0].equals(property) || !parts[1].equals(direction.name())) {
+            throw new IllegalArgumentException("El cursor no corresponde al orden solicitado");
+        }
+        try {
+            Comparable<?> afterValue = COLUMNS.get(property).parser().apply(parts[2]);
+            return new KeysetPageRequest(property, direction, afterValue, Long.valueOf(parts[3]), size);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate beyond(CriteriaBuilder cb, Expression path, Comparable value) {
+        return direction.isDescending() ? cb.lessThan(path, value) : cb.greaterThan(path, value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate atOrBeyond(CriteriaBuilder cb, Expression path, Comparable value) {
+        return direction.isDescending() ? cb.lessThanOrEqualTo(path, value) : cb.greaterThanOrEqualTo(path, value);
+    }
+
+    private record Column(Function<BaseEntity, Comparable<?>> extractor, Function<String, Comparable<?>> parser) {}
+}
@@ -0,0 +1,68 @@
+package com.autotech.common.web;
+
+import com.autotech.common.dto.ResourceVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Conditional GET support driven by {@code updated_at}.
+ * <p>
+ * Controllers look up the version with a cheap query and call one of these methods before
+ * loading anything else. When the client's {@code If-None-Match} / {@code If-Modified-Since}
+ * still matches, the response is already marked {@code 304} and the controller returns without a
+ * body. Otherwise the weak {@code ETag} and {@code Last-Modified} headers are set on the response
+ * and the regular path runs.
+ */
+public final class ConditionalGet {
+
+    // Clients may store the payload but must revalidate it every time
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * For a single resource. A {@code null} version means the resource does not exist, so the
+     * request falls through to the regular lookup and its 404.
+     */
+    public static boolean isNotModified(WebRequest request, LocalDateTime lastModified) {
+        if (lastModified == null) {
+            return false;
+        }
+        return check(request, "W/\"" + micros(lastModified) + "\"", lastModified);
+    }
+
+    /**
+     * For a list over one table. Row count plus the latest {@code updated_at} changes on every
+     * insert, update and delete, so it is a safe validator for any page or filter of that table.
+     */
+    public static boolean isNotModified(WebRequest request, ResourceVersion version) {
+        if (version == null || version.lastModified() == null) {
+            return false;
+        }
+        String etag = "W/\"" + version.count() + "-" + micros(version.lastModified()) + "\"";
+        return check(request, etag, version.lastModified());
+    }
+
+    private static boolean check(WebRequest request, String etag, LocalDateTime lastModified) {
+        if (request instanceof NativeWebRequest nativeRequest) {
+            HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            }
+        }
+        long lastModifiedMillis = lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return request.checkNotModified(etag, lastModifiedMillis);
+    }
+
+    private static long micros(LocalDateTime value) {
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), value);
+    }
+}
@@ -0,0 +1,44 @@
+package com.autotech.config;
+
+import com.autotech.role.service.PermissionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+
+/**
+ * Answers {@code hasPermission(...)} expressions from the in-memory permission matrix. The target
+ * is ignored: permissions are global per employee, e.g. {@code hasPermission(null, 'update_client')}.
+ * <p>
+ * Only an {@link EmployeePrincipal} identifies an employee. Any other principal is denied, whatever
+ * its name, so a principal whose name happens to parse as a number never borrows that employee's
+ * permissions.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeePermissionEvaluator implements PermissionEvaluator {
+
+    private final PermissionService permissionService;
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        Long employeeId = employeeId(authentication);
+        return employeeId != null && permission != null
+                && permissionService.hasPermission(employeeId, permission.toString());
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType,
+                                 Object permission) {
+        return hasPermission(authentication, null, permission);
+    }
+
+    private static Long employeeId(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getPrincipal() instanceof EmployeePrincipal employee ? employee.employeeId() : null;
+    }
+}
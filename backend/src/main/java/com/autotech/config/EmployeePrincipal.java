@@ -0,0 +1,17 @@
+package com.autotech.config;
+
+import java.security.Principal;
+
+/**
+ * The authenticated employee, as the authentication layer must put it in
+ * {@link org.springframework.security.core.Authentication#getPrincipal()} for permission checks
+ * to apply. Permissions are looked up by {@code employeeId}; {@code name} is only for display and
+ * logging.
+ */
+public record EmployeePrincipal(Long employeeId, String name) implements Principal {
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -1,14 +1,24 @@
 package com.autotech.employee.controller;
 
 import com.autotech.common.dto.ApiResponse;
+import com.autotech.common.dto.CursorPage;
+import com.autotech.common.dto.ExportJobResponse;
+import com.autotech.common.export.ExportFormat;
+import com.autotech.common.export.ExportJobService;
+import com.autotech.common.web.ConditionalGet;
+import com.autotech.employee.dto.BulkRoleAssignmentRequest;
+import com.autotech.employee.dto.BulkRoleAssignmentResponse;
+import com.autotech.employee.dto.BusyInterval;
 import com.autotech.employee.dto.EmployeeRequest;
 import com.autotech.employee.dto.EmployeeResponse;
 import com.autotech.employee.model.EmployeeStatus;
+import com.autotech.employee.service.EmployeeAvailabilityService;
 import com.autotech.employee.service.EmployeeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -22,7 +32,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -31,14 +44,27 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final ExportJobService exportJobService;
+    private final EmployeeAvailabilityService availabilityService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<Page<EmployeeResponse>>> getAll(Pageable pageable) {
         return ResponseEntity.ok(ApiResponse.success(employeeService.getAll(pageable)));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<EmployeeResponse>>> getAllByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+        return ResponseEntity.ok(ApiResponse.success(employeeService.getAllByCursor(cursor, size, sort)));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<EmployeeResponse>> getById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<EmployeeResponse>> getById(@PathVariable Long id, WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, employeeService.getLastModified(id))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(ApiResponse.success(employeeService.getById(id)));
     }
 
@@ -86,12 +112,59 @@ public class EmployeeController {
         return ResponseEntity.ok(ApiResponse.success("Roles actualizados", employeeService.assignRoles(id, roleIds)));
     }
 
+    @PutMapping("/roles")
+    public ResponseEntity<ApiResponse<BulkRoleAssignmentResponse>> bulkAssignRoles(
+            @Valid @RequestBody BulkRoleAssignmentRequest request) {
+        return ResponseEntity.ok(ApiResponse.success("Roles actualizados", employeeService.bulkAssignRoles(request)));
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<List<EmployeeResponse>>> findFreeEmployees(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long roleId) {
+        return ResponseEntity.ok(ApiResponse.success(availabilityService.findFreeEmployees(from, to, roleId)));
+    }
+
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<ApiResponse<List<BusyInterval>>> getBusyIntervals(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(ApiResponse.success(availabilityService.getBusyIntervals(id, from, to)));
+    }
+
     @GetMapping("/export/excel")
-    public ResponseEntity<byte[]> exportToExcel() {
-        byte[] file = employeeService.exportToExcel();
+    public ResponseEntity<StreamingResponseBody> exportToExcel() {
+        StreamingResponseBody body = exportJobService.stream("employees",
+                (out, progress) -> employeeService.export(ExportFormat.XLSX, false, out, progress));
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=empleados.xlsx")
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(file);
+                .body(body);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "xlsx") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = exportJobService.stream("employees",
+                (out, progress) -> employeeService.export(exportFormat, gzip, out, progress));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=" + exportFormat.filename("empleados", gzip))
+                .contentType(gzip ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType(exportFormat.contentType()))
+                .body(body);
+    }
+
+    @PostMapping("/export")
+    public ResponseEntity<ApiResponse<ExportJobResponse>> startExport(
+            @RequestParam(defaultValue = "xlsx") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ExportJobResponse job = exportJobService.submit("employees", exportFormat.filename("empleados", gzip),
+                (out, progress) -> employeeService.export(exportFormat, gzip, out, progress));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("Exportación iniciada", job));
     }
 }
@@ -0,0 +1,27 @@
+package com.autotech.employee.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkRoleAssignmentRequest(
+
+    @NotEmpty(message = "Debe indicar al menos un empleado")
+    @Size(max = 5000, message = "No se pueden actualizar más de 5000 empleados por solicitud")
+    List<@NotNull Long> employeeIds,
+
+    List<@NotNull Long> grantRoleIds,
+
+    List<@NotNull Long> revokeRoleIds
+) {
+
+    public List<Long> grants() {
+        return grantRoleIds == null ? List.of() : grantRoleIds;
+    }
+
+    public List<Long> revocations() {
+        return revokeRoleIds == null ? List.of() : revokeRoleIds;
+    }
+}
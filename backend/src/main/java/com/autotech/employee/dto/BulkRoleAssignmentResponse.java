@@ -0,0 +1,8 @@
+package com.autotech.employee.dto;
+
+public record BulkRoleAssignmentResponse(
+    int employees,
+    int granted,
+    int revoked,
+    int employeesChanged
+) {}
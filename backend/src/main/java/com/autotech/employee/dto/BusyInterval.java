@@ -0,0 +1,9 @@
+package com.autotech.employee.dto;
+
+import java.time.LocalDateTime;
+
+public record BusyInterval(
+    Long appointmentId,
+    LocalDateTime start,
+    LocalDateTime end
+) {}
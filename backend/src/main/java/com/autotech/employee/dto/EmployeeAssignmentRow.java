@@ -0,0 +1,10 @@
+package com.autotech.employee.dto;
+
+import java.time.LocalDateTime;
+
+public record EmployeeAssignmentRow(
+    Long employeeId,
+    Long appointmentId,
+    LocalDateTime start,
+    LocalDateTime end
+) {}
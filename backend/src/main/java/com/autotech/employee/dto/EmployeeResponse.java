@@ -24,4 +24,22 @@ public record EmployeeResponse(
     List<RoleResponse> roles,
     LocalDateTime createdAt,
     LocalDateTime updatedAt
-) {}
+) {
+
+    /**
+     * Used by JPQL constructor projections, which cannot select a collection. Roles are
+     * attached afterwards with {@link #withRoles(List)}.
+     */
+    public EmployeeResponse(Long id, String firstName, String lastName, String dni, String email, String phone,
+                            String address, String province, String country, String maritalStatus,
+                            Integer childrenCount, LocalDate entryDate, EmployeeStatus status,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, firstName, lastName, dni, email, phone, address, province, country, maritalStatus,
+                childrenCount, entryDate, status, List.of(), createdAt, updatedAt);
+    }
+
+    public EmployeeResponse withRoles(List<RoleResponse> roles) {
+        return new EmployeeResponse(id, firstName, lastName, dni, email, phone, address, province, country,
+                maritalStatus, childrenCount, entryDate, status, roles, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,8 @@
+package com.autotech.employee.dto;
+
+public record EmployeeRoleRow(
+    Long employeeId,
+    Long roleId,
+    String name,
+    String description
+) {}
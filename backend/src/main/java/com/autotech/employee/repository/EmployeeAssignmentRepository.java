@@ -0,0 +1,36 @@
+package com.autotech.employee.repository;
+
+import com.autotech.employee.dto.EmployeeAssignmentRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads which employees are booked on which appointments. Appointments have no entity yet,
+ * so this goes straight to {@code appointments} / {@code appointment_employees}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeAssignmentRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<EmployeeAssignmentRow> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query("""
+                SELECT ae.employee_id, a.id, a.start_time, a.end_time
+                FROM appointments a
+                JOIN appointment_employees ae ON ae.appointment_id = a.id
+                WHERE a.end_time > ? AND a.start_time < ?
+                """,
+                (rs, rowNum) -> new EmployeeAssignmentRow(
+                        rs.getLong(1),
+                        rs.getLong(2),
+                        rs.getTimestamp(3).toLocalDateTime(),
+                        rs.getTimestamp(4).toLocalDateTime()),
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+}
@@ -1,22 +1,50 @@
 package com.autotech.employee.repository;
 
+import com.autotech.employee.dto.EmployeeResponse;
+import com.autotech.employee.dto.EmployeeRoleRow;
 import com.autotech.employee.model.Employee;
 import com.autotech.employee.model.EmployeeStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+
+    String RESPONSE_SELECT = """
+        SELECT new com.autotech.employee.dto.EmployeeResponse(
+            e.id, e.firstName, e.lastName, e.dni, e.email, e.phone, e.address, e.province, e.country,
+            e.maritalStatus, e.childrenCount, e.entryDate, e.status, e.createdAt, e.updatedAt)
+        FROM Employee e
+    """;
+
+    // Role names are part of the response, so a renamed role is a new version too
+    @Query("""
+        SELECT GREATEST(e.updatedAt, COALESCE((SELECT MAX(r.updatedAt) FROM e.roles r), e.updatedAt))
+        FROM Employee e
+        WHERE e.id = :id
+    """)
+    Optional<LocalDateTime> findVersionById(@Param("id") Long id);
 
     boolean existsByDni(String dni);
 
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     boolean existsByDniAndIdNot(String dni, Long id);
 
     Optional<Employee> findByDni(String dni);
@@ -24,18 +52,53 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     @EntityGraph(attributePaths = {"roles"})
     Optional<Employee> findWithRolesById(Long id);
 
-    Page<Employee> findByStatus(EmployeeStatus status, Pageable pageable);
+    @EntityGraph(attributePaths = {"roles"})
+    List<Employee> findWithRolesByIdIn(Collection<Long> ids);
+
+    // --- Read-only projections: select straight into the response, no managed entities ---
+
+    @Query(value = RESPONSE_SELECT, countQuery = "SELECT COUNT(e) FROM Employee e")
+    Page<EmployeeResponse> findAllResponses(Pageable pageable);
+
+    @Query(value = RESPONSE_SELECT + " WHERE LOWER(e.dni) LIKE LOWER(CONCAT('%', :dni, '%'))",
+            countQuery = "SELECT COUNT(e) FROM Employee e WHERE LOWER(e.dni) LIKE LOWER(CONCAT('%', :dni, '%'))")
+    Page<EmployeeResponse> searchResponsesByDni(@Param("dni") String dni, Pageable pageable);
 
-    @Query("SELECT e FROM Employee e WHERE LOWER(e.dni) LIKE LOWER(CONCAT('%', :dni, '%'))")
-    Page<Employee> searchByDni(@Param("dni") String dni, Pageable pageable);
+    @Query(value = RESPONSE_SELECT + " WHERE e.status = :status",
+            countQuery = "SELECT COUNT(e) FROM Employee e WHERE e.status = :status")
+    Page<EmployeeResponse> findResponsesByStatus(@Param("status") EmployeeStatus status, Pageable pageable);
+
+    @Query(value = RESPONSE_SELECT + " WHERE EXISTS (SELECT 1 FROM e.roles r WHERE r.id = :roleId)",
+            countQuery = "SELECT COUNT(e) FROM Employee e WHERE EXISTS (SELECT 1 FROM e.roles r WHERE r.id = :roleId)")
+    Page<EmployeeResponse> findResponsesByRoleId(@Param("roleId") Long roleId, Pageable pageable);
+
+    @Query(RESPONSE_SELECT + """
+        WHERE e.status = :status
+          AND (:roleId IS NULL OR EXISTS (SELECT 1 FROM e.roles r WHERE r.id = :roleId))
+        ORDER BY e.lastName, e.firstName
+    """)
+    List<EmployeeResponse> findResponsesByStatusAndOptionalRole(
+            @Param("status") EmployeeStatus status,
+            @Param("roleId") Long roleId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESPONSE_SELECT + " ORDER BY e.id")
+    Stream<EmployeeResponse> streamAllResponses();
 
     @Query("""
-        SELECT DISTINCT e FROM Employee e
+        SELECT new com.autotech.employee.dto.EmployeeRoleRow(e.id, r.id, r.name, r.description)
+        FROM Employee e
         JOIN e.roles r
-        WHERE r.id = :roleId
+        ORDER BY r.name
     """)
-    Page<Employee> findByRoleId(@Param("roleId") Long roleId, Pageable pageable);
+    List<EmployeeRoleRow> findAllRoleRows();
 
-    @EntityGraph(attributePaths = {"roles"})
-    Page<Employee> findAll(Pageable pageable);
+    @Query("""
+        SELECT new com.autotech.employee.dto.EmployeeRoleRow(e.id, r.id, r.name, r.description)
+        FROM Employee e
+        JOIN e.roles r
+        WHERE e.id IN :employeeIds
+        ORDER BY r.name
+    """)
+    List<EmployeeRoleRow> findRoleRowsByEmployeeIdIn(@Param("employeeIds") Collection<Long> employeeIds);
 }
@@ -0,0 +1,82 @@
+package com.autotech.employee.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based writes on {@code employee_roles}. Each statement covers every employee/role pair
+ * of a bulk request and touches only rows that actually change; the affected employee ids are
+ * returned so callers can refresh what depends on them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeRoleBatchRepository {
+
+    private static final String GRANT_SQL = """
+            INSERT INTO employee_roles (employee_id, role_id)
+            SELECT e.id, r.id
+            FROM unnest(?) AS e(id)
+            CROSS JOIN unnest(?) AS r(id)
+            ON CONFLICT DO NOTHING
+            RETURNING employee_id
+            """;
+
+    private static final String REVOKE_SQL = """
+            DELETE FROM employee_roles
+            WHERE employee_id = ANY(?) AND role_id = ANY(?)
+            RETURNING employee_id
+            """;
+
+    private static final String TOUCH_SQL = "UPDATE employees SET updated_at = ? WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Grants every role to every employee. Returns one employee id per inserted row.
+     */
+    public List<Long> grant(Collection<Long> employeeIds, Collection<Long> roleIds) {
+        return changedEmployees(GRANT_SQL, employeeIds, roleIds);
+    }
+
+    /**
+     * Revokes every role from every employee. Returns one employee id per deleted row.
+     */
+    public List<Long> revoke(Collection<Long> employeeIds, Collection<Long> roleIds) {
+        return changedEmployees(REVOKE_SQL, employeeIds, roleIds);
+    }
+
+    public void touch(Collection<Long> employeeIds) {
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(TOUCH_SQL);
+            ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+            ps.setArray(2, bigintArray(connection, employeeIds));
+            return ps;
+        });
+    }
+
+    private List<Long> changedEmployees(String sql, Collection<Long> employeeIds, Collection<Long> roleIds) {
+        if (employeeIds.isEmpty() || roleIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setArray(1, bigintArray(connection, employeeIds));
+            ps.setArray(2, bigintArray(connection, roleIds));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    private static Array bigintArray(Connection connection, Collection<Long> ids) throws SQLException {
+        return connection.createArrayOf("bigint", ids.toArray());
+    }
+}
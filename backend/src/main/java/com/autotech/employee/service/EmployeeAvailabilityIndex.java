@@ -0,0 +1,187 @@
+package com.autotech.employee.service;
+
+import com.autotech.employee.dto.BusyInterval;
+import com.autotech.employee.dto.EmployeeAssignmentRow;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * In-process busy calendar of every employee over a rolling window, one {@link IntervalTree}
+ * per employee.
+ * <p>
+ * Reads never lock: each employee's tree is immutable and replaced as a whole. Writes are
+ * serialized, and writes that land while a rebuild is loading are journaled and replayed onto
+ * the fresh state before it is swapped in, so they are not lost. Wall-clock times are stored as
+ * epoch seconds using a fixed {@link ZoneOffset#UTC} offset, independent of the JVM zone.
+ */
+@Component
+public class EmployeeAvailabilityIndex {
+
+    private final Object writeLock = new Object();
+    private final Object rebuildLock = new Object();
+    private volatile State state = State.EMPTY;
+    // Non-null while a rebuild is loading; guarded by writeLock
+    private List<Consumer<State>> journal;
+
+    public boolean covers(LocalDateTime from, LocalDateTime to) {
+        State current = state;
+        return current.loaded && !from.isBefore(current.windowStart) && !to.isAfter(current.windowEnd);
+    }
+
+    public boolean isFree(Long employeeId, LocalDateTime from, LocalDateTime to) {
+        IntervalTree tree = state.byEmployee.get(employeeId);
+        return tree == null || !tree.overlaps(seconds(from), seconds(to));
+    }
+
+    public List<BusyInterval> busy(Long employeeId, LocalDateTime from, LocalDateTime to) {
+        IntervalTree tree = state.byEmployee.get(employeeId);
+        if (tree == null) {
+            return List.of();
+        }
+        return tree.overlapping(seconds(from), seconds(to)).stream()
+                .map(interval -> new BusyInterval(interval.id(), dateTime(interval.start()), dateTime(interval.end())))
+                .toList();
+    }
+
+    public List<Long> freeAmong(Collection<Long> employeeIds, LocalDateTime from, LocalDateTime to) {
+        State current = state;
+        long start = seconds(from);
+        long end = seconds(to);
+        List<Long> free = new ArrayList<>(employeeIds.size());
+        for (Long employeeId : employeeIds) {
+            IntervalTree tree = current.byEmployee.get(employeeId);
+            if (tree == null || !tree.overlaps(start, end)) {
+                free.add(employeeId);
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Replaces the whole index with the given assignments, which must cover
+     * {@code [windowStart, windowEnd)}.
+     */
+    public void rebuild(List<EmployeeAssignmentRow> assignments, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        rebuild(() -> assignments, windowStart, windowEnd);
+    }
+
+    /**
+     * Replaces the whole index with the assignments returned by {@code loader}. Appointment writes
+     * made while the loader runs are applied to the current index as usual and replayed onto the
+     * fresh one right before the swap.
+     */
+    public void rebuild(Supplier<List<EmployeeAssignmentRow>> loader, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        synchronized (rebuildLock) {
+            synchronized (writeLock) {
+                journal = new ArrayList<>();
+            }
+            try {
+                State fresh = load(loader.get(), windowStart, windowEnd);
+                synchronized (writeLock) {
+                    journal.forEach(write -> write.accept(fresh));
+                    state = fresh;
+                }
+            } finally {
+                synchronized (writeLock) {
+                    journal = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a created or rescheduled appointment, replacing any previous version of it.
+     */
+    public void putAppointment(Long appointmentId, Collection<Long> employeeIds, LocalDateTime start, LocalDateTime end) {
+        IntervalTree.Interval interval = new IntervalTree.Interval(appointmentId, seconds(start), seconds(end));
+        write(current -> putAppointment(current, interval, employeeIds));
+    }
+
+    public void removeAppointment(Long appointmentId) {
+        write(current -> removeAppointment(current, appointmentId));
+    }
+
+    private void write(Consumer<State> write) {
+        synchronized (writeLock) {
+            write.accept(state);
+            if (journal != null) {
+                journal.add(write);
+            }
+        }
+    }
+
+    private static State load(List<EmployeeAssignmentRow> assignments, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        Map<Long, List<IntervalTree.Interval>> intervals = new HashMap<>();
+        Map<Long, Set<Long>> employeesByAppointment = new HashMap<>();
+        for (EmployeeAssignmentRow row : assignments) {
+            intervals.computeIfAbsent(row.employeeId(), id -> new ArrayList<>())
+                    .add(new IntervalTree.Interval(row.appointmentId(), seconds(row.start()), seconds(row.end())));
+            employeesByAppointment.computeIfAbsent(row.appointmentId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(row.employeeId());
+        }
+        State fresh = new State(windowStart, windowEnd, true);
+        intervals.forEach((employeeId, list) -> fresh.byEmployee.put(employeeId, IntervalTree.of(list)));
+        fresh.employeesByAppointment.putAll(employeesByAppointment);
+        return fresh;
+    }
+
+    private static void putAppointment(State current, IntervalTree.Interval interval, Collection<Long> employeeIds) {
+        removeAppointment(current, interval.id());
+        for (Long employeeId : employeeIds) {
+            current.byEmployee.merge(employeeId, IntervalTree.of(List.of(interval)),
+                    (existing, added) -> existing.with(interval));
+        }
+        Set<Long> employees = ConcurrentHashMap.newKeySet();
+        employees.addAll(employeeIds);
+        current.employeesByAppointment.put(interval.id(), employees);
+    }
+
+    private static void removeAppointment(State current, Long appointmentId) {
+        Set<Long> employees = current.employeesByAppointment.remove(appointmentId);
+        if (employees == null) {
+            return;
+        }
+        for (Long employeeId : employees) {
+            current.byEmployee.computeIfPresent(employeeId, (id, tree) -> {
+                IntervalTree updated = tree.without(appointmentId);
+                return updated.isEmpty() ? null : updated;
+            });
+        }
+    }
+
+    private static long seconds(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime dateTime(long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+
+    private static final class State {
+
+        private static final State EMPTY = new State(LocalDateTime.MIN, LocalDateTime.MIN, false);
+
+        private final ConcurrentHashMap<Long, IntervalTree> byEmployee = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, Set<Long>> employeesByAppointment = new ConcurrentHashMap<>();
+        private final LocalDateTime windowStart;
+        private final LocalDateTime windowEnd;
+        private final boolean loaded;
+
+        private State(LocalDateTime windowStart, LocalDateTime windowEnd, boolean loaded) {
+            this.windowStart = windowStart;
+            this.windowEnd = windowEnd;
+            this.loaded = loaded;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.autotech.employee.service;
+
+import com.autotech.employee.dto.BusyInterval;
+import com.autotech.employee.dto.EmployeeResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmployeeAvailabilityService {
+
+    List<EmployeeResponse> findFreeEmployees(LocalDateTime from, LocalDateTime to, Long roleId);
+
+    List<BusyInterval> getBusyIntervals(Long employeeId, LocalDateTime from, LocalDateTime to);
+
+    void recordAppointment(Long appointmentId, Collection<Long> employeeIds, LocalDateTime start, LocalDateTime end);
+
+    void removeAppointment(Long appointmentId);
+
+    void refreshIndex();
+}
@@ -0,0 +1,134 @@
+package com.autotech.employee.service;
+
+import com.autotech.common.exception.ResourceNotFoundException;
+import com.autotech.common.transaction.TransactionCallbacks;
+import com.autotech.employee.dto.BusyInterval;
+import com.autotech.employee.dto.EmployeeResponse;
+import com.autotech.employee.model.EmployeeStatus;
+import com.autotech.employee.repository.EmployeeAssignmentRepository;
+import com.autotech.employee.repository.EmployeeRepository;
+import com.autotech.role.dto.RoleResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Answers free/busy questions from {@link EmployeeAvailabilityIndex}, which holds every
+ * appointment of a rolling window around today. The window is reloaded periodically and kept
+ * current in between through {@link #recordAppointment} / {@link #removeAppointment}. Ranges
+ * outside the window are answered from a one-off index built for just that range.
+ */
+@Slf4j
+@Service
+public class EmployeeAvailabilityServiceImpl implements EmployeeAvailabilityService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeAssignmentRepository assignmentRepository;
+    private final EmployeeAvailabilityIndex index;
+    private final Duration lookBack;
+    private final Duration lookAhead;
+
+    public EmployeeAvailabilityServiceImpl(
+            EmployeeRepository employeeRepository,
+            EmployeeAssignmentRepository assignmentRepository,
+            EmployeeAvailabilityIndex index,
+            @Value("${autotech.availability.look-back:P1D}") Duration lookBack,
+            @Value("${autotech.availability.look-ahead:P60D}") Duration lookAhead) {
+        this.employeeRepository = employeeRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.index = index;
+        this.lookBack = lookBack;
+        this.lookAhead = lookAhead;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> findFreeEmployees(LocalDateTime from, LocalDateTime to, Long roleId) {
+        validateRange(from, to);
+        log.debug("Finding free employees between {} and {}, role: {}", from, to, roleId);
+        List<EmployeeResponse> candidates = employeeRepository.findResponsesByStatusAndOptionalRole(
+                EmployeeStatus.ACTIVO, roleId);
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<Long> candidateIds = candidates.stream().map(EmployeeResponse::id).toList();
+        Set<Long> freeIds = new HashSet<>(indexFor(from, to).freeAmong(candidateIds, from, to));
+        List<EmployeeResponse> free = candidates.stream()
+                .filter(employee -> freeIds.contains(employee.id()))
+                .toList();
+        if (free.isEmpty()) {
+            return free;
+        }
+
+        Map<Long, List<RoleResponse>> rolesByEmployee = EmployeeServiceImpl.groupRoles(
+                employeeRepository.findRoleRowsByEmployeeIdIn(free.stream().map(EmployeeResponse::id).toList()));
+        return free.stream()
+                .map(employee -> employee.withRoles(rolesByEmployee.getOrDefault(employee.id(), List.of())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BusyInterval> getBusyIntervals(Long employeeId, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        if (!employeeRepository.existsById(employeeId)) {
+            throw new ResourceNotFoundException("Empleado", employeeId);
+        }
+        return indexFor(from, to).busy(employeeId, from, to);
+    }
+
+    @Override
+    public void recordAppointment(Long appointmentId, Collection<Long> employeeIds,
+                                  LocalDateTime start, LocalDateTime end) {
+        List<Long> employees = List.copyOf(employeeIds);
+        TransactionCallbacks.afterCommit(() -> index.putAppointment(appointmentId, employees, start, end));
+    }
+
+    @Override
+    public void removeAppointment(Long appointmentId) {
+        TransactionCallbacks.afterCommit(() -> index.removeAppointment(appointmentId));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${autotech.availability.refresh-interval:PT15M}",
+            fixedDelayString = "${autotech.availability.refresh-interval:PT15M}")
+    public void refreshIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowStart = now.minus(lookBack);
+        LocalDateTime windowEnd = now.plus(lookAhead);
+        long startedAt = System.nanoTime();
+        index.rebuild(() -> assignmentRepository.findOverlapping(windowStart, windowEnd), windowStart, windowEnd);
+        log.info("Employee availability index loaded for {} to {} in {} ms",
+                windowStart, windowEnd, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+    }
+
+    private EmployeeAvailabilityIndex indexFor(LocalDateTime from, LocalDateTime to) {
+        if (index.covers(from, to)) {
+            return index;
+        }
+        log.debug("Range {} - {} is outside the availability window, loading it from the database", from, to);
+        EmployeeAvailabilityIndex adHoc = new EmployeeAvailabilityIndex();
+        adHoc.rebuild(assignmentRepository.findOverlapping(from, to), from, to);
+        return adHoc;
+    }
+
+    private static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("El inicio del rango debe ser anterior al fin");
+        }
+    }
+}
@@ -1,19 +1,30 @@
 package com.autotech.employee.service;
 
+import com.autotech.common.dto.CursorPage;
+import com.autotech.common.export.ExportFormat;
+import com.autotech.common.export.ExportProgress;
+import com.autotech.employee.dto.BulkRoleAssignmentRequest;
+import com.autotech.employee.dto.BulkRoleAssignmentResponse;
 import com.autotech.employee.dto.EmployeeRequest;
 import com.autotech.employee.dto.EmployeeResponse;
 import com.autotech.employee.model.EmployeeStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface EmployeeService {
 
     Page<EmployeeResponse> getAll(Pageable pageable);
 
+    CursorPage<EmployeeResponse> getAllByCursor(String cursor, int size, String sort);
+
     EmployeeResponse getById(Long id);
 
+    LocalDateTime getLastModified(Long id);
+
     EmployeeResponse create(EmployeeRequest request);
 
     EmployeeResponse update(Long id, EmployeeRequest request);
@@ -28,5 +39,7 @@ public interface EmployeeService {
 
     EmployeeResponse assignRoles(Long employeeId, List<Long> roleIds);
 
-    byte[] exportToExcel();
+    BulkRoleAssignmentResponse bulkAssignRoles(BulkRoleAssignmentRequest request);
+
+    void export(ExportFormat format, boolean gzip, OutputStream out, ExportProgress progress);
 }
@@ -1,51 +1,95 @@
 package com.autotech.employee.service;
 
+import com.autotech.common.dto.CursorPage;
 import com.autotech.common.exception.DuplicateResourceException;
 import com.autotech.common.exception.ResourceNotFoundException;
+import com.autotech.common.export.ExportEngine;
+import com.autotech.common.export.ExportFormat;
+import com.autotech.common.export.ExportProgress;
+import com.autotech.common.export.ExportSchema;
+import com.autotech.common.pagination.KeysetPageRequest;
+import com.autotech.employee.dto.BulkRoleAssignmentRequest;
+import com.autotech.employee.dto.BulkRoleAssignmentResponse;
 import com.autotech.employee.dto.EmployeeMapper;
 import com.autotech.employee.dto.EmployeeRequest;
 import com.autotech.employee.dto.EmployeeResponse;
+import com.autotech.employee.dto.EmployeeRoleRow;
 import com.autotech.employee.model.Employee;
 import com.autotech.employee.model.EmployeeStatus;
 import com.autotech.employee.repository.EmployeeRepository;
+import com.autotech.employee.repository.EmployeeRoleBatchRepository;
+import com.autotech.role.dto.RoleResponse;
 import com.autotech.role.model.Role;
 import com.autotech.role.repository.RoleRepository;
+import com.autotech.role.service.PermissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.Font;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
 
+    private static final ExportSchema<EmployeeResponse> EXPORT_SCHEMA = ExportSchema.<EmployeeResponse>builder("Empleados")
+            .column("dni", "DNI", 14, EmployeeResponse::dni)
+            .column("fullName", "Nombre Completo", 35, employee -> employee.firstName() + " " + employee.lastName())
+            .column("phone", "Teléfono", 16, EmployeeResponse::phone)
+            .column("email", "Email", 30, EmployeeResponse::email)
+            .column("status", "Estado", 12, EmployeeResponse::status)
+            .column("roles", "Roles", 40, employee -> employee.roles().stream()
+                    .map(RoleResponse::name)
+                    .collect(Collectors.joining(", ")))
+            .build();
+
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
     private final RoleRepository roleRepository;
+    private final PermissionService permissionService;
+    private final ExportEngine exportEngine;
+    private final EmployeeRoleBatchRepository employeeRoleBatchRepository;
 
     @Override
     @Transactional(readOnly = true)
     public Page<EmployeeResponse> getAll(Pageable pageable) {
         log.debug("Fetching all employees, page: {}", pageable.getPageNumber());
-        return employeeRepository.findAll(pageable)
-                .map(employeeMapper::toResponse);
+        return withRoles(employeeRepository.findAllResponses(pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EmployeeResponse> getAllByCursor(String cursor, int size, String sort) {
+        KeysetPageRequest request = KeysetPageRequest.of(cursor, size, sort);
+        List<Employee> rows = employeeRepository.findBy(request.<Employee>seek(),
+                query -> query.sortBy(request.sort()).limit(request.fetchSize()).all());
+        if (rows.isEmpty()) {
+            return request.toPage(rows, employeeMapper::toResponse);
+        }
+
+        // Roles are a collection: fetching them in the seek query would make Hibernate paginate
+        // in memory, so they are loaded for the whole page in a second query instead
+        Map<Long, Employee> withRoles = employeeRepository
+                .findWithRolesByIdIn(rows.stream().map(Employee::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        List<Employee> ordered = rows.stream().map(employee -> withRoles.get(employee.getId())).toList();
+        return request.toPage(ordered, employeeMapper::toResponse);
     }
 
     @Override
@@ -57,6 +101,12 @@ public class EmployeeServiceImpl implements EmployeeService {
         return employeeMapper.toResponse(employee);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDateTime getLastModified(Long id) {
+        return employeeRepository.findVersionById(id).orElse(null);
+    }
+
     @Override
     @Transactional
     public EmployeeResponse create(EmployeeRequest request) {
@@ -71,6 +121,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         employee.setRoles(roles);
 
         Employee saved = employeeRepository.save(employee);
+        permissionService.refreshEmployee(saved.getId());
         log.info("Employee created with id: {}", saved.getId());
         return employeeMapper.toResponse(saved);
     }
@@ -103,8 +154,11 @@ public class EmployeeServiceImpl implements EmployeeService {
         Set<Role> roles = resolveRoles(request.roleIds());
         employee.getRoles().clear();
         employee.getRoles().addAll(roles);
+        // Role changes only touch employee_roles; bump updatedAt so conditional GETs see a new version
+        employee.setUpdatedAt(LocalDateTime.now());
 
         Employee saved = employeeRepository.save(employee);
+        permissionService.refreshEmployee(saved.getId());
         log.info("Employee updated with id: {}", saved.getId());
         return employeeMapper.toResponse(saved);
     }
@@ -116,6 +170,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Empleado", id));
         employeeRepository.delete(employee);
+        permissionService.refreshEmployee(id);
         log.info("Employee deleted with id: {}", id);
     }
 
@@ -123,24 +178,21 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Transactional(readOnly = true)
     public Page<EmployeeResponse> searchByDni(String dni, Pageable pageable) {
         log.debug("Searching employees by DNI: {}", dni);
-        return employeeRepository.searchByDni(dni, pageable)
-                .map(employeeMapper::toResponse);
+        return withRoles(employeeRepository.searchResponsesByDni(dni, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EmployeeResponse> filterByStatus(EmployeeStatus status, Pageable pageable) {
         log.debug("Filtering employees by status: {}", status);
-        return employeeRepository.findByStatus(status, pageable)
-                .map(employeeMapper::toResponse);
+        return withRoles(employeeRepository.findResponsesByStatus(status, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<EmployeeResponse> filterByRole(Long roleId, Pageable pageable) {
         log.debug("Filtering employees by role id: {}", roleId);
-        return employeeRepository.findByRoleId(roleId, pageable)
-                .map(employeeMapper::toResponse);
+        return withRoles(employeeRepository.findResponsesByRoleId(roleId, pageable));
     }
 
     @Override
@@ -151,62 +203,96 @@ public class EmployeeServiceImpl implements EmployeeService {
         Employee employee = employeeRepository.findWithRolesById(employeeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Empleado", employeeId));
 
+        // retainAll + addAll leaves unchanged join rows alone; clear() would rewrite all of them
         Set<Role> roles = resolveRoles(roleIds);
-        employee.getRoles().clear();
+        employee.getRoles().retainAll(roles);
         employee.getRoles().addAll(roles);
+        employee.setUpdatedAt(LocalDateTime.now());
 
         Employee saved = employeeRepository.save(employee);
+        permissionService.refreshEmployee(employeeId);
         log.info("Roles assigned to employee {}", employeeId);
         return employeeMapper.toResponse(saved);
     }
 
+    @Override
+    @Transactional
+    public BulkRoleAssignmentResponse bulkAssignRoles(BulkRoleAssignmentRequest request) {
+        Set<Long> employeeIds = new LinkedHashSet<>(request.employeeIds());
+        Set<Long> grants = new LinkedHashSet<>(request.grants());
+        Set<Long> revocations = new LinkedHashSet<>(request.revocations());
+        if (grants.isEmpty() && revocations.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicar al menos un rol para asignar o quitar");
+        }
+        if (grants.stream().anyMatch(revocations::contains)) {
+            throw new IllegalArgumentException("Un rol no puede asignarse y quitarse en la misma solicitud");
+        }
+        log.info("Bulk role update for {} employees: grant {}, revoke {}", employeeIds.size(), grants, revocations);
+
+        requireAllFound(employeeIds, employeeRepository.findExistingIds(employeeIds), "el empleado");
+        Set<Long> roleIds = new LinkedHashSet<>(grants);
+        roleIds.addAll(revocations);
+        requireAllFound(roleIds, roleRepository.findExistingIds(roleIds), "el rol");
+
+        List<Long> revoked = employeeRoleBatchRepository.revoke(employeeIds, revocations);
+        List<Long> granted = employeeRoleBatchRepository.grant(employeeIds, grants);
+
+        Set<Long> changed = new HashSet<>(revoked);
+        changed.addAll(granted);
+        if (!changed.isEmpty()) {
+            employeeRoleBatchRepository.touch(changed);
+            permissionService.invalidate();
+        }
+        log.info("Bulk role update done: {} granted, {} revoked, {} employees changed",
+                granted.size(), revoked.size(), changed.size());
+        return new BulkRoleAssignmentResponse(employeeIds.size(), granted.size(), revoked.size(), changed.size());
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public byte[] exportToExcel() {
-        log.info("Exporting employees to Excel");
-        List<Employee> employees = employeeRepository.findAll();
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Empleados");
-
-            Font headerFont = workbook.createFont();
-            headerFont.setBold(true);
-            CellStyle headerStyle = workbook.createCellStyle();
-            headerStyle.setFont(headerFont);
-
-            Row headerRow = sheet.createRow(0);
-            String[] headers = {"DNI", "Nombre Completo", "Teléfono", "Email", "Estado", "Roles"};
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
-
-            int rowIdx = 1;
-            for (Employee employee : employees) {
-                Row row = sheet.createRow(rowIdx++);
-                row.createCell(0).setCellValue(employee.getDni());
-                row.createCell(1).setCellValue(employee.getFirstName() + " " + employee.getLastName());
-                row.createCell(2).setCellValue(employee.getPhone());
-                row.createCell(3).setCellValue(employee.getEmail() != null ? employee.getEmail() : "");
-                row.createCell(4).setCellValue(employee.getStatus().name());
-                String roleNames = employee.getRoles().stream()
-                        .map(Role::getName)
-                        .collect(Collectors.joining(", "));
-                row.createCell(5).setCellValue(roleNames);
-            }
-
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            workbook.write(out);
-            return out.toByteArray();
+    public void export(ExportFormat format, boolean gzip, OutputStream out, ExportProgress progress) {
+        log.info("Exporting employees as {}", format);
+        Map<Long, List<RoleResponse>> rolesByEmployee = groupRoles(employeeRepository.findAllRoleRows());
+        progress.setTotal(employeeRepository.count());
+        try (Stream<EmployeeResponse> employees = employeeRepository.streamAllResponses()) {
+            Stream<EmployeeResponse> rows = employees
+                    .map(employee -> employee.withRoles(rolesByEmployee.getOrDefault(employee.id(), List.of())));
+            long written = exportEngine.write(EXPORT_SCHEMA, rows, format, gzip, out, progress);
+            log.info("Exported {} employees as {}", written, format);
         } catch (IOException e) {
-            log.error("Error exporting employees to Excel", e);
-            throw new RuntimeException("Error al exportar empleados a Excel", e);
+            log.error("Error exporting employees", e);
+            throw new RuntimeException("Error al exportar empleados", e);
+        }
+    }
+
+    /**
+     * Attaches roles to a projected page with a single query over the page's employee ids.
+     */
+    private Page<EmployeeResponse> withRoles(Page<EmployeeResponse> page) {
+        if (page.isEmpty()) {
+            return page;
+        }
+        List<Long> ids = page.getContent().stream().map(EmployeeResponse::id).toList();
+        Map<Long, List<RoleResponse>> rolesByEmployee = groupRoles(employeeRepository.findRoleRowsByEmployeeIdIn(ids));
+        return page.map(employee -> employee.withRoles(rolesByEmployee.getOrDefault(employee.id(), List.of())));
+    }
+
+    static Map<Long, List<RoleResponse>> groupRoles(List<EmployeeRoleRow> rows) {
+        return rows.stream()
+                .collect(Collectors.groupingBy(
+                        EmployeeRoleRow::employeeId,
+                        Collectors.mapping(
+                                row -> new RoleResponse(row.roleId(), row.name(), row.description()),
+                                Collectors.toList())));
+    }
+
+    private static void requireAllFound(Collection<Long> requested, Collection<Long> found, String entity) {
+        if (found.size() == requested.size()) {
+            return;
         }
+        Set<Long> foundIds = new HashSet<>(found);
+        Long missing = requested.stream().filter(id -> !foundIds.contains(id)).findFirst().orElseThrow();
+        throw new ResourceNotFoundException("No se encontró " + entity + " con ID " + missing);
     }
 
     private Set<Role> resolveRoles(List<Long> roleIds) {
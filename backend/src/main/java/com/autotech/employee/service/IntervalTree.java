@@ -0,0 +1,115 @@
+package com.autotech.employee.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable interval tree over half-open {@code [start, end)} intervals.
+ * <p>
+ * Intervals are kept sorted by start and read as an implicit balanced BST (the root of
+ * {@code [lo, hi)} is the middle element), with each node storing the largest end in its
+ * subtree. An overlap check is O(log n) and listing overlaps is O(log n + k). Updates rebuild
+ * the tree, which is cheap at the size of one employee's schedule.
+ */
+final class IntervalTree {
+
+    static final IntervalTree EMPTY = new IntervalTree(new Interval[0]);
+
+    record Interval(long id, long start, long end) {}
+
+    private final Interval[] intervals;
+    private final long[] maxEnd;
+
+    private IntervalTree(Interval[] sorted) {
+        this.intervals = sorted;
+        this.maxEnd = new long[sorted.length];
+        augment(0, sorted.length);
+    }
+
+    static IntervalTree of(List<Interval> intervals) {
+        if (intervals.isEmpty()) {
+            return EMPTY;
+        }
+        Interval[] sorted = intervals.toArray(Interval[]::new);
+        Arrays.sort(sorted, Comparator.comparingLong(Interval::start).thenComparingLong(Interval::end));
+        return new IntervalTree(sorted);
+    }
+
+    IntervalTree with(Interval interval) {
+        List<Interval> all = new ArrayList<>(intervals.length + 1);
+        for (Interval existing : intervals) {
+            if (existing.id() != interval.id()) {
+                all.add(existing);
+            }
+        }
+        all.add(interval);
+        return of(all);
+    }
+
+    IntervalTree without(long id) {
+        return of(Arrays.stream(intervals).filter(interval -> interval.id() != id).toList());
+    }
+
+    boolean isEmpty() {
+        return intervals.length == 0;
+    }
+
+    boolean overlaps(long from, long to) {
+        return anyOverlap(0, intervals.length, from, to);
+    }
+
+    List<Interval> overlapping(long from, long to) {
+        List<Interval> result = new ArrayList<>();
+        collect(0, intervals.length, from, to, result);
+        return result;
+    }
+
+    private long augment(int lo, int hi) {
+        if (lo >= hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(intervals[mid].end(), Math.max(augment(lo, mid), augment(mid + 1, hi)));
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private boolean anyOverlap(int lo, int hi, long from, long to) {
+        if (lo >= hi) {
+            return false;
+        }
+        int mid = (lo + hi) >>> 1;
+        // Nothing in this subtree ends after the range starts
+        if (maxEnd[mid] <= from) {
+            return false;
+        }
+        if (anyOverlap(lo, mid, from, to)) {
+            return true;
+        }
+        // This node and everything to its right start after the range ends
+        if (intervals[mid].start() >= to) {
+            return false;
+        }
+        return intervals[mid].end() > from || anyOverlap(mid + 1, hi, from, to);
+    }
+
+    private void collect(int lo, int hi, long from, long to, List<Interval> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid] <= from) {
+            return;
+        }
+        collect(lo, mid, from, to, result);
+        if (intervals[mid].start() >= to) {
+            return;
+        }
+        if (intervals[mid].end() > from) {
+            result.add(intervals[mid]);
+        }
+        collect(mid + 1, hi, from, to, result);
+    }
+}
@@ -0,0 +1,6 @@
+package com.autotech.role.dto;
+
+public record EmployeeRoleLink(
+    Long employeeId,
+    Long roleId
+) {}
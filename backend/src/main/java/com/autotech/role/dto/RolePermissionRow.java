@@ -0,0 +1,6 @@
+package com.autotech.role.dto;
+
+public record RolePermissionRow(
+    Long roleId,
+    String code
+) {}
@@ -0,0 +1,51 @@
+package com.autotech.role.repository;
+
+import com.autotech.role.dto.EmployeeRoleLink;
+import com.autotech.role.dto.RolePermissionRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Plain JDBC reads for the permission matrix. {@code permissions}, {@code role_permissions} and
+ * {@code employee_roles} are only ever read as whole tables of ids, so there is no entity for them.
+ * Inactive employees are left out: they hold no permissions.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PermissionMatrixRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<String> findAllPermissionCodes() {
+        return jdbcTemplate.queryForList("SELECT code FROM permissions ORDER BY id", String.class);
+    }
+
+    public List<RolePermissionRow> findAllRolePermissions() {
+        return jdbcTemplate.query("""
+                SELECT rp.role_id, p.code
+                FROM role_permissions rp
+                JOIN permissions p ON p.id = rp.permission_id
+                """, (rs, rowNum) -> new RolePermissionRow(rs.getLong(1), rs.getString(2)));
+    }
+
+    public List<EmployeeRoleLink> findActiveEmployeeRoles() {
+        return jdbcTemplate.query("""
+                SELECT er.employee_id, er.role_id
+                FROM employee_roles er
+                JOIN employees e ON e.id = er.employee_id
+                WHERE e.status = 'ACTIVO'
+                """, (rs, rowNum) -> new EmployeeRoleLink(rs.getLong(1), rs.getLong(2)));
+    }
+
+    public List<Long> findActiveRoleIdsByEmployeeId(Long employeeId) {
+        return jdbcTemplate.queryForList("""
+                SELECT er.role_id
+                FROM employee_roles er
+                JOIN employees e ON e.id = er.employee_id
+                WHERE e.status = 'ACTIVO' AND er.employee_id = ?
+                """, Long.class, employeeId);
+    }
+}
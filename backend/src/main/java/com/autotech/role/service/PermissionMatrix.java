@@ -0,0 +1,109 @@
+package com.autotech.role.service;
+
+import com.autotech.role.dto.EmployeeRoleLink;
+import com.autotech.role.dto.RolePermissionRow;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of who may do what.
+ * <p>
+ * Every permission code gets a bit position. Each role is a bitset of its permissions and each
+ * employee the union of the bitsets of their roles, so a check is two hash lookups and a bit
+ * test. Bitsets are never mutated after construction; updates build a new snapshot.
+ */
+final class PermissionMatrix {
+
+    private final String[] codes;
+    private final Map<String, Integer> bitByCode;
+    private final Map<Long, BitSet> byRole;
+    private final Map<Long, BitSet> byEmployee;
+
+    private PermissionMatrix(String[] codes, Map<String, Integer> bitByCode,
+                             Map<Long, BitSet> byRole, Map<Long, BitSet> byEmployee) {
+        this.codes = codes;
+        this.bitByCode = bitByCode;
+        this.byRole = byRole;
+        this.byEmployee = byEmployee;
+    }
+
+    static PermissionMatrix build(List<String> permissionCodes, List<RolePermissionRow> rolePermissions,
+                                  List<EmployeeRoleLink> employeeRoles) {
+        String[] codes = permissionCodes.toArray(String[]::new);
+        Map<String, Integer> bitByCode = HashMap.newHashMap(codes.length);
+        for (int i = 0; i < codes.length; i++) {
+            bitByCode.put(codes[i], i);
+        }
+
+        Map<Long, BitSet> byRole = new HashMap<>();
+        for (RolePermissionRow row : rolePermissions) {
+            Integer bit = bitByCode.get(row.code());
+            if (bit != null) {
+                byRole.computeIfAbsent(row.roleId(), id -> new BitSet(codes.length)).set(bit);
+            }
+        }
+
+        Map<Long, BitSet> byEmployee = new HashMap<>();
+        for (EmployeeRoleLink link : employeeRoles) {
+            BitSet role = byRole.get(link.roleId());
+            BitSet employee = byEmployee.computeIfAbsent(link.employeeId(), id -> new BitSet(codes.length));
+            if (role != null) {
+                employee.or(role);
+            }
+        }
+        return new PermissionMatrix(codes, bitByCode, byRole, byEmployee);
+    }
+
+    /**
+     * Returns a copy where only the given employee's permissions are recomputed from their roles.
+     * An empty role list removes the employee.
+     */
+    PermissionMatrix withEmployee(Long employeeId, Collection<Long> roleIds) {
+        Map<Long, BitSet> employees = new HashMap<>(byEmployee);
+        if (roleIds.isEmpty()) {
+            employees.remove(employeeId);
+        } else {
+            BitSet permissions = new BitSet(codes.length);
+            for (Long roleId : roleIds) {
+                BitSet role = byRole.get(roleId);
+                if (role != null) {
+                    permissions.or(role);
+                }
+            }
+            employees.put(employeeId, permissions);
+        }
+        return new PermissionMatrix(codes, bitByCode, byRole, employees);
+    }
+
+    boolean hasPermission(Long employeeId, String code) {
+        Integer bit = bitByCode.get(code);
+        BitSet permissions = byEmployee.get(employeeId);
+        return bit != null && permissions != null && permissions.get(bit);
+    }
+
+    Set<String> permissionsOf(Long employeeId) {
+        BitSet permissions = byEmployee.get(employeeId);
+        if (permissions == null) {
+            return Set.of();
+        }
+        Set<String> result = new LinkedHashSet<>();
+        for (int bit = permissions.nextSetBit(0); bit >= 0; bit = permissions.nextSetBit(bit + 1)) {
+            result.add(codes[bit]);
+        }
+        return result;
+    }
+
+    int employeeCount() {
+        return byEmployee.size();
+    }
+
+    int permissionCount() {
+        return codes.length;
+    }
+}
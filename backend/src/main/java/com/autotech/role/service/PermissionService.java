@@ -0,0 +1,14 @@
+package com.autotech.role.service;
+
+import java.util.Set;
+
+public interface PermissionService {
+
+    boolean hasPermission(Long employeeId, String code);
+
+    Set<String> getPermissions(Long employeeId);
+
+    void refreshEmployee(Long employeeId);
+
+    void invalidate();
+}
@@ -0,0 +1,87 @@
+package com.autotech.role.service;
+
+import com.autotech.common.transaction.TransactionCallbacks;
+import com.autotech.role.repository.PermissionMatrixRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+/**
+ * Serves permission checks from an in-memory {@link PermissionMatrix} so authorization never
+ * queries the database. Writers swap in a new snapshot under a lock once their transaction
+ * commits; readers just dereference the current one.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PermissionServiceImpl implements PermissionService {
+
+    private final PermissionMatrixRepository permissionMatrixRepository;
+    private final Object writeLock = new Object();
+    private volatile PermissionMatrix matrix;
+
+    @Override
+    public boolean hasPermission(Long employeeId, String code) {
+        return employeeId != null && code != null && current().hasPermission(employeeId, code);
+    }
+
+    @Override
+    public Set<String> getPermissions(Long employeeId) {
+        return current().permissionsOf(employeeId);
+    }
+
+    @Override
+    public void refreshEmployee(Long employeeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (writeLock) {
+                matrix = current().withEmployee(employeeId,
+                        permissionMatrixRepository.findActiveRoleIdsByEmployeeId(employeeId));
+            }
+            log.debug("Refreshed permissions of employee {}", employeeId);
+        });
+    }
+
+    @Override
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(this::rebuild);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    private void rebuild() {
+        synchronized (writeLock) {
+            matrix = load();
+        }
+    }
+
+    private PermissionMatrix current() {
+        PermissionMatrix current = matrix;
+        if (current != null) {
+            return current;
+        }
+        // Only reached if a check arrives before ApplicationReadyEvent
+        synchronized (writeLock) {
+            if (matrix == null) {
+                matrix = load();
+            }
+            return matrix;
+        }
+    }
+
+    private PermissionMatrix load() {
+        PermissionMatrix loaded = PermissionMatrix.build(
+                permissionMatrixRepository.findAllPermissionCodes(),
+                permissionMatrixRepository.findAllRolePermissions(),
+                permissionMatrixRepository.findActiveEmployeeRoles());
+        log.info("Permission matrix loaded: {} permissions, {} employees",
+                loaded.permissionCount(), loaded.employeeCount());
+        return loaded;
+    }
+}
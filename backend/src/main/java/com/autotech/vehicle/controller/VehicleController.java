@@ -1,19 +1,27 @@
 package com.autotech.vehicle.controller;
 
 import com.autotech.common.dto.ApiResponse;
+import com.autotech.common.dto.CursorPage;
+import com.autotech.common.web.ConditionalGet;
+import com.autotech.vehicle.dto.VehicleFacetsResponse;
+import com.autotech.vehicle.dto.VehicleFilter;
 import com.autotech.vehicle.dto.VehicleRequest;
 import com.autotech.vehicle.dto.VehicleResponse;
+import com.autotech.vehicle.service.VehicleFacetService;
 import com.autotech.vehicle.service.VehicleService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/vehicles")
@@ -21,6 +29,7 @@ import java.util.List;
 public class VehicleController {
 
     private final VehicleService vehicleService;
+    private final VehicleFacetService vehicleFacetService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<Page<VehicleResponse>>> getAll(
@@ -28,8 +37,19 @@ public class VehicleController {
         return ResponseEntity.ok(ApiResponse.success(vehicleService.getAll(pageable)));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<VehicleResponse>>> getAllByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+        return ResponseEntity.ok(ApiResponse.success(vehicleService.getAllByCursor(cursor, size, sort)));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<VehicleResponse>> getById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<VehicleResponse>> getById(@PathVariable Long id, WebRequest webRequest) {
+        if (ConditionalGet.isNotModified(webRequest, vehicleService.getLastModified(id))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         return ResponseEntity.ok(ApiResponse.success(vehicleService.getById(id)));
     }
 
@@ -64,6 +84,26 @@ public class VehicleController {
         return ResponseEntity.ok(ApiResponse.success(vehicleService.getByClientId(clientId)));
     }
 
+    @GetMapping("/query")
+    public ResponseEntity<ApiResponse<Page<VehicleResponse>>> query(
+            VehicleFilter filter,
+            @PageableDefault(size = 12, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(vehicleService.query(filter, pageable)));
+    }
+
+    @GetMapping("/query/facets")
+    public ResponseEntity<ApiResponse<VehicleFacetsResponse>> facets(
+            VehicleFilter filter,
+            @RequestParam(defaultValue = "5") int yearBucket) {
+        return ResponseEntity.ok(ApiResponse.success(vehicleFacetService.getFacets(filter, yearBucket)));
+    }
+
+    @GetMapping("/by-clients")
+    public ResponseEntity<ApiResponse<Map<Long, List<VehicleResponse>>>> getByClients(
+            @RequestParam List<Long> clientIds) {
+        return ResponseEntity.ok(ApiResponse.success(vehicleService.getByClientIds(clientIds)));
+    }
+
     @GetMapping("/filter/by-brand")
     public ResponseEntity<ApiResponse<Page<VehicleResponse>>> filterByBrand(
             @RequestParam Long brandId,
@@ -0,0 +1,11 @@
+package com.autotech.vehicle.dto;
+
+/**
+ * Vehicles per value of a facet. {@code id} and {@code name} are {@code null} for vehicles
+ * without that attribute.
+ */
+public record FacetCount(
+        Long id,
+        String name,
+        long count
+) {}
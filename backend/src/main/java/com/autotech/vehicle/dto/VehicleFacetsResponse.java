@@ -0,0 +1,10 @@
+package com.autotech.vehicle.dto;
+
+import java.util.List;
+
+public record VehicleFacetsResponse(
+        long total,
+        List<FacetCount> brands,
+        List<FacetCount> vehicleTypes,
+        List<YearBucketCount> years
+) {}
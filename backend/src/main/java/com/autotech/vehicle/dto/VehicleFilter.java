@@ -0,0 +1,22 @@
+package com.autotech.vehicle.dto;
+
+/**
+ * Criteria for {@code GET /api/vehicles/query}. Every field is optional and the ones present
+ * are combined with AND.
+ */
+public record VehicleFilter(
+        Long brandId,
+        Long vehicleTypeId,
+        Long clientId,
+        Integer yearFrom,
+        Integer yearTo,
+        String model,
+        String plate
+) {
+
+    public void validate() {
+        if (yearFrom != null && yearTo != null && yearFrom > yearTo) {
+            throw new IllegalArgumentException("El año desde no puede ser mayor que el año hasta");
+        }
+    }
+}
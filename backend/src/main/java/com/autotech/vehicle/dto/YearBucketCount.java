@@ -0,0 +1,11 @@
+package com.autotech.vehicle.dto;
+
+/**
+ * Vehicles whose year falls in {@code [fromYear, toYear]}. Both bounds are {@code null} for
+ * vehicles without a year.
+ */
+public record YearBucketCount(
+        Integer fromYear,
+        Integer toYear,
+        long count
+) {}
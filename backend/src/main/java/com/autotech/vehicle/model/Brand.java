@@ -3,9 +3,13 @@ package com.autotech.vehicle.model;
 import com.autotech.common.model.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "brands")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "brands")
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -21,6 +21,11 @@ public class Vehicle extends BaseEntity {
     @Column(name = "plate", nullable = false, length = 20, unique = true)
     private String plate;
 
+    // Generated by the database from plate, see normalizePlate
+    @Setter(AccessLevel.NONE)
+    @Column(name = "plate_normalized", length = 20, insertable = false, updatable = false)
+    private String plateNormalized;
+
     @Column(name = "chassis_number", length = 50)
     private String chassisNumber;
 
@@ -44,6 +49,24 @@ public class Vehicle extends BaseEntity {
     @Column(name = "observations", columnDefinition = "TEXT")
     private String observations;
 
+    /**
+     * Uppercase plate with separators removed. Mirrors the {@code plate_normalized} column
+     * expression in {@code V5__vehicle_plate_normalized.sql}.
+     */
+    public static String normalizePlate(String plate) {
+        if (plate == null) {
+            return null;
+        }
+        StringBuilder normalized = new StringBuilder(plate.length());
+        for (int i = 0; i < plate.length(); i++) {
+            char c = plate.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                normalized.append(Character.toUpperCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
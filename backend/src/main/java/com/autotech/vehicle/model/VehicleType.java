@@ -3,9 +3,13 @@ package com.autotech.vehicle.model;
 import com.autotech.common.model.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "vehicle_types")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "vehicle-types")
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -1,14 +1,22 @@
 package com.autotech.vehicle.repository;
 
 import com.autotech.vehicle.model.Brand;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BrandRepository extends JpaRepository<Brand, Long> {
 
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Brand> findAll();
+
     Optional<Brand> findByNameIgnoreCase(String name);
 
     boolean existsByNameIgnoreCase(String name);
@@ -0,0 +1,85 @@
+package com.autotech.vehicle.repository;
+
+import com.autotech.vehicle.dto.FacetCount;
+import com.autotech.vehicle.dto.VehicleFacetsResponse;
+import com.autotech.vehicle.dto.VehicleFilter;
+import com.autotech.vehicle.dto.YearBucketCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Facet counts for the vehicle list. JPQL has no {@code GROUPING SETS}, so this is native SQL;
+ * the WHERE clause is rendered from the same {@link VehicleFilterConditions} as the list query.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VehicleFacetRepository {
+
+    // GROUPING(x) = 0 marks the grouping set a row belongs to; the empty set () is the total.
+    // The bucket size is inlined: PostgreSQL only matches the SELECT and GROUP BY year
+    // expressions when they are textually identical, which two bind parameters are not.
+    private static final String FACETS_SQL = """
+            SELECT GROUPING(v.brand_id) AS g_brand,
+                   GROUPING(v.vehicle_type_id) AS g_type,
+                   GROUPING(v.year / %1$d) AS g_year,
+                   v.brand_id, b.name AS brand_name,
+                   v.vehicle_type_id, t.name AS type_name,
+                   v.year / %1$d AS year_bucket,
+                   COUNT(*) AS total
+            FROM vehicles v
+            LEFT JOIN brands b ON b.id = v.brand_id
+            LEFT JOIN vehicle_types t ON t.id = v.vehicle_type_id
+            WHERE %2$s
+            GROUP BY GROUPING SETS ((v.brand_id, b.name), (v.vehicle_type_id, t.name), (v.year / %1$d), ())
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public VehicleFacetsResponse countFacets(VehicleFilter filter, int bucketSize) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = FACETS_SQL.formatted(bucketSize, where(filter, params));
+
+        long[] total = {0};
+        List<FacetCount> brands = new ArrayList<>();
+        List<FacetCount> types = new ArrayList<>();
+        List<YearBucketCount> years = new ArrayList<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            long count = rs.getLong("total");
+            if (rs.getInt("g_brand") == 0) {
+                brands.add(new FacetCount(rs.getObject("brand_id", Long.class), rs.getString("brand_name"), count));
+            } else if (rs.getInt("g_type") == 0) {
+                types.add(new FacetCount(rs.getObject("vehicle_type_id", Long.class), rs.getString("type_name"), count));
+            } else if (rs.getInt("g_year") == 0) {
+                Integer bucket = rs.getObject("year_bucket", Integer.class);
+                years.add(bucket == null
+                        ? new YearBucketCount(null, null, count)
+                        : new YearBucketCount(bucket * bucketSize, bucket * bucketSize + bucketSize - 1, count));
+            } else {
+                total[0] = count;
+            }
+        });
+
+        brands.sort(Comparator.comparingLong(FacetCount::count).reversed());
+        types.sort(Comparator.comparingLong(FacetCount::count).reversed());
+        years.sort(Comparator.comparing(YearBucketCount::fromYear, Comparator.nullsLast(Comparator.reverseOrder())));
+        return new VehicleFacetsResponse(total[0], brands, types, years);
+    }
+
+    private static String where(VehicleFilter filter, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("TRUE");
+        for (VehicleFilterConditions.Condition condition : VehicleFilterConditions.of(filter)) {
+            String name = "p" + params.getValues().size();
+            String column = condition.lowerCase() ? "LOWER(" + condition.column() + ")" : condition.column();
+            conditions.add(column + " " + condition.operator().sql() + " :" + name);
+            params.addValue(name, condition.value());
+        }
+        return String.join(" AND ", conditions);
+    }
+}
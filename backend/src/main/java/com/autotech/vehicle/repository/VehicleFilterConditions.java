@@ -0,0 +1,74 @@
+package com.autotech.vehicle.repository;
+
+import com.autotech.vehicle.dto.VehicleFilter;
+import com.autotech.vehicle.model.Vehicle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The vehicle filter as a list of column conditions: the single definition behind both the list
+ * query ({@link VehicleSpecifications}) and the facet counts ({@link VehicleFacetRepository}), so
+ * a facet total always matches the list it describes. Each condition targets a column covered by
+ * an index from {@code V6__vehicle_filter_indexes.sql} or V5.
+ */
+final class VehicleFilterConditions {
+
+    enum Operator {
+        EQUAL("="),
+        AT_LEAST(">="),
+        AT_MOST("<="),
+        LIKE("LIKE");
+
+        private final String sql;
+
+        Operator(String sql) {
+            this.sql = sql;
+        }
+
+        String sql() {
+            return sql;
+        }
+    }
+
+    /**
+     * {@code attribute} is the entity path ("brand.id"), {@code column} the SQL column on alias
+     * {@code v}; {@code lowerCase} compares {@code LOWER(column)}. LIKE values carry their wildcards.
+     */
+    record Condition(String attribute, String column, boolean lowerCase, Operator operator, Object value) {}
+
+    private VehicleFilterConditions() {
+    }
+
+    static List<Condition> of(VehicleFilter filter) {
+        List<Condition> conditions = new ArrayList<>();
+        if (filter.brandId() != null) {
+            conditions.add(new Condition("brand.id", "v.brand_id", false, Operator.EQUAL, filter.brandId()));
+        }
+        if (filter.vehicleTypeId() != null) {
+            conditions.add(new Condition("vehicleType.id", "v.vehicle_type_id", false, Operator.EQUAL,
+                    filter.vehicleTypeId()));
+        }
+        if (filter.clientId() != null) {
+            conditions.add(new Condition("client.id", "v.client_id", false, Operator.EQUAL, filter.clientId()));
+        }
+        if (filter.yearFrom() != null) {
+            conditions.add(new Condition("year", "v.year", false, Operator.AT_LEAST, filter.yearFrom()));
+        }
+        if (filter.yearTo() != null) {
+            conditions.add(new Condition("year", "v.year", false, Operator.AT_MOST, filter.yearTo()));
+        }
+        // Matches the LOWER(model) trigram index
+        if (filter.model() != null && !filter.model().isBlank()) {
+            conditions.add(new Condition("model", "v.model", true, Operator.LIKE,
+                    "%" + filter.model().trim().toLowerCase() + "%"));
+        }
+        // Matches the plate_normalized trigram index from V5
+        String plate = Vehicle.normalizePlate(filter.plate());
+        if (plate != null && !plate.isEmpty()) {
+            conditions.add(new Condition("plateNormalized", "v.plate_normalized", false, Operator.LIKE,
+                    "%" + plate + "%"));
+        }
+        return conditions;
+    }
+}
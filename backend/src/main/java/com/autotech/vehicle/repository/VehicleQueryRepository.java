@@ -0,0 +1,96 @@
+package com.autotech.vehicle.repository;
+
+import com.autotech.client.model.Client;
+import com.autotech.vehicle.dto.VehicleResponse;
+import com.autotech.vehicle.model.Brand;
+import com.autotech.vehicle.model.Vehicle;
+import com.autotech.vehicle.model.VehicleType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Runs a {@link Specification} as the same projection as {@link VehicleRepository#RESPONSE_SELECT}:
+ * one statement with the client, brand and type joins, no managed entities. The count query is
+ * skipped when the page itself shows the total.
+ */
+@Repository
+public class VehicleQueryRepository {
+
+    // Vehicle columns only; anything else would sort through an extra join
+    private static final Set<String> SORTABLE = Set.of("id", "createdAt", "year", "plate", "model");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public Page<VehicleResponse> findResponses(Specification<Vehicle> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<VehicleResponse> query = cb.createQuery(VehicleResponse.class);
+        Root<Vehicle> vehicle = query.from(Vehicle.class);
+        Join<Vehicle, Client> client = vehicle.join("client");
+        Join<Vehicle, Brand> brand = vehicle.join("brand", JoinType.LEFT);
+        Join<Vehicle, VehicleType> type = vehicle.join("vehicleType", JoinType.LEFT);
+        query.select(cb.construct(VehicleResponse.class,
+                vehicle.get("id"), client.get("id"), client.get("firstName"), client.get("lastName"),
+                client.get("dni"), vehicle.get("plate"), vehicle.get("chassisNumber"), vehicle.get("engineNumber"),
+                brand.get("id"), brand.get("name"), vehicle.get("model"), vehicle.get("year"),
+                type.get("id"), type.get("name"), vehicle.get("observations"), vehicle.get("createdAt")));
+        Predicate where = spec.toPredicate(vehicle, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(orders(pageable.getSort(), vehicle, cb));
+
+        List<VehicleResponse> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    private long count(Specification<Vehicle> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Vehicle> vehicle = query.from(Vehicle.class);
+        query.select(cb.count(vehicle));
+        Predicate where = spec.toPredicate(vehicle, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Order> orders(Sort sort, Root<Vehicle> vehicle, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                throw new IllegalArgumentException("No se puede ordenar por: " + order.getProperty());
+            }
+            orders.add(order.isAscending()
+                    ? cb.asc(vehicle.get(order.getProperty()))
+                    : cb.desc(vehicle.get(order.getProperty())));
+        }
+        // Stable order across pages
+        if (sort.getOrderFor("id") == null) {
+            orders.add(cb.desc(vehicle.get("id")));
+        }
+        return orders;
+    }
+}
@@ -1,17 +1,33 @@
 package com.autotech.vehicle.repository;
 
+import com.autotech.vehicle.dto.VehicleResponse;
 import com.autotech.vehicle.model.Vehicle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
+public interface VehicleRepository extends JpaRepository<Vehicle, Long>, JpaSpecificationExecutor<Vehicle> {
+
+    String RESPONSE_SELECT = """
+            SELECT new com.autotech.vehicle.dto.VehicleResponse(
+                v.id, c.id, c.firstName, c.lastName, c.dni, v.plate, v.chassisNumber, v.engineNumber,
+                b.id, b.name, v.model, v.year, t.id, t.name, v.observations, v.createdAt)
+            FROM Vehicle v
+            JOIN v.client c
+            LEFT JOIN v.brand b
+            LEFT JOIN v.vehicleType t
+            """;
 
     @EntityGraph(attributePaths = {"client", "brand", "vehicleType"})
     Page<Vehicle> findAll(Pageable pageable);
@@ -19,21 +35,48 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     @EntityGraph(attributePaths = {"client", "brand", "vehicleType"})
     Optional<Vehicle> findById(Long id);
 
-    List<Vehicle> findByClientId(Long clientId);
+    // The response embeds client, brand and type names, so any of them changing is a new version
+    @Query("""
+            SELECT GREATEST(v.updatedAt, c.updatedAt, COALESCE(b.updatedAt, v.updatedAt), COALESCE(t.updatedAt, v.updatedAt))
+            FROM Vehicle v
+            JOIN v.client c
+            LEFT JOIN v.brand b
+            LEFT JOIN v.vehicleType t
+            WHERE v.id = :id
+            """)
+    Optional<LocalDateTime> findVersionById(@Param("id") Long id);
 
-    boolean existsByPlate(String plate);
+    // Plate arguments below are already normalized with Vehicle.normalizePlate
 
-    boolean existsByPlateAndIdNot(String plate, Long id);
+    boolean existsByPlateNormalized(String plateNormalized);
 
-    @EntityGraph(attributePaths = {"client", "brand", "vehicleType"})
-    Page<Vehicle> findByPlateContainingIgnoreCase(String plate, Pageable pageable);
+    boolean existsByPlateNormalizedAndIdNot(String plateNormalized, Long id);
 
-    @EntityGraph(attributePaths = {"client", "brand", "vehicleType"})
-    Page<Vehicle> findByBrandId(Long brandId, Pageable pageable);
+    // --- Read-only projections: select straight into the response, no managed entities ---
 
-    @EntityGraph(attributePaths = {"client", "brand", "vehicleType"})
-    Page<Vehicle> findByYear(Integer year, Pageable pageable);
+    @Query(value = RESPONSE_SELECT, countQuery = "SELECT COUNT(v) FROM Vehicle v")
+    Page<VehicleResponse> findAllResponses(Pageable pageable);
 
-    @EntityGraph(attributePaths = {"client", "brand", "vehicleType"})
-    Page<Vehicle> findByModelContainingIgnoreCase(String model, Pageable pageable);
+    @Query(RESPONSE_SELECT + " WHERE v.plateNormalized = :plate")
+    List<VehicleResponse> findResponsesByNormalizedPlate(@Param("plate") String plate);
+
+    @Query(value = RESPONSE_SELECT + " WHERE v.plateNormalized LIKE CONCAT('%', :plate, '%')",
+            countQuery = "SELECT COUNT(v) FROM Vehicle v WHERE v.plateNormalized LIKE CONCAT('%', :plate, '%')")
+    Page<VehicleResponse> findResponsesByNormalizedPlateContaining(@Param("plate") String plate, Pageable pageable);
+
+    // Client, brand and type come from the joins in RESPONSE_SELECT: one statement for any number of clients
+    @Query(RESPONSE_SELECT + " WHERE c.id IN :clientIds ORDER BY c.id, v.createdAt DESC")
+    List<VehicleResponse> findResponsesByClientIdIn(@Param("clientIds") Collection<Long> clientIds);
+
+    @Query(value = RESPONSE_SELECT + " WHERE b.id = :brandId",
+            countQuery = "SELECT COUNT(v) FROM Vehicle v WHERE v.brand.id = :brandId")
+    Page<VehicleResponse> findResponsesByBrandId(@Param("brandId") Long brandId, Pageable pageable);
+
+    @Query(value = RESPONSE_SELECT + " WHERE v.year = :year",
+            countQuery = "SELECT COUNT(v) FROM Vehicle v WHERE v.year = :year")
+    Page<VehicleResponse> findResponsesByYear(@Param("year") Integer year, Pageable pageable);
+
+    @Query(value = RESPONSE_SELECT + " WHERE LOWER(v.model) LIKE LOWER(CONCAT('%', :model, '%'))",
+            countQuery = "SELECT COUNT(v) FROM Vehicle v WHERE LOWER(v.model) LIKE LOWER(CONCAT('%', :model, '%'))")
+    Page<VehicleResponse> findResponsesByModelContaining(@Param("model") String model, Pageable pageable);
 }
@@ -0,0 +1,50 @@
+package com.autotech.vehicle.repository;
+
+import com.autotech.vehicle.dto.VehicleFilter;
+import com.autotech.vehicle.model.Vehicle;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Turns a {@link VehicleFilter} into a {@link Specification}, one predicate per
+ * {@link VehicleFilterConditions} entry. Foreign keys are compared through
+ * {@code root.get("brand").get("id")}, which Hibernate resolves to the column without a join.
+ */
+public final class VehicleSpecifications {
+
+    private VehicleSpecifications() {
+    }
+
+    public static Specification<Vehicle> matching(VehicleFilter filter) {
+        return (root, query, cb) -> cb.and(VehicleFilterConditions.of(filter).stream()
+                .map(condition -> predicate(root, cb, condition))
+                .toArray(Predicate[]::new));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate predicate(Root<Vehicle> root, CriteriaBuilder cb, VehicleFilterConditions.Condition condition) {
+        Expression path = path(root, condition.attribute());
+        if (condition.lowerCase()) {
+            path = cb.lower(path);
+        }
+        Comparable value = (Comparable) condition.value();
+        return switch (condition.operator()) {
+            case EQUAL -> cb.equal(path, value);
+            case AT_LEAST -> cb.greaterThanOrEqualTo(path, value);
+            case AT_MOST -> cb.lessThanOrEqualTo(path, value);
+            case LIKE -> cb.like(path, (String) value);
+        };
+    }
+
+    private static Path<?> path(Root<Vehicle> root, String attribute) {
+        Path<?> path = root;
+        for (String part : attribute.split("\\.")) {
+            path = path.get(part);
+        }
+        return path;
+    }
+}
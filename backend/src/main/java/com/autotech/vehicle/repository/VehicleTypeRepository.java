@@ -1,9 +1,18 @@
 package com.autotech.vehicle.repository;
 
 import com.autotech.vehicle.model.VehicleType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface VehicleTypeRepository extends JpaRepository<VehicleType, Long> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<VehicleType> findAll();
 }
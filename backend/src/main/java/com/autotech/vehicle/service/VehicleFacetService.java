@@ -0,0 +1,9 @@
+package com.autotech.vehicle.service;
+
+import com.autotech.vehicle.dto.VehicleFacetsResponse;
+import com.autotech.vehicle.dto.VehicleFilter;
+
+public interface VehicleFacetService {
+
+    VehicleFacetsResponse getFacets(VehicleFilter filter, int yearBucketSize);
+}
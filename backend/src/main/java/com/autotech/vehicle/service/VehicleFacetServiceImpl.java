@@ -0,0 +1,69 @@
+package com.autotech.vehicle.service;
+
+import com.autotech.vehicle.dto.VehicleFacetsResponse;
+import com.autotech.vehicle.dto.VehicleFilter;
+import com.autotech.vehicle.model.Vehicle;
+import com.autotech.vehicle.repository.VehicleFacetRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Facet counts are one GROUPING SETS query, cached for a short TTL per normalized filter. The
+ * dropdowns tolerate counts a few seconds old, and the list screen asks for the same filter on
+ * every page change.
+ */
+@Slf4j
+@Service
+public class VehicleFacetServiceImpl implements VehicleFacetService {
+
+    private static final int MAX_YEAR_BUCKET_SIZE = 50;
+
+    private final VehicleFacetRepository vehicleFacetRepository;
+    private final Cache<FacetKey, VehicleFacetsResponse> cache;
+
+    public VehicleFacetServiceImpl(
+            VehicleFacetRepository vehicleFacetRepository,
+            MeterRegistry meterRegistry,
+            @Value("${autotech.vehicle-facets.ttl:PT30S}") Duration ttl,
+            @Value("${autotech.vehicle-facets.max-entries:1000}") long maxEntries) {
+        this.vehicleFacetRepository = vehicleFacetRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "vehicleFacets");
+    }
+
+    @Override
+    public VehicleFacetsResponse getFacets(VehicleFilter filter, int yearBucketSize) {
+        filter.validate();
+        if (yearBucketSize < 1 || yearBucketSize > MAX_YEAR_BUCKET_SIZE) {
+            throw new IllegalArgumentException(
+                    "El rango de años debe estar entre 1 y " + MAX_YEAR_BUCKET_SIZE);
+        }
+        return cache.get(new FacetKey(normalize(filter), yearBucketSize), key -> {
+            log.debug("Computing vehicle facets for {}", key);
+            return vehicleFacetRepository.countFacets(key.filter(), key.yearBucketSize());
+        });
+    }
+
+    // Equivalent filters ("Hilux " / "hilux", "ab-1" / "AB1") share one cache entry
+    private static VehicleFilter normalize(VehicleFilter filter) {
+        String model = filter.model() == null || filter.model().isBlank()
+                ? null
+                : filter.model().trim().toLowerCase();
+        String plate = Vehicle.normalizePlate(filter.plate());
+        return new VehicleFilter(filter.brandId(), filter.vehicleTypeId(), filter.clientId(),
+                filter.yearFrom(), filter.yearTo(), model, plate == null || plate.isEmpty() ? null : plate);
+    }
+
+    private record FacetKey(VehicleFilter filter, int yearBucketSize) {}
+}
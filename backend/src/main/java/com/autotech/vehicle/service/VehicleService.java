@@ -1,18 +1,27 @@
 package com.autotech.vehicle.service;
 
+import com.autotech.common.dto.CursorPage;
+import com.autotech.vehicle.dto.VehicleFilter;
 import com.autotech.vehicle.dto.VehicleRequest;
 import com.autotech.vehicle.dto.VehicleResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface VehicleService {
 
     Page<VehicleResponse> getAll(Pageable pageable);
 
+    CursorPage<VehicleResponse> getAllByCursor(String cursor, int size, String sort);
+
     VehicleResponse getById(Long id);
 
+    LocalDateTime getLastModified(Long id);
+
     VehicleResponse create(VehicleRequest request);
 
     VehicleResponse update(Long id, VehicleRequest request);
@@ -21,8 +30,12 @@ public interface VehicleService {
 
     Page<VehicleResponse> searchByPlate(String plate, Pageable pageable);
 
+    Page<VehicleResponse> query(VehicleFilter filter, Pageable pageable);
+
     List<VehicleResponse> getByClientId(Long clientId);
 
+    Map<Long, List<VehicleResponse>> getByClientIds(Collection<Long> clientIds);
+
     Page<VehicleResponse> filterByBrand(Long brandId, Pageable pageable);
 
     Page<VehicleResponse> filterByYear(Integer year, Pageable pageable);
@@ -2,7 +2,10 @@ package com.autotech.vehicle.service;
 
 import com.autotech.client.model.Client;
 import com.autotech.client.service.ClientService;
+import com.autotech.common.dto.CursorPage;
 import com.autotech.common.exception.ResourceNotFoundException;
+import com.autotech.common.pagination.KeysetPageRequest;
+import com.autotech.vehicle.dto.VehicleFilter;
 import com.autotech.vehicle.dto.VehicleMapper;
 import com.autotech.vehicle.dto.VehicleRequest;
 import com.autotech.vehicle.dto.VehicleResponse;
@@ -10,23 +13,41 @@ import com.autotech.vehicle.model.Brand;
 import com.autotech.vehicle.model.Vehicle;
 import com.autotech.vehicle.model.VehicleType;
 import com.autotech.vehicle.repository.BrandRepository;
+import com.autotech.vehicle.repository.VehicleQueryRepository;
 import com.autotech.vehicle.repository.VehicleRepository;
+import com.autotech.vehicle.repository.VehicleSpecifications;
 import com.autotech.vehicle.repository.VehicleTypeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class VehicleServiceImpl implements VehicleService {
 
+    private static final int MIN_FULL_PLATE_LENGTH = 6;
+    private static final int MAX_CLIENTS_PER_LOOKUP = 200;
+    private static final String DUPLICATE_PLATE_MESSAGE = "La patente ya se encuentra registrada";
+    private static final Set<String> PLATE_CONSTRAINTS = Set.of("vehicles_plate_key", "uq_vehicles_plate_normalized");
+
     private final VehicleRepository vehicleRepository;
+    private final VehicleQueryRepository vehicleQueryRepository;
     private final VehicleMapper vehicleMapper;
     private final ClientService clientService;
     private final BrandRepository brandRepository;
@@ -35,7 +56,19 @@ public class VehicleServiceImpl implements VehicleService {
     @Override
     @Transactional(readOnly = true)
     public Page<VehicleResponse> getAll(Pageable pageable) {
-        return vehicleRepository.findAll(pageable).map(vehicleMapper::toResponse);
+        return vehicleRepository.findAllResponses(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<VehicleResponse> getAllByCursor(String cursor, int size, String sort) {
+        KeysetPageRequest request = KeysetPageRequest.of(cursor, size, sort);
+        List<Vehicle> rows = vehicleRepository.findBy(request.<Vehicle>seek(),
+                query -> query.sortBy(request.sort())
+                        .project("client", "brand", "vehicleType")
+                        .limit(request.fetchSize())
+                        .all());
+        return request.toPage(rows, vehicleMapper::toResponse);
     }
 
     @Override
@@ -46,11 +79,17 @@ public class VehicleServiceImpl implements VehicleService {
         return vehicleMapper.toResponse(vehicle);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDateTime getLastModified(Long id) {
+        return vehicleRepository.findVersionById(id).orElse(null);
+    }
+
     @Override
     @Transactional
     public VehicleResponse create(VehicleRequest request) {
-        if (vehicleRepository.existsByPlate(request.plate())) {
-            throw new IllegalArgumentException("La patente ya se encuentra registrada");
+        if (vehicleRepository.existsByPlateNormalized(Vehicle.normalizePlate(request.plate()))) {
+            throw new IllegalArgumentException(DUPLICATE_PLATE_MESSAGE);
         }
 
         Client client = resolveClient(request.clientId());
@@ -62,7 +101,7 @@ public class VehicleServiceImpl implements VehicleService {
         vehicle.setBrand(brand);
         vehicle.setVehicleType(vehicleType);
 
-        Vehicle saved = vehicleRepository.save(vehicle);
+        Vehicle saved = saveWithUniquePlate(vehicle);
         log.info("Created vehicle with id {} and plate {}", saved.getId(), saved.getPlate());
         return vehicleMapper.toResponse(saved);
     }
@@ -73,8 +112,8 @@ public class VehicleServiceImpl implements VehicleService {
         Vehicle existing = vehicleRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Vehicle", id));
 
-        if (vehicleRepository.existsByPlateAndIdNot(request.plate(), id)) {
-            throw new IllegalArgumentException("La patente ya se encuentra registrada");
+        if (vehicleRepository.existsByPlateNormalizedAndIdNot(Vehicle.normalizePlate(request.plate()), id)) {
+            throw new IllegalArgumentException(DUPLICATE_PLATE_MESSAGE);
         }
 
         Client client = resolveClient(request.clientId());
@@ -91,7 +130,7 @@ public class VehicleServiceImpl implements VehicleService {
         existing.setVehicleType(vehicleType);
         existing.setObservations(request.observations());
 
-        Vehicle saved = vehicleRepository.save(existing);
+        Vehicle saved = saveWithUniquePlate(existing);
         log.info("Updated vehicle with id {}", saved.getId());
         return vehicleMapper.toResponse(saved);
     }
@@ -108,37 +147,88 @@ public class VehicleServiceImpl implements VehicleService {
     @Override
     @Transactional(readOnly = true)
     public Page<VehicleResponse> searchByPlate(String plate, Pageable pageable) {
-        return vehicleRepository.findByPlateContainingIgnoreCase(plate, pageable)
-                .map(vehicleMapper::toResponse);
+        String normalized = Vehicle.normalizePlate(plate);
+        // A complete plate (6 chars old format, 7 Mercosur) is usually typed to find one car:
+        // try the exact index lookup before the trigram scan. When it hits, the exact match is the
+        // whole result on every page, so page numbers and totals stay consistent
+        if (normalized.length() >= MIN_FULL_PLATE_LENGTH) {
+            List<VehicleResponse> exact = vehicleRepository.findResponsesByNormalizedPlate(normalized);
+            if (!exact.isEmpty()) {
+                List<VehicleResponse> content = exact.stream()
+                        .skip(pageable.getOffset())
+                        .limit(pageable.getPageSize())
+                        .toList();
+                return new PageImpl<>(content, pageable, exact.size());
+            }
+        }
+        return vehicleRepository.findResponsesByNormalizedPlateContaining(normalized, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<VehicleResponse> query(VehicleFilter filter, Pageable pageable) {
+        filter.validate();
+        log.debug("Querying vehicles with {}", filter);
+        return vehicleQueryRepository.findResponses(VehicleSpecifications.matching(filter), pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<VehicleResponse> getByClientId(Long clientId) {
-        return vehicleRepository.findByClientId(clientId).stream()
-                .map(vehicleMapper::toResponse)
-                .toList();
+        return vehicleRepository.findResponsesByClientIdIn(List.of(clientId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<VehicleResponse>> getByClientIds(Collection<Long> clientIds) {
+        Set<Long> ids = new LinkedHashSet<>(clientIds);
+        if (ids.size() > MAX_CLIENTS_PER_LOOKUP) {
+            throw new IllegalArgumentException(
+                    "No se pueden consultar más de " + MAX_CLIENTS_PER_LOOKUP + " clientes a la vez");
+        }
+
+        // Every requested client gets an entry, in request order, even without vehicles
+        Map<Long, List<VehicleResponse>> byClient = new LinkedHashMap<>();
+        ids.forEach(id -> byClient.put(id, new ArrayList<>()));
+        if (ids.isEmpty()) {
+            return byClient;
+        }
+        for (VehicleResponse vehicle : vehicleRepository.findResponsesByClientIdIn(ids)) {
+            byClient.get(vehicle.clientId()).add(vehicle);
+        }
+        return byClient;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<VehicleResponse> filterByBrand(Long brandId, Pageable pageable) {
-        return vehicleRepository.findByBrandId(brandId, pageable)
-                .map(vehicleMapper::toResponse);
+        return vehicleRepository.findResponsesByBrandId(brandId, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<VehicleResponse> filterByYear(Integer year, Pageable pageable) {
-        return vehicleRepository.findByYear(year, pageable)
-                .map(vehicleMapper::toResponse);
+        return vehicleRepository.findResponsesByYear(year, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<VehicleResponse> filterByModel(String model, Pageable pageable) {
-        return vehicleRepository.findByModelContainingIgnoreCase(model, pageable)
-                .map(vehicleMapper::toResponse);
+        return vehicleRepository.findResponsesByModelContaining(model, pageable);
+    }
+
+    // The exists checks above are only a fast path: two concurrent requests can both pass them,
+    // so the unique indexes decide and the loser gets the same message
+    private Vehicle saveWithUniquePlate(Vehicle vehicle) {
+        try {
+            return vehicleRepository.saveAndFlush(vehicle);
+        } catch (DataIntegrityViolationException ex) {
+            if (ex.getCause() instanceof ConstraintViolationException violation
+                    && PLATE_CONSTRAINTS.contains(violation.getConstraintName())) {
+                throw new IllegalArgumentException(DUPLICATE_PLATE_MESSAGE, ex);
+            }
+            throw ex;
+        }
     }
 
     private Client resolveClient(Long clientId) {
@@ -0,0 +1,12 @@
+-- =============================================
+-- Client search: trigram indexes
+-- =============================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Expressions must match the ones used in ClientRepository.searchRanked,
+-- otherwise the planner falls back to a sequential scan.
+CREATE INDEX idx_clients_first_name_trgm ON clients USING gin (LOWER(first_name) gin_trgm_ops);
+CREATE INDEX idx_clients_last_name_trgm ON clients USING gin (LOWER(last_name) gin_trgm_ops);
+CREATE INDEX idx_clients_dni_trgm ON clients USING gin (LOWER(dni) gin_trgm_ops);
+CREATE INDEX idx_clients_full_name_trgm ON clients USING gin (LOWER(first_name || ' ' || last_name) gin_trgm_ops);
@@ -0,0 +1,9 @@
+-- =============================================
+-- Keyset pagination: (created_at, id) indexes
+-- =============================================
+
+-- Back the default "createdAt,desc" cursor sort. The seek predicate compares
+-- (created_at, id), so both columns must be in the index in the same direction.
+CREATE INDEX idx_clients_created_at_id ON clients (created_at DESC, id DESC);
+CREATE INDEX idx_vehicles_created_at_id ON vehicles (created_at DESC, id DESC);
+CREATE INDEX idx_employees_created_at_id ON employees (created_at DESC, id DESC);
@@ -0,0 +1,8 @@
+-- =============================================
+-- Client duplicate detection: blocking key indexes
+-- =============================================
+
+-- Expressions must match the ones used in ClientRepository.findDuplicateCandidates,
+-- which mirror ClientDuplicateDetector.phoneKey and dniKey.
+CREATE INDEX idx_clients_phone_key ON clients (RIGHT(regexp_replace(phone, '[^0-9]', '', 'g'), 8));
+CREATE INDEX idx_clients_dni_digits ON clients (regexp_replace(dni, '[^0-9]', '', 'g'));
@@ -0,0 +1,15 @@
+-- =============================================
+-- Vehicles: normalized plate for lookups
+-- =============================================
+
+-- "AB 123 CD", "ab-123-cd" and "AB123CD" are the same plate. The expression must match
+-- Vehicle.normalizePlate.
+ALTER TABLE vehicles
+    ADD COLUMN plate_normalized VARCHAR(20)
+        GENERATED ALWAYS AS (UPPER(regexp_replace(plate, '[^A-Za-z0-9]', '', 'g'))) STORED;
+
+-- Exact and prefix (LIKE 'AB1%') lookups; pattern ops so prefix matching works under any collation
+CREATE INDEX idx_vehicles_plate_normalized ON vehicles (plate_normalized varchar_pattern_ops);
+
+-- Infix search (LIKE '%123%')
+CREATE INDEX idx_vehicles_plate_normalized_trgm ON vehicles USING gin (plate_normalized gin_trgm_ops);
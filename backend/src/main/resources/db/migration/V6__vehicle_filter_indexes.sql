@@ -0,0 +1,17 @@
+-- =============================================
+-- Vehicles: indexes for the combined filter (/api/vehicles/query)
+-- =============================================
+
+-- brand alone and brand + year range
+CREATE INDEX idx_vehicles_brand_id_year ON vehicles (brand_id, year);
+
+-- type alone and type + brand
+CREATE INDEX idx_vehicles_vehicle_type_id_brand_id ON vehicles (vehicle_type_id, brand_id);
+
+-- year range without brand
+CREATE INDEX idx_vehicles_year ON vehicles (year);
+
+-- Model infix search; expression must match VehicleSpecifications.modelContains
+CREATE INDEX idx_vehicles_model_trgm ON vehicles USING gin (LOWER(model) gin_trgm_ops);
+
+-- client_id is covered by idx_vehicles_client_id (V1), plate by idx_vehicles_plate_normalized_trgm (V5)
@@ -0,0 +1,72 @@
+-- =============================================
+-- Canned job search: Spanish full-text over title, description and line names
+-- =============================================
+
+ALTER TABLE canned_jobs ADD COLUMN search_vector TSVECTOR;
+
+-- Title weighs most, then description, then the names of the service and product lines
+CREATE FUNCTION canned_job_search_vector(p_id BIGINT, p_title TEXT, p_description TEXT)
+RETURNS TSVECTOR AS $$
+    SELECT setweight(to_tsvector('spanish', COALESCE(p_title, '')), 'A')
+        || setweight(to_tsvector('spanish', COALESCE(p_description, '')), 'B')
+        || setweight(to_tsvector('spanish', COALESCE((
+               SELECT string_agg(line_name, ' ')
+               FROM (SELECT service_name AS line_name FROM canned_job_services WHERE canned_job_id = p_id
+                     UNION ALL
+                     SELECT product_name FROM canned_job_products WHERE canned_job_id = p_id) lines
+           ), '')), 'C')
+$$ LANGUAGE sql STABLE;
+
+CREATE FUNCTION canned_jobs_set_search_vector() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := canned_job_search_vector(NEW.id, NEW.title, NEW.description);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- UPDATE OF keeps the line triggers below (which only set search_vector) from firing this one again
+CREATE TRIGGER trg_canned_jobs_search_vector
+    BEFORE INSERT OR UPDATE OF title, description ON canned_jobs
+    FOR EACH ROW EXECUTE FUNCTION canned_jobs_set_search_vector();
+
+-- Statement-level with transition tables: saving a job with 40 lines refreshes its vector once,
+-- not once per line
+CREATE FUNCTION canned_job_lines_refresh_search_vector() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        UPDATE canned_jobs c SET search_vector = canned_job_search_vector(c.id, c.title, c.description)
+        WHERE c.id IN (SELECT canned_job_id FROM new_lines);
+    ELSIF TG_OP = 'UPDATE' THEN
+        UPDATE canned_jobs c SET search_vector = canned_job_search_vector(c.id, c.title, c.description)
+        WHERE c.id IN (SELECT canned_job_id FROM new_lines UNION SELECT canned_job_id FROM old_lines);
+    ELSE
+        UPDATE canned_jobs c SET search_vector = canned_job_search_vector(c.id, c.title, c.description)
+        WHERE c.id IN (SELECT canned_job_id FROM old_lines);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_canned_job_services_search_ins
+    AFTER INSERT ON canned_job_services REFERENCING NEW TABLE AS new_lines
+    FOR EACH STATEMENT EXECUTE FUNCTION canned_job_lines_refresh_search_vector();
+CREATE TRIGGER trg_canned_job_services_search_upd
+    AFTER UPDATE ON canned_job_services REFERENCING OLD TABLE AS old_lines NEW TABLE AS new_lines
+    FOR EACH STATEMENT EXECUTE FUNCTION canned_job_lines_refresh_search_vector();
+CREATE TRIGGER trg_canned_job_services_search_del
+    AFTER DELETE ON canned_job_services REFERENCING OLD TABLE AS old_lines
+    FOR EACH STATEMENT EXECUTE FUNCTION canned_job_lines_refresh_search_vector();
+
+CREATE TRIGGER trg_canned_job_products_search_ins
+    AFTER INSERT ON canned_job_products REFERENCING NEW TABLE AS new_lines
+    FOR EACH STATEMENT EXECUTE FUNCTION canned_job_lines_refresh_search_vector();
+CREATE TRIGGER trg_canned_job_products_search_upd
+    AFTER UPDATE ON canned_job_products REFERENCING OLD TABLE AS old_lines NEW TABLE AS new_lines
+    FOR EACH STATEMENT EXECUTE FUNCTION canned_job_lines_refresh_search_vector();
+CREATE TRIGGER trg_canned_job_products_search_del
+    AFTER DELETE ON canned_job_products REFERENCING OLD TABLE AS old_lines
+    FOR EACH STATEMENT EXECUTE FUNCTION canned_job_lines_refresh_search_vector();
+
+UPDATE canned_jobs SET search_vector = canned_job_search_vector(id, title, description);
+
+CREATE INDEX idx_canned_jobs_search_vector ON canned_jobs USING gin (search_vector);
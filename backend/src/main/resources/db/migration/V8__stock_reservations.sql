@@ -0,0 +1,17 @@
+-- =============================================
+-- Stock reservations: products.quantity is the stock still available, reserved units are held here
+-- =============================================
+
+-- Last line of defence against overselling; the conditional decrement never gets here
+ALTER TABLE products ADD CONSTRAINT chk_products_quantity_non_negative CHECK (quantity >= 0);
+
+CREATE TABLE stock_reservations (
+    id          BIGSERIAL PRIMARY KEY,
+    product_id  BIGINT NOT NULL REFERENCES products(id) ON DELETE CASCADE,
+    quantity    INTEGER NOT NULL CHECK (quantity > 0),
+    expires_at  TIMESTAMP NOT NULL,
+    created_at  TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_stock_reservations_expires_at ON stock_reservations (expires_at);
+CREATE INDEX idx_stock_reservations_product_id ON stock_reservations (product_id);
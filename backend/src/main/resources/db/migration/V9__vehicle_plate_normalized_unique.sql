@@ -0,0 +1,43 @@
+-- =============================================
+-- Vehicles: one vehicle per normalized plate
+-- =============================================
+
+-- The UNIQUE on plate still lets "AB 123 CD" and "AB123CD" coexist. The existence checks in
+-- VehicleServiceImpl are racy, so the database enforces it.
+
+-- Existing rows that already collide would make CREATE UNIQUE INDEX fail with a bare
+-- "could not create unique index". Stop first and list them: which vehicle survives (and where
+-- its repair orders, estimates and invoices go) is a business decision, not something a
+-- migration can guess. To resolve, for each group listed:
+--   1. pick the vehicle to keep and repoint the others' rows to it:
+--        UPDATE repair_orders SET vehicle_id = <keep> WHERE vehicle_id = <duplicate>;
+--        (same for appointments, estimates and invoices)
+--   2. DELETE FROM vehicles WHERE id = <duplicate>;
+-- then run the migration again. The inner SELECT below lists the groups without migrating.
+DO $$
+DECLARE
+    conflicts TEXT;
+BEGIN
+    SELECT string_agg(format('%s -> %s', plate_normalized, vehicles), E'\n' ORDER BY plate_normalized)
+    INTO conflicts
+    FROM (
+        SELECT plate_normalized,
+               string_agg(format('id %s "%s"', id, plate), ', ' ORDER BY id) AS vehicles
+        FROM vehicles
+        GROUP BY plate_normalized
+        HAVING count(*) > 1
+    ) duplicated;
+
+    IF conflicts IS NOT NULL THEN
+        RAISE EXCEPTION 'Vehicles share a normalized plate; merge them before applying V9'
+            USING DETAIL = conflicts,
+                  HINT = 'See the instructions at the top of V9__vehicle_plate_normalized_unique.sql';
+    END IF;
+END
+$$;
+
+-- The pattern ops index from V5 is replaced rather than duplicated: a unique varchar_pattern_ops
+-- index still serves exact and prefix lookups.
+DROP INDEX idx_vehicles_plate_normalized;
+
+CREATE UNIQUE INDEX uq_vehicles_plate_normalized ON vehicles (plate_normalized varchar_pattern_ops);
@@ -50,6 +50,7 @@ class CannedJobControllerTest {
 
     private final CannedJobResponse sampleResponse = new CannedJobResponse(
             1L, "Full Service", "Complete vehicle service",
+            new BigDecimal("50.00"), new BigDecimal("15.00"), new BigDecimal("65.00"), 2L,
             LocalDateTime.now(), LocalDateTime.now());
 
     private final CannedJobDetailResponse sampleDetailResponse = new CannedJobDetailResponse(
@@ -26,15 +26,32 @@ class CannedJobMapperTest {
         entity.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
 
         // Act
-        CannedJobResponse response = mapper.toResponse(entity);
+        CannedJobResponse response = mapper.toResponse(entity,
+                new CannedJobTotals(1L, new BigDecimal("150.00"), new BigDecimal("45.50"), 4L));
 
         // Assert
         assertThat(response.id()).isEqualTo(1L);
         assertThat(response.title()).isEqualTo("Full Service");
         assertThat(response.description()).isEqualTo("Complete vehicle service");
+        assertThat(response.total()).isEqualByComparingTo("195.50");
+        assertThat(response.lineCount()).isEqualTo(4L);
         assertThat(response.createdAt()).isNotNull();
     }
 
+    @Test
+    void givenNoTotals_whenToResponse_thenTotalsAreZero() {
+        // Arrange
+        CannedJob entity = CannedJob.builder().title("Empty").build();
+        entity.setId(2L);
+
+        // Act
+        CannedJobResponse response = mapper.toResponse(entity, null);
+
+        // Assert
+        assertThat(response.total()).isEqualByComparingTo("0");
+        assertThat(response.lineCount()).isZero();
+    }
+
     @Test
     void givenEntityWithChildren_whenToDetailResponse_thenMapsWithChildren() {
         // Arrange
@@ -78,8 +95,8 @@ class CannedJobMapperTest {
     void givenRequest_whenToEntity_thenIgnoresChildCollections() {
         // Arrange
         CannedJobRequest request = new CannedJobRequest("Full Service", "Desc",
-                java.util.List.of(new CannedJobServiceRequest("Oil Change", new BigDecimal("50.00"))),
-                java.util.List.of(new CannedJobProductRequest("Oil Filter", 1, new BigDecimal("15.00"))));
+                java.util.List.of(new CannedJobServiceRequest(null, "Oil Change", new BigDecimal("50.00"))),
+                java.util.List.of(new CannedJobProductRequest(null, "Oil Filter", 1, new BigDecimal("15.00"))));
 
         // Act
         CannedJob entity = mapper.toEntity(request);
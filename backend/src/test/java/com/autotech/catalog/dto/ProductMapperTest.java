@@ -64,7 +64,7 @@ class ProductMapperTest {
     }
 
     @Test
-    void givenRequest_whenUpdateEntity_thenUpdatesAllFields() {
+    void givenRequest_whenUpdateEntity_thenUpdatesFieldsButKeepsStock() {
         // Arrange
         Product entity = Product.builder()
                 .name("Old Name")
@@ -80,7 +80,8 @@ class ProductMapperTest {
         // Assert
         assertThat(entity.getName()).isEqualTo("New Name");
         assertThat(entity.getDescription()).isEqualTo("New desc");
-        assertThat(entity.getQuantity()).isEqualTo(20);
+        // Stock only moves through the ledger, so an edit keeps whatever is there now
+        assertThat(entity.getQuantity()).isEqualTo(5);
         assertThat(entity.getUnitPrice()).isEqualByComparingTo(new BigDecimal("99.00"));
     }
 }
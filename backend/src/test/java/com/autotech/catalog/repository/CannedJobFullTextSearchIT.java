@@ -0,0 +1,95 @@
+package com.autotech.catalog.repository;
+
+import com.autotech.catalog.dto.CannedJobProductRequest;
+import com.autotech.catalog.dto.CannedJobRequest;
+import com.autotech.catalog.dto.CannedJobResponse;
+import com.autotech.catalog.dto.CannedJobServiceRequest;
+import com.autotech.catalog.service.CannedJobService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Canned job search goes through the trigger-maintained {@code search_vector}, so it has to see
+ * line names and follow line edits without the application touching the column.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CannedJobFullTextSearchIT {
+
+    @Autowired
+    private CannedJobService cannedJobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long brakeJobId;
+
+    @BeforeAll
+    void seed() {
+        brakeJobId = cannedJobService.create(new CannedJobRequest("Service frenos", "Revisión completa",
+                List.of(new CannedJobServiceRequest(null, "Cambio de pastillas de freno", new BigDecimal("30000.00"))),
+                List.of(new CannedJobProductRequest(null, "Líquido de frenos DOT4", 1, new BigDecimal("8000.00")))))
+                .id();
+        cannedJobService.create(new CannedJobRequest("Alineación y balanceo", "Incluye control de frenos",
+                List.of(new CannedJobServiceRequest(null, "Alineación", new BigDecimal("15000.00"))),
+                List.of()));
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM canned_jobs WHERE title IN ('Service frenos', 'Alineación y balanceo', 'Service 10.000 km')");
+    }
+
+    @Test
+    void givenLineItemWords_whenSearch_thenMatchesJobByItsLines() {
+        // Act
+        Page<CannedJobResponse> result = cannedJobService.search("pastillas de freno", PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(result.getContent()).extracting(CannedJobResponse::id).containsExactly(brakeJobId);
+    }
+
+    @Test
+    void givenWordInTitleAndDescription_whenSearch_thenTitleMatchRanksFirst() {
+        // Act
+        Page<CannedJobResponse> result = cannedJobService.search("frenos", PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(result.getContent()).extracting(CannedJobResponse::id).first().isEqualTo(brakeJobId);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void givenLineRenamed_whenSearch_thenVectorFollowsTheLines() {
+        // Arrange
+        Long jobId = cannedJobService.create(new CannedJobRequest("Service 10.000 km", null,
+                List.of(new CannedJobServiceRequest(null, "Cambio de aceite", new BigDecimal("20000.00"))),
+                List.of())).id();
+        Long lineId = cannedJobService.getById(jobId).services().getFirst().id();
+
+        // Act
+        cannedJobService.update(jobId, new CannedJobRequest("Service 10.000 km", null,
+                List.of(new CannedJobServiceRequest(lineId, "Cambio de correa de distribución", new BigDecimal("20000.00"))),
+                List.of()));
+
+        // Assert
+        assertThat(cannedJobService.search("correa distribución", PageRequest.of(0, 10)).getContent())
+                .extracting(CannedJobResponse::id).containsExactly(jobId);
+        assertThat(cannedJobService.search("aceite", PageRequest.of(0, 10)).getContent())
+                .extracting(CannedJobResponse::id).doesNotContain(jobId);
+    }
+}
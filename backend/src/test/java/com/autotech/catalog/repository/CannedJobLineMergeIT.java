@@ -0,0 +1,95 @@
+package com.autotech.catalog.repository;
+
+import com.autotech.catalog.dto.CannedJobDetailResponse;
+import com.autotech.catalog.dto.CannedJobProductRequest;
+import com.autotech.catalog.dto.CannedJobRequest;
+import com.autotech.catalog.dto.CannedJobServiceRequest;
+import com.autotech.catalog.dto.CannedJobServiceResponse;
+import com.autotech.catalog.service.CannedJobService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Editing a canned job only writes the lines that actually changed. With 40 lines, changing one
+ * price is one line UPDATE plus the parent's {@code updated_at}; nothing is deleted or reinserted.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CannedJobLineMergeIT {
+
+    private static final int LINES = 20;
+
+    @Autowired
+    private CannedJobService cannedJobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM canned_jobs WHERE title = 'Service 40 lines'");
+    }
+
+    @Test
+    void givenOnePriceChanged_whenUpdate_thenSingleLineUpdate() {
+        // Arrange
+        CannedJobDetailResponse created = cannedJobService.create(new CannedJobRequest("Service 40 lines", null,
+                IntStream.range(0, LINES)
+                        .mapToObj(i -> new CannedJobServiceRequest(null, "Servicio " + i, new BigDecimal("100.00")))
+                        .toList(),
+                IntStream.range(0, LINES)
+                        .mapToObj(i -> new CannedJobProductRequest(null, "Producto " + i, 1, new BigDecimal("10.00")))
+                        .toList()));
+        List<CannedJobServiceRequest> services = new ArrayList<>(created.services().stream()
+                .map(s -> new CannedJobServiceRequest(s.id(), s.serviceName(), s.price()))
+                .toList());
+        CannedJobServiceResponse first = created.services().getFirst();
+        services.set(0, new CannedJobServiceRequest(first.id(), first.serviceName(), new BigDecimal("120.00")));
+        List<CannedJobProductRequest> products = created.products().stream()
+                .map(p -> new CannedJobProductRequest(
+                        p.id(), p.productName(), p.quantity(), p.unitPrice()))
+                .toList();
+        statistics.clear();
+
+        // Act
+        CannedJobDetailResponse updated = cannedJobService.update(created.id(),
+                new CannedJobRequest("Service 40 lines", null, services, products));
+
+        // Assert
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(updated.services()).hasSize(LINES);
+        assertThat(updated.services())
+                .filteredOn(s -> s.id().equals(first.id()))
+                .singleElement()
+                .satisfies(s -> assertThat(s.price()).isEqualByComparingTo("120.00"));
+    }
+}
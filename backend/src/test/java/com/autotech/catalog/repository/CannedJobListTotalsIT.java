@@ -0,0 +1,83 @@
+package com.autotech.catalog.repository;
+
+import com.autotech.catalog.dto.CannedJobProductRequest;
+import com.autotech.catalog.dto.CannedJobRequest;
+import com.autotech.catalog.dto.CannedJobResponse;
+import com.autotech.catalog.dto.CannedJobServiceRequest;
+import com.autotech.catalog.service.CannedJobService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The canned job list carries line totals without touching the line collections: one query for
+ * the page, one for its count and one aggregate for the totals, however many jobs are listed.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CannedJobListTotalsIT {
+
+    private static final int JOBS = 15;
+
+    @Autowired
+    private CannedJobService cannedJobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() {
+        IntStream.range(0, JOBS).forEach(i -> cannedJobService.create(new CannedJobRequest("Totales " + i, null,
+                List.of(new CannedJobServiceRequest(null, "Mano de obra", new BigDecimal("100.00")),
+                        new CannedJobServiceRequest(null, "Diagnóstico", new BigDecimal("25.50"))),
+                List.of(new CannedJobProductRequest(null, "Filtro", 2, new BigDecimal("10.25"))))));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM canned_jobs WHERE title LIKE 'Totales %'");
+    }
+
+    @Test
+    void givenFullPage_whenSearch_thenTotalsWithoutLoadingLines() {
+        // Arrange
+        statistics.clear();
+
+        // Act
+        Page<CannedJobResponse> page = cannedJobService.search("totales", PageRequest.of(0, 12));
+
+        // Assert
+        assertThat(page.getContent()).hasSize(12);
+        assertThat(page.getContent()).allSatisfy(job -> {
+            assertThat(job.servicesTotal()).isEqualByComparingTo("125.50");
+            assertThat(job.productsTotal()).isEqualByComparingTo("20.50");
+            assertThat(job.total()).isEqualByComparingTo("146.00");
+            assertThat(job.lineCount()).isEqualTo(3L);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+}
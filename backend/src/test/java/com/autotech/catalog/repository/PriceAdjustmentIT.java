@@ -0,0 +1,114 @@
+package com.autotech.catalog.repository;
+
+import com.autotech.catalog.dto.PriceAdjustmentRequest;
+import com.autotech.catalog.dto.PriceAdjustmentResponse;
+import com.autotech.catalog.model.PriceAdjustmentMode;
+import com.autotech.catalog.model.PriceAdjustmentTarget;
+import com.autotech.catalog.service.PriceAdjustmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk repricing against the real schema: rounding, the name/description filter, cascading to
+ * canned job lines and chunking (the chunk size is lowered so a few rows span several chunks).
+ */
+@SpringBootTest(properties = "autotech.pricing.chunk-size=2")
+@ActiveProfiles("test")
+class PriceAdjustmentIT {
+
+    @Autowired
+    private PriceAdjustmentService priceAdjustmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long jobId;
+
+    // Everything seeded here is prefixed with "PA" so the filters never reach other tests' rows
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO products (name, description, quantity, unit_price) VALUES
+                    ('PA Filtro de aceite', NULL, 10, 1234.00),
+                    ('PA Filtro de aire', NULL, 10, 999.00),
+                    ('PA Filtro de combustible', NULL, 10, 1501.00),
+                    ('PA Lámpara H4', 'PA Iluminación', 10, 800.00),
+                    ('PA Sin precio', NULL, 10, NULL)
+                """);
+        jobId = jdbcTemplate.queryForObject(
+                "INSERT INTO canned_jobs (title, updated_at) VALUES ('PA Service', '2024-01-01') RETURNING id", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO canned_job_products (canned_job_id, product_name, quantity, unit_price) VALUES
+                    (?, 'PA Filtro de aceite', 1, 1200.00),
+                    (?, 'PA Lámpara H4', 2, 800.00)
+                """, jobId, jobId);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM canned_jobs WHERE title = 'PA Service'");
+        jdbcTemplate.update("DELETE FROM products WHERE name LIKE 'PA %'");
+    }
+
+    @Test
+    void givenDryRun_whenAdjust_thenNothingIsWritten() {
+        // Act
+        PriceAdjustmentResponse result = priceAdjustmentService.adjust(request("pa filtro", true, true));
+
+        // Assert
+        assertThat(result.products()).isEqualTo(3);
+        assertThat(result.cannedJobProducts()).isEqualTo(1);
+        assertThat(result.preview()).hasSize(4);
+        assertThat(price("PA Filtro de aceite")).isEqualByComparingTo("1234.00");
+    }
+
+    @Test
+    void givenFilterAndRounding_whenAdjust_thenMatchingPricesRoundedAndLinesCascaded() {
+        // Act
+        PriceAdjustmentResponse result = priceAdjustmentService.adjust(request("pa filtro", true, false));
+
+        // Assert
+        assertThat(result.products()).isEqualTo(3);
+        assertThat(result.cannedJobProducts()).isEqualTo(1);
+        // +10% rounded to the nearest 10: 1357.40 -> 1360, 1098.90 -> 1100, 1651.10 -> 1650
+        assertThat(price("PA Filtro de aceite")).isEqualByComparingTo("1360.00");
+        assertThat(price("PA Filtro de aire")).isEqualByComparingTo("1100.00");
+        assertThat(price("PA Filtro de combustible")).isEqualByComparingTo("1650.00");
+        assertThat(price("PA Lámpara H4")).isEqualByComparingTo("800.00");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT unit_price FROM canned_job_products WHERE product_name = 'PA Filtro de aceite'",
+                BigDecimal.class)).isEqualByComparingTo("1320.00");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT updated_at > '2024-01-01' FROM canned_jobs WHERE id = ?", Boolean.class, jobId)).isTrue();
+    }
+
+    @Test
+    void givenDescriptionMatch_whenAdjust_thenOnlyThatProductChanges() {
+        // Act
+        PriceAdjustmentResponse result = priceAdjustmentService.adjust(request("pa iluminación", false, false));
+
+        // Assert
+        assertThat(result.products()).isEqualTo(1);
+        assertThat(result.cannedJobProducts()).isZero();
+        assertThat(price("PA Lámpara H4")).isEqualByComparingTo("880.00");
+        assertThat(price("PA Filtro de aceite")).isEqualByComparingTo("1234.00");
+    }
+
+    private PriceAdjustmentRequest request(String query, boolean includeCannedJobs, boolean dryRun) {
+        return new PriceAdjustmentRequest(PriceAdjustmentTarget.PRODUCTS, PriceAdjustmentMode.PERCENTAGE,
+                new BigDecimal("10"), new BigDecimal("10"), query, includeCannedJobs, dryRun);
+    }
+
+    private BigDecimal price(String name) {
+        return jdbcTemplate.queryForObject("SELECT unit_price FROM products WHERE name = ?", BigDecimal.class, name);
+    }
+}
@@ -0,0 +1,143 @@
+package com.autotech.catalog.repository;
+
+import com.autotech.catalog.dto.ProductRequest;
+import com.autotech.catalog.dto.StockReservationRequest;
+import com.autotech.catalog.dto.StockReservationResponse;
+import com.autotech.catalog.service.ProductService;
+import com.autotech.catalog.service.StockReservationService;
+import com.autotech.common.exception.InsufficientStockException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many threads hammer the same product at once. Every unit must be handed out exactly once:
+ * successful reservations add up to the initial stock, the rest are rejected, and the stock
+ * ends at zero rather than below it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StockReservationStressIT {
+
+    private static final int INITIAL_STOCK = 200;
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 25;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterAll
+    void cleanUp() {
+        // Reservations go with their products (ON DELETE CASCADE)
+        jdbcTemplate.update("DELETE FROM products WHERE name LIKE 'SR %'");
+    }
+
+    @Test
+    void givenParallelReservations_whenStockRunsOut_thenNoOversell() throws Exception {
+        // Arrange
+        Long productId = jdbcTemplate.queryForObject(
+                "INSERT INTO products (name, quantity) VALUES ('SR Filtro de aceite', ?) RETURNING id",
+                Long.class, INITIAL_STOCK);
+        AtomicInteger reservedUnits = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    int units = 1 + i % 2;
+                    try {
+                        StockReservationResponse reservation =
+                                stockReservationService.reserve(new StockReservationRequest(productId, units));
+                        reservedUnits.addAndGet(reservation.quantity());
+                    } catch (InsufficientStockException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        Integer remaining = jdbcTemplate.queryForObject(
+                "SELECT quantity FROM products WHERE id = ?", Integer.class, productId);
+        Integer held = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM stock_reservations WHERE product_id = ?",
+                Integer.class, productId);
+        assertThat(remaining).isGreaterThanOrEqualTo(0);
+        assertThat(reservedUnits.get() + remaining).isEqualTo(INITIAL_STOCK);
+        assertThat(held).isEqualTo(reservedUnits.get());
+        // 32 x 25 attempts ask for far more than 200 units, so some must have been turned away
+        assertThat(rejected.get()).isPositive();
+    }
+
+    @Test
+    void givenReservation_whenProductIsEdited_thenReservedUnitsStayOff() {
+        // Arrange
+        Long productId = jdbcTemplate.queryForObject(
+                "INSERT INTO products (name, quantity) VALUES ('SR Filtro de aire', 10) RETURNING id",
+                Long.class);
+        stockReservationService.reserve(new StockReservationRequest(productId, 4));
+
+        // Act: the form still shows the 10 units it loaded before the reservation
+        productService.update(productId, new ProductRequest("SR Filtro de aire premium", null, 10, null));
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT quantity FROM products WHERE id = ?", Integer.class, productId))
+                .isEqualTo(6);
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM products WHERE id = ?", String.class, productId))
+                .isEqualTo("SR Filtro de aire premium");
+    }
+
+    @Test
+    void givenExpiredReservation_whenReleaseExpired_thenUnitsGoBack() {
+        // Arrange
+        Long productId = jdbcTemplate.queryForObject(
+                "INSERT INTO products (name, quantity) VALUES ('SR Pastillas de freno', 10) RETURNING id",
+                Long.class);
+        StockReservationResponse reservation =
+                stockReservationService.reserve(new StockReservationRequest(productId, 4));
+        jdbcTemplate.update("UPDATE stock_reservations SET expires_at = NOW() - INTERVAL '1 minute' WHERE id = ?",
+                reservation.id());
+
+        // Act
+        stockReservationService.releaseExpired();
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT quantity FROM products WHERE id = ?", Integer.class, productId))
+                .isEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_reservations WHERE id = ?",
+                Integer.class, reservation.id())).isZero();
+    }
+}
@@ -8,6 +8,7 @@ import com.autotech.catalog.dto.CannedJobRequest;
 import com.autotech.catalog.dto.CannedJobResponse;
 import com.autotech.catalog.dto.CannedJobServiceRequest;
 import com.autotech.catalog.dto.CannedJobServiceResponse;
+import com.autotech.catalog.dto.CannedJobTotals;
 import com.autotech.catalog.model.CannedJob;
 import com.autotech.catalog.repository.CannedJobRepository;
 import com.autotech.common.exception.ResourceNotFoundException;
@@ -28,7 +29,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,9 +56,9 @@ class CannedJobServiceImplTest {
         CannedJobResponse response = buildResponse(1L, "Full Service");
         Page<CannedJob> entityPage = new PageImpl<>(List.of(entity));
 
-        when(cannedJobRepository.findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-                eq("full"), eq("full"), eq(pageable))).thenReturn(entityPage);
-        when(cannedJobMapper.toResponse(entity)).thenReturn(response);
+        when(cannedJobRepository.searchRanked(eq("full:*"), eq(pageable))).thenReturn(entityPage);
+        when(cannedJobRepository.findTotalsByIdIn(List.of(1L))).thenReturn(List.of(CannedJobTotals.empty(1L)));
+        when(cannedJobMapper.toResponse(entity, CannedJobTotals.empty(1L))).thenReturn(response);
 
         // Act
         Page<CannedJobResponse> result = cannedJobService.search("full", pageable);
@@ -65,6 +68,15 @@ class CannedJobServiceImplTest {
         assertThat(result.getContent().getFirst().title()).isEqualTo("Full Service");
     }
 
+    @Test
+    void givenFreeText_whenToPrefixTsQuery_thenEveryWordIsAPrefixTerm() {
+        // Act & Assert
+        assertThat(CannedJobServiceImpl.toPrefixTsQuery("  pastillas de freno ")).isEqualTo("pastillas:* & de:* & freno:*");
+        assertThat(CannedJobServiceImpl.toPrefixTsQuery("aceite 5w30 (sintético)")).isEqualTo("aceite:* & 5w30:* & sintético:*");
+        assertThat(CannedJobServiceImpl.toPrefixTsQuery("!& | :*")).isNull();
+        assertThat(CannedJobServiceImpl.toPrefixTsQuery(null)).isNull();
+    }
+
     @Test
     void givenBlankQuery_whenSearch_thenReturnAll() {
         // Arrange
@@ -73,7 +85,8 @@ class CannedJobServiceImplTest {
         Page<CannedJob> entityPage = new PageImpl<>(List.of(entity));
 
         when(cannedJobRepository.findAll(pageable)).thenReturn(entityPage);
-        when(cannedJobMapper.toResponse(entity)).thenReturn(response);
+        when(cannedJobRepository.findTotalsByIdIn(List.of(1L))).thenReturn(List.of(CannedJobTotals.empty(1L)));
+        when(cannedJobMapper.toResponse(entity, CannedJobTotals.empty(1L))).thenReturn(response);
 
         // Act
         Page<CannedJobResponse> result = cannedJobService.search(null, pageable);
@@ -82,6 +95,29 @@ class CannedJobServiceImplTest {
         assertThat(result.getContent()).hasSize(1);
     }
 
+    @Test
+    void givenPage_whenSearch_thenTotalsComeFromOneAggregateQuery() {
+        // Arrange
+        CannedJob first = buildEntity(1L, "Full Service");
+        CannedJob second = buildEntity(2L, "Brakes");
+        CannedJobTotals firstTotals = new CannedJobTotals(1L, new BigDecimal("100.00"), new BigDecimal("20.00"), 3L);
+        CannedJobResponse firstResponse = buildResponse(1L, "Full Service");
+        CannedJobResponse secondResponse = buildResponse(2L, "Brakes");
+
+        when(cannedJobRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(first, second)));
+        when(cannedJobRepository.findTotalsByIdIn(List.of(1L, 2L))).thenReturn(List.of(firstTotals));
+        when(cannedJobMapper.toResponse(first, firstTotals)).thenReturn(firstResponse);
+        // A job without lines has no row in the aggregate; the mapper falls back to zeros
+        when(cannedJobMapper.toResponse(second, null)).thenReturn(secondResponse);
+
+        // Act
+        Page<CannedJobResponse> result = cannedJobService.search(" ", pageable);
+
+        // Assert
+        assertThat(result.getContent()).containsExactly(firstResponse, secondResponse);
+        verify(cannedJobRepository, never()).findWithDetailsById(any());
+    }
+
     @Test
     void givenExistingId_whenGetById_thenReturnDetailResponse() {
         // Arrange
@@ -132,10 +168,10 @@ class CannedJobServiceImplTest {
     void givenRequestWithChildren_whenCreate_thenSavesChildren() {
         // Arrange
         List<CannedJobServiceRequest> svcRequests = List.of(
-                new CannedJobServiceRequest("Oil Change", new BigDecimal("50.00"))
+                new CannedJobServiceRequest(null, "Oil Change", new BigDecimal("50.00"))
         );
         List<CannedJobProductRequest> prodRequests = List.of(
-                new CannedJobProductRequest("Oil Filter", 1, new BigDecimal("15.00"))
+                new CannedJobProductRequest(null, "Oil Filter", 1, new BigDecimal("15.00"))
         );
         CannedJobRequest request = new CannedJobRequest("Full Service", "Complete", svcRequests, prodRequests);
         CannedJob entity = buildEntity(null, "Full Service");
@@ -163,7 +199,7 @@ class CannedJobServiceImplTest {
         entity.setProducts(new java.util.LinkedHashSet<>());
 
         List<CannedJobServiceRequest> svcRequests = List.of(
-                new CannedJobServiceRequest("New Service", new BigDecimal("100.00"))
+                new CannedJobServiceRequest(null, "New Service", new BigDecimal("100.00"))
         );
         CannedJobRequest request = new CannedJobRequest("New Title", "New desc", svcRequests, List.of());
         CannedJob saved = buildEntity(1L, "New Title");
@@ -182,6 +218,99 @@ class CannedJobServiceImplTest {
         assertThat(entity.getServices()).hasSize(1);
     }
 
+    @Test
+    void givenOnePriceChanged_whenUpdate_thenOnlyThatLineIsModified() {
+        // Arrange
+        CannedJob entity = buildEntity(1L, "Full Service");
+        com.autotech.catalog.model.CannedJobService oil = buildServiceLine(entity, 10L, "Oil Change", "50.00");
+        com.autotech.catalog.model.CannedJobService brakes = buildServiceLine(entity, 11L, "Brakes", "80.00");
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        entity.setUpdatedAt(updatedAt);
+
+        CannedJobRequest request = new CannedJobRequest("Full Service", "Test description", List.of(
+                new CannedJobServiceRequest(10L, "Oil Change", new BigDecimal("55.00")),
+                new CannedJobServiceRequest(11L, "Brakes", new BigDecimal("80.0"))
+        ), List.of());
+
+        when(cannedJobRepository.findWithDetailsById(1L)).thenReturn(Optional.of(entity));
+        when(cannedJobRepository.save(entity)).thenReturn(entity);
+
+        // Act
+        cannedJobService.update(1L, request);
+
+        // Assert
+        assertThat(entity.getServices()).containsExactly(oil, brakes);
+        assertThat(oil.getPrice()).isEqualByComparingTo("55.00");
+        // Same amount with a different scale must not be written back
+        assertThat(brakes.getPrice()).isEqualTo(new BigDecimal("80.00"));
+        assertThat(entity.getUpdatedAt()).isAfter(updatedAt);
+    }
+
+    @Test
+    void givenNoLineChanges_whenUpdate_thenUpdatedAtIsKept() {
+        // Arrange
+        CannedJob entity = buildEntity(1L, "Full Service");
+        buildServiceLine(entity, 10L, "Oil Change", "50.00");
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        entity.setUpdatedAt(updatedAt);
+
+        CannedJobRequest request = new CannedJobRequest("Full Service", "Test description", List.of(
+                new CannedJobServiceRequest(10L, "Oil Change", new BigDecimal("50.00"))
+        ), List.of());
+
+        when(cannedJobRepository.findWithDetailsById(1L)).thenReturn(Optional.of(entity));
+        when(cannedJobRepository.save(entity)).thenReturn(entity);
+
+        // Act
+        cannedJobService.update(1L, request);
+
+        // Assert
+        assertThat(entity.getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    void givenMissingAndNewLines_whenUpdate_thenRemovesMissingAndAddsNew() {
+        // Arrange
+        CannedJob entity = buildEntity(1L, "Full Service");
+        com.autotech.catalog.model.CannedJobService oil = buildServiceLine(entity, 10L, "Oil Change", "50.00");
+        buildServiceLine(entity, 11L, "Brakes", "80.00");
+
+        CannedJobRequest request = new CannedJobRequest("Full Service", "Test description", List.of(
+                new CannedJobServiceRequest(10L, "Oil Change", new BigDecimal("50.00")),
+                new CannedJobServiceRequest(null, "Alignment", new BigDecimal("30.00"))
+        ), List.of());
+
+        when(cannedJobRepository.findWithDetailsById(1L)).thenReturn(Optional.of(entity));
+        when(cannedJobRepository.save(entity)).thenReturn(entity);
+
+        // Act
+        cannedJobService.update(1L, request);
+
+        // Assert
+        assertThat(entity.getServices()).hasSize(2).contains(oil);
+        assertThat(entity.getServices())
+                .extracting(com.autotech.catalog.model.CannedJobService::getServiceName)
+                .containsExactly("Oil Change", "Alignment");
+    }
+
+    @Test
+    void givenLineIdFromAnotherJob_whenUpdate_thenThrowIllegalArgumentException() {
+        // Arrange
+        CannedJob entity = buildEntity(1L, "Full Service");
+        buildServiceLine(entity, 10L, "Oil Change", "50.00");
+
+        CannedJobRequest request = new CannedJobRequest("Full Service", null, List.of(
+                new CannedJobServiceRequest(99L, "Oil Change", new BigDecimal("50.00"))
+        ), List.of());
+
+        when(cannedJobRepository.findWithDetailsById(1L)).thenReturn(Optional.of(entity));
+
+        // Act & Assert
+        assertThatThrownBy(() -> cannedJobService.update(1L, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("99");
+    }
+
     @Test
     void givenNonExistingId_whenUpdate_thenThrowResourceNotFoundException() {
         // Arrange
@@ -224,8 +353,21 @@ class CannedJobServiceImplTest {
         return entity;
     }
 
+    private com.autotech.catalog.model.CannedJobService buildServiceLine(
+            CannedJob job, Long id, String name, String price) {
+        com.autotech.catalog.model.CannedJobService line = com.autotech.catalog.model.CannedJobService.builder()
+                .cannedJob(job)
+                .serviceName(name)
+                .price(new BigDecimal(price))
+                .build();
+        line.setId(id);
+        job.getServices().add(line);
+        return line;
+    }
+
     private CannedJobResponse buildResponse(Long id, String title) {
         return new CannedJobResponse(id, title, "Test description",
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0L,
                 LocalDateTime.now(), LocalDateTime.now());
     }
 
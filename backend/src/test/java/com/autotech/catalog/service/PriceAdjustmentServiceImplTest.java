@@ -0,0 +1,143 @@
+package com.autotech.catalog.service;
+
+import com.autotech.catalog.dto.PriceAdjustmentRequest;
+import com.autotech.catalog.dto.PriceAdjustmentResponse;
+import com.autotech.catalog.dto.PriceChangePreview;
+import com.autotech.catalog.model.PriceAdjustmentMode;
+import com.autotech.catalog.model.PriceAdjustmentTarget;
+import com.autotech.catalog.model.PricedItemType;
+import com.autotech.catalog.repository.CatalogPricingRepository;
+import com.autotech.catalog.repository.CatalogPricingRepository.PriceFormula;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PriceAdjustmentServiceImplTest {
+
+    @Mock
+    private CatalogPricingRepository catalogPricingRepository;
+
+    private PriceAdjustmentServiceImpl priceAdjustmentService;
+
+    @BeforeEach
+    void setUp() {
+        priceAdjustmentService = new PriceAdjustmentServiceImpl(catalogPricingRepository, 2, 3);
+    }
+
+    @Test
+    void givenPercentage_whenFormulaOf_thenFactorWithoutDelta() {
+        // Act
+        PriceFormula formula = PriceAdjustmentServiceImpl.formulaOf(request(
+                PriceAdjustmentTarget.ALL, PriceAdjustmentMode.PERCENTAGE, "12.5", new BigDecimal("10"), false, false));
+
+        // Assert
+        assertThat(formula.factor()).isEqualByComparingTo("1.125");
+        assertThat(formula.delta()).isEqualByComparingTo("0");
+        assertThat(formula.step()).isEqualByComparingTo("10");
+    }
+
+    @Test
+    void givenFixedAmountWithoutRounding_whenFormulaOf_thenDeltaRoundedToCents() {
+        // Act
+        PriceFormula formula = PriceAdjustmentServiceImpl.formulaOf(request(
+                PriceAdjustmentTarget.ALL, PriceAdjustmentMode.FIXED, "-500", null, false, false));
+
+        // Assert
+        assertThat(formula.factor()).isEqualByComparingTo("1");
+        assertThat(formula.delta()).isEqualByComparingTo("-500");
+        assertThat(formula.step()).isEqualByComparingTo("0.01");
+    }
+
+    @Test
+    void givenLikeWildcards_whenLikePattern_thenEscaped() {
+        // Act & Assert
+        assertThat(PriceAdjustmentServiceImpl.likePattern(" 100%_aceite ")).isEqualTo("%100\\%\\_aceite%");
+        assertThat(PriceAdjustmentServiceImpl.likePattern(null)).isEqualTo("%");
+    }
+
+    @Test
+    void givenPercentageOfMinusHundred_whenAdjust_thenThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThatThrownBy(() -> priceAdjustmentService.adjust(request(
+                PriceAdjustmentTarget.ALL, PriceAdjustmentMode.PERCENTAGE, "-100", null, false, false)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(catalogPricingRepository);
+    }
+
+    @Test
+    void givenMoreRowsThanChunk_whenAdjust_thenRepriceChunkByChunk() {
+        // Arrange
+        when(catalogPricingRepository.findChangedIds(eq(PricedItemType.SERVICE), eq("%"), any(), eq(0L), eq(2)))
+                .thenReturn(List.of(1L, 2L));
+        when(catalogPricingRepository.findChangedIds(eq(PricedItemType.SERVICE), eq("%"), any(), eq(2L), eq(2)))
+                .thenReturn(List.of(5L));
+        when(catalogPricingRepository.reprice(eq(PricedItemType.SERVICE), eq(List.of(1L, 2L)), any(), any()))
+                .thenReturn(2);
+        when(catalogPricingRepository.reprice(eq(PricedItemType.SERVICE), eq(List.of(5L)), any(), any()))
+                .thenReturn(1);
+
+        // Act
+        PriceAdjustmentResponse result = priceAdjustmentService.adjust(request(
+                PriceAdjustmentTarget.SERVICES, PriceAdjustmentMode.PERCENTAGE, "10", null, false, false));
+
+        // Assert
+        assertThat(result.services()).isEqualTo(3);
+        assertThat(result.products()).isZero();
+        assertThat(result.preview()).isEmpty();
+        verify(catalogPricingRepository, never())
+                .findChangedIds(eq(PricedItemType.PRODUCT), anyString(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void givenDryRunWithCannedJobs_whenAdjust_thenCountAndPreviewWithoutWriting() {
+        // Arrange
+        PriceChangePreview first = new PriceChangePreview(
+                PricedItemType.PRODUCT, 1L, "Filtro", new BigDecimal("100.00"), new BigDecimal("110.00"));
+        PriceChangePreview second = new PriceChangePreview(
+                PricedItemType.PRODUCT, 2L, "Aceite", new BigDecimal("50.00"), new BigDecimal("55.00"));
+        PriceChangePreview line = new PriceChangePreview(
+                PricedItemType.CANNED_JOB_PRODUCT, 9L, "Filtro", new BigDecimal("100.00"), new BigDecimal("110.00"));
+        when(catalogPricingRepository.count(eq(PricedItemType.PRODUCT), anyString(), any())).thenReturn(5);
+        when(catalogPricingRepository.count(eq(PricedItemType.CANNED_JOB_PRODUCT), anyString(), any())).thenReturn(4);
+        when(catalogPricingRepository.preview(eq(PricedItemType.PRODUCT), anyString(), any(), eq(3)))
+                .thenReturn(List.of(first, second));
+        when(catalogPricingRepository.preview(eq(PricedItemType.CANNED_JOB_PRODUCT), anyString(), any(), eq(1)))
+                .thenReturn(List.of(line));
+
+        // Act
+        PriceAdjustmentResponse result = priceAdjustmentService.adjust(request(
+                PriceAdjustmentTarget.PRODUCTS, PriceAdjustmentMode.PERCENTAGE, "10", null, true, true));
+
+        // Assert
+        assertThat(result.dryRun()).isTrue();
+        assertThat(result.products()).isEqualTo(5);
+        assertThat(result.cannedJobProducts()).isEqualTo(4);
+        assertThat(result.preview()).containsExactly(first, second, line);
+        verify(catalogPricingRepository, never()).reprice(any(), any(), any(), any(LocalDateTime.class));
+    }
+
+    private static PriceAdjustmentRequest request(PriceAdjustmentTarget target, PriceAdjustmentMode mode,
+                                                  String amount, BigDecimal roundTo,
+                                                  boolean includeCannedJobs, boolean dryRun) {
+        return new PriceAdjustmentRequest(target, mode, new BigDecimal(amount), roundTo, null, includeCannedJobs, dryRun);
+    }
+}
@@ -3,8 +3,11 @@ package com.autotech.catalog.service;
 import com.autotech.catalog.dto.ProductMapper;
 import com.autotech.catalog.dto.ProductRequest;
 import com.autotech.catalog.dto.ProductResponse;
+import com.autotech.catalog.dto.StockAdjustmentRequest;
 import com.autotech.catalog.model.Product;
 import com.autotech.catalog.repository.ProductRepository;
+import com.autotech.catalog.repository.StockLedgerRepository;
+import com.autotech.common.exception.InsufficientStockException;
 import com.autotech.common.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +26,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,6 +40,9 @@ class ProductServiceImplTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private StockLedgerRepository stockLedgerRepository;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -142,6 +149,34 @@ class ProductServiceImplTest {
         verify(productMapper).updateEntity(request, entity);
     }
 
+    @Test
+    void givenDelta_whenAdjustStock_thenApplyThroughLedger() {
+        // Arrange
+        Product entity = buildEntity(1L, "Brake Pad");
+        ProductResponse response = buildResponse(1L, "Brake Pad");
+        when(stockLedgerRepository.adjust(eq(1L), eq(-3), any(LocalDateTime.class))).thenReturn(Optional.of(7));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(productMapper.toResponse(entity)).thenReturn(response);
+
+        // Act
+        ProductResponse result = productService.adjustStock(1L, new StockAdjustmentRequest(-3));
+
+        // Assert
+        assertThat(result).isEqualTo(response);
+    }
+
+    @Test
+    void givenDeltaBelowStock_whenAdjustStock_thenThrowInsufficientStockException() {
+        // Arrange
+        when(stockLedgerRepository.adjust(eq(1L), eq(-30), any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(stockLedgerRepository.findAvailable(1L)).thenReturn(Optional.of(10));
+
+        // Act & Assert
+        assertThatThrownBy(() -> productService.adjustStock(1L, new StockAdjustmentRequest(-30)))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("10 disponibles");
+    }
+
     @Test
     void givenNonExistingId_whenUpdate_thenThrowResourceNotFoundException() {
         // Arrange
@@ -0,0 +1,103 @@
+package com.autotech.catalog.service;
+
+import com.autotech.catalog.dto.StockReservationRequest;
+import com.autotech.catalog.dto.StockReservationResponse;
+import com.autotech.catalog.repository.StockLedgerRepository;
+import com.autotech.common.exception.InsufficientStockException;
+import com.autotech.common.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationServiceImplTest {
+
+    @Mock
+    private StockLedgerRepository stockLedgerRepository;
+
+    private StockReservationServiceImpl stockReservationService;
+
+    @BeforeEach
+    void setUp() {
+        stockReservationService = new StockReservationServiceImpl(stockLedgerRepository, Duration.ofMinutes(30), 2);
+    }
+
+    @Test
+    void givenEnoughStock_whenReserve_thenReturnReservationWithExpiry() {
+        // Arrange
+        when(stockLedgerRepository.reserve(eq(1L), eq(3), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(100L));
+
+        // Act
+        StockReservationResponse result = stockReservationService.reserve(new StockReservationRequest(1L, 3));
+
+        // Assert
+        assertThat(result.id()).isEqualTo(100L);
+        assertThat(result.quantity()).isEqualTo(3);
+        assertThat(result.expiresAt()).isAfter(LocalDateTime.now().plusMinutes(29));
+    }
+
+    @Test
+    void givenNotEnoughStock_whenReserve_thenThrowInsufficientStockException() {
+        // Arrange
+        when(stockLedgerRepository.reserve(eq(1L), eq(5), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(stockLedgerRepository.findAvailable(1L)).thenReturn(Optional.of(2));
+
+        // Act & Assert
+        assertThatThrownBy(() -> stockReservationService.reserve(new StockReservationRequest(1L, 5)))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("2 disponibles");
+    }
+
+    @Test
+    void givenUnknownProduct_whenReserve_thenThrowResourceNotFoundException() {
+        // Arrange
+        when(stockLedgerRepository.reserve(eq(99L), eq(1), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(stockLedgerRepository.findAvailable(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> stockReservationService.reserve(new StockReservationRequest(99L, 1)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void givenGoneReservation_whenRelease_thenThrowResourceNotFoundException() {
+        // Arrange
+        when(stockLedgerRepository.release(eq(7L), any(LocalDateTime.class))).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> stockReservationService.release(7L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("7");
+    }
+
+    @Test
+    void givenBacklogLargerThanBatch_whenReleaseExpired_thenSweepUntilShortBatch() {
+        // Arrange
+        when(stockLedgerRepository.releaseExpired(any(LocalDateTime.class), anyInt())).thenReturn(2, 2, 1);
+
+        // Act
+        int released = stockReservationService.releaseExpired();
+
+        // Assert
+        assertThat(released).isEqualTo(5);
+        verify(stockLedgerRepository, times(3)).releaseExpired(any(LocalDateTime.class), eq(2));
+    }
+}
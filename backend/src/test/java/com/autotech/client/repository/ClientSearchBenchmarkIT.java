@@ -0,0 +1,112 @@
+package com.autotech.client.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the legacy {@code LIKE '%q%'} client search against the trigram-ranked one
+ * on 500k seeded clients. Prints both query plans and the p99 latency of each.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ClientSearchBenchmarkIT {
+
+    private static final int SEEDED_CLIENTS = 500_000;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 200;
+    private static final List<String> QUERIES = List.of("gonzalez", "martin", "3045", "lopez mar");
+
+    private static final String LEGACY_SQL = """
+            SELECT c.* FROM clients c
+            WHERE LOWER(c.first_name) LIKE CONCAT('%', LOWER(?), '%')
+               OR LOWER(c.last_name) LIKE CONCAT('%', LOWER(?), '%')
+               OR LOWER(c.dni) LIKE CONCAT('%', LOWER(?), '%')
+            LIMIT 12
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @BeforeAll
+    void seedClients() {
+        jdbcTemplate.update("""
+                INSERT INTO clients (first_name, last_name, dni, phone, client_type)
+                SELECT (ARRAY['Juan','Maria','Martin','Lucia','Carlos','Sofia','Diego','Valentina'])[1 + g % 8] || g,
+                       (ARRAY['Gonzalez','Rodriguez','Lopez','Martinez','Fernandez','Perez','Gomez','Diaz'])[1 + (g / 8) % 8],
+                       (20000000 + g)::text,
+                       '351' || g,
+                       'PERSONAL'
+                FROM generate_series(1, ?) AS g
+                """, SEEDED_CLIENTS);
+        jdbcTemplate.execute("ANALYZE clients");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM clients WHERE dni BETWEEN '20000001' AND ? AND length(dni) = 8",
+                String.valueOf(20000000 + SEEDED_CLIENTS));
+    }
+
+    @Test
+    void givenSeededClients_whenSearchRanked_thenUsesTrigramIndexes() {
+        for (String query : QUERIES) {
+            // Act
+            String legacyPlan = explain(LEGACY_SQL, query, query, query);
+            String rankedPlan = String.join("\n", namedJdbcTemplate.queryForList(
+                    "EXPLAIN (ANALYZE, BUFFERS) " + ClientRepository.SEARCH_RANKED_SQL + " LIMIT 12",
+                    Map.of("query", query), String.class));
+
+            long legacyP99 = p99Micros(() -> jdbcTemplate.queryForList(LEGACY_SQL, query, query, query));
+            long rankedP99 = p99Micros(() -> clientRepository.searchRanked(query, PageRequest.of(0, 12)));
+
+            log.info("Query '{}'\n--- legacy plan ---\n{}\n--- ranked plan ---\n{}", query, legacyPlan, rankedPlan);
+            log.info("Query '{}': legacy p99 = {} us, ranked p99 = {} us", query, legacyP99, rankedP99);
+
+            // Assert
+            assertThat(legacyPlan).contains("Seq Scan on clients");
+            assertThat(rankedPlan).contains("Bitmap Index Scan on idx_clients_");
+        }
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, String.class, args));
+    }
+
+    private long p99Micros(Supplier<?> run) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run.get();
+        }
+        long[] samples = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            run.get();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(samples);
+        return samples[(int) Math.ceil(MEASURED_RUNS * 0.99) - 1];
+    }
+}
@@ -0,0 +1,103 @@
+package com.autotech.client.service;
+
+import com.autotech.client.dto.ClientAutocompleteIndexStats;
+import com.autotech.client.dto.ClientAutocompleteResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientAutocompleteIndexTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClientAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new ClientAutocompleteIndex(meterRegistry);
+        index.rebuild(() -> List.of(
+                new ClientAutocompleteResponse(1L, "Juan", "Pérez", "12.345.678"),
+                new ClientAutocompleteResponse(2L, "María José", "Gómez", "30111222"),
+                new ClientAutocompleteResponse(3L, "Juana", "Gonzalez", null)));
+    }
+
+    @Test
+    void givenPrefix_whenSearch_thenReturnClientsWithMatchingToken() {
+        // Act
+        List<ClientAutocompleteResponse> result = index.search("jua", 20);
+
+        // Assert
+        assertThat(result).extracting(ClientAutocompleteResponse::id).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void givenAccentsAndCase_whenSearch_thenMatchNormalizedTokens() {
+        // Act
+        List<ClientAutocompleteResponse> result = index.search("PEREZ", 20);
+
+        // Assert
+        assertThat(result).extracting(ClientAutocompleteResponse::id).containsExactly(1L);
+    }
+
+    @Test
+    void givenSeveralTerms_whenSearch_thenEveryTermMustMatch() {
+        // Act
+        List<ClientAutocompleteResponse> result = index.search("ju go", 20);
+
+        // Assert
+        assertThat(result).extracting(ClientAutocompleteResponse::id).containsExactly(3L);
+    }
+
+    @Test
+    void givenDniWithoutSeparators_whenSearch_thenMatchFormattedDni() {
+        // Act
+        List<ClientAutocompleteResponse> result = index.search("12345", 20);
+
+        // Assert
+        assertThat(result).extracting(ClientAutocompleteResponse::id).containsExactly(1L);
+    }
+
+    @Test
+    void givenUpdatedClient_whenPut_thenOldTokensNoLongerMatch() {
+        // Act
+        index.put(new ClientAutocompleteResponse(1L, "Juan", "Ramirez", "12.345.678"));
+
+        // Assert
+        assertThat(index.search("perez", 20)).isEmpty();
+        assertThat(index.search("ramirez", 20)).extracting(ClientAutocompleteResponse::id).containsExactly(1L);
+    }
+
+    @Test
+    void givenRemovedClient_whenSearch_thenClientIsNotReturned() {
+        // Act
+        index.remove(2L);
+
+        // Assert
+        assertThat(index.search("maria", 20)).isEmpty();
+        assertThat(index.stats().entries()).isEqualTo(2);
+    }
+
+    @Test
+    void givenIndexedClients_whenReadMetric_thenReportEstimatedFootprint() {
+        // Act
+        ClientAutocompleteIndexStats stats = index.stats();
+        double gauge = meterRegistry.get("clients.autocomplete.index.memory").gauge().value();
+
+        // Assert
+        assertThat(stats.estimatedBytes()).isPositive();
+        assertThat(gauge).isEqualTo((double) stats.estimatedBytes());
+    }
+
+    @Test
+    void givenLimit_whenSearch_thenStopAtLimit() {
+        // Act
+        List<ClientAutocompleteResponse> result = index.search("j", 1);
+
+        // Assert
+        assertThat(result).hasSize(1);
+    }
+}
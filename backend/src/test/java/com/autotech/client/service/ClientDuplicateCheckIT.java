@@ -0,0 +1,94 @@
+package com.autotech.client.service;
+
+import com.autotech.client.dto.ClientDuplicateMatch;
+import com.autotech.client.dto.ClientRequest;
+import com.autotech.client.model.ClientType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The create-time duplicate check blocks on {@code clients.name_key}, which the database derives
+ * with its own copy of the phonetic rules. Accent and spelling variants of a stored surname must
+ * reach the scorer through that key alone: the probes below share neither DNI nor phone with it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ClientDuplicateCheckIT {
+
+    private static final String STORED_PHONE = "3517770001";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClientService clientService;
+
+    @BeforeAll
+    void seedClient() {
+        jdbcTemplate.update("""
+                INSERT INTO clients (first_name, last_name, phone, client_type)
+                VALUES ('Juan', 'González', ?, 'TEMPORAL')
+                """, STORED_PHONE);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM clients WHERE phone = ?", STORED_PHONE);
+    }
+
+    @Test
+    void givenStoredNames_whenNameKeyIsGenerated_thenMatchesJavaKey() {
+        // Arrange
+        List<String[]> names = List.of(
+                new String[] {"Juan", "González"},
+                new String[] {"María José", "Vázquez"},
+                new String[] {"Guillermo", "Villalba"},
+                new String[] {"Quique", "Rodríguez"},
+                new String[] {"Ñandú", "Muñoz y Hay"});
+
+        for (String[] name : names) {
+            // Act
+            String sqlKey = jdbcTemplate.queryForObject("SELECT client_name_key(?, ?)", String.class, name[0], name[1]);
+
+            // Assert
+            assertThat(sqlKey).isEqualTo(ClientDuplicateDetector.nameKey(name[0], name[1]));
+        }
+    }
+
+    @Test
+    void givenAccentVariant_whenCheckDuplicates_thenFlagStoredClient() {
+        // Act
+        List<ClientDuplicateMatch> matches = clientService.checkDuplicates(probe("Gonzalez"));
+
+        // Assert
+        assertThat(matches).anyMatch(match -> STORED_PHONE.equals(match.primary().phone())
+                || STORED_PHONE.equals(match.duplicate().phone()));
+    }
+
+    @Test
+    void givenPhoneticVariant_whenCheckDuplicates_thenFlagStoredClient() {
+        // Act
+        List<ClientDuplicateMatch> matches = clientService.checkDuplicates(probe("Gonsales"));
+
+        // Assert
+        assertThat(matches).anyMatch(match -> STORED_PHONE.equals(match.primary().phone())
+                || STORED_PHONE.equals(match.duplicate().phone()));
+    }
+
+    // A phone too short to yield a phone key and no DNI: only the name key can find the stored client
+    private static ClientRequest probe(String lastName) {
+        return new ClientRequest("Juan", lastName, null, null, null, "155500",
+                null, null, null, ClientType.TEMPORAL, null);
+    }
+}
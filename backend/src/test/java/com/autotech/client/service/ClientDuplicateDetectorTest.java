@@ -0,0 +1,137 @@
+package com.autotech.client.service;
+
+import com.autotech.client.dto.ClientDuplicateCandidate;
+import com.autotech.client.dto.ClientDuplicateMatch;
+import com.autotech.client.model.ClientType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ClientDuplicateDetectorTest {
+
+    private final ClientDuplicateDetector detector = new ClientDuplicateDetector();
+
+    @AfterEach
+    void tearDown() {
+        detector.shutdown();
+    }
+
+    @Test
+    void givenSpellingVariants_whenPhonetic_thenShareCode() {
+        // Assert
+        assertThat(ClientDuplicateDetector.phonetic("gonzalez")).isEqualTo(ClientDuplicateDetector.phonetic("gonsales"));
+        assertThat(ClientDuplicateDetector.phonetic("rodriguez")).isEqualTo(ClientDuplicateDetector.phonetic("rodrigues"));
+        assertThat(ClientDuplicateDetector.phonetic("vazquez")).isEqualTo(ClientDuplicateDetector.phonetic("basques"));
+        assertThat(ClientDuplicateDetector.phonetic("villalba")).isEqualTo(ClientDuplicateDetector.phonetic("bilalva"));
+    }
+
+    @Test
+    void givenAccentAndSpellingVariants_whenNameKey_thenShareKey() {
+        // Act
+        String key = ClientDuplicateDetector.nameKey("Juan", "González");
+
+        // Assert
+        assertThat(ClientDuplicateDetector.nameKey("juan", "Gonzalez")).isEqualTo(key);
+        assertThat(ClientDuplicateDetector.nameKey("Juan Carlos", "Gonsales")).isEqualTo(key);
+        assertThat(ClientDuplicateDetector.nameKey("Pedro", "Gonzalez")).isNotEqualTo(key);
+        assertThat(ClientDuplicateDetector.nameKey("Juan", "-")).isNull();
+    }
+
+    @Test
+    void givenDifferentlyFormattedPhones_whenPhoneKey_thenKeepLocalNumber() {
+        // Assert
+        assertThat(ClientDuplicateDetector.phoneKey("+54 9 11 5555-0000")).isEqualTo("55550000");
+        assertThat(ClientDuplicateDetector.phoneKey("011 5555 0000")).isEqualTo("55550000");
+        assertThat(ClientDuplicateDetector.phoneKey("1234")).isNull();
+    }
+
+    @Test
+    void givenTemporalCopyOfRegisteredClient_whenFindDuplicates_thenSuggestKeepingRegistered() {
+        // Arrange
+        List<ClientDuplicateCandidate> clients = List.of(
+                new ClientDuplicateCandidate(1L, "Juan", "González", "30.111.222", "11 5555-0000", ClientType.PERSONAL),
+                new ClientDuplicateCandidate(2L, "Juan", "Gonzales", null, "+54 9 11 5555 0000", ClientType.TEMPORAL),
+                new ClientDuplicateCandidate(3L, "María", "López", "28999888", "11 4444-1111", ClientType.PERSONAL));
+
+        // Act
+        List<ClientDuplicateMatch> result = detector.findDuplicates(clients, 0.85, 10);
+
+        // Assert
+        assertThat(result).hasSize(1);
+        ClientDuplicateMatch match = result.get(0);
+        assertThat(match.primary().id()).isEqualTo(1L);
+        assertThat(match.duplicate().id()).isEqualTo(2L);
+        assertThat(match.reasons()).contains("Mismo teléfono", "Nombre similar");
+    }
+
+    @Test
+    void givenSameNameButDifferentDni_whenFindDuplicates_thenNoSuggestion() {
+        // Arrange
+        List<ClientDuplicateCandidate> clients = List.of(
+                new ClientDuplicateCandidate(1L, "Juan", "Pérez", "30111222", "1155550000", ClientType.PERSONAL),
+                new ClientDuplicateCandidate(2L, "Juan", "Perez", "25444333", "3514440000", ClientType.PERSONAL));
+
+        // Act
+        List<ClientDuplicateMatch> result = detector.findDuplicates(clients, 0.85, 10);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void givenPairSharingSeveralKeys_whenFindDuplicates_thenReportOnce() {
+        // Arrange
+        List<ClientDuplicateCandidate> clients = List.of(
+                new ClientDuplicateCandidate(1L, "Ana", "Díaz", "30111222", "1155550000", ClientType.PERSONAL),
+                new ClientDuplicateCandidate(2L, "Ana", "Diaz", "30.111.222", "11-5555-0000", ClientType.TEMPORAL));
+
+        // Act
+        List<ClientDuplicateMatch> result = detector.findDuplicates(clients, 0.5, 10);
+
+        // Assert
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).score()).isEqualTo(1.0);
+    }
+
+    @Test
+    void givenCommonSurnameBlock_whenFindDuplicates_thenStillFindAdjacentPair() {
+        // Arrange
+        List<ClientDuplicateCandidate> clients = new ArrayList<>();
+        for (long i = 1; i <= 500; i++) {
+            clients.add(new ClientDuplicateCandidate(i, "Marcelo" + (char) ('a' + i % 26) + i, "Gómez",
+                    String.valueOf(20_000_000 + i), null, ClientType.PERSONAL));
+        }
+        clients.add(new ClientDuplicateCandidate(501L, "Marcelo", "Gomez", null, null, ClientType.TEMPORAL));
+        clients.add(new ClientDuplicateCandidate(502L, "Marcelo", "Gómez", "30111222", null, ClientType.PERSONAL));
+
+        // Act
+        List<ClientDuplicateMatch> result = detector.findDuplicates(clients, 0.99, 10);
+
+        // Assert
+        assertThat(result).extracting(match -> match.primary().id(), match -> match.duplicate().id())
+                .contains(tuple(502L, 501L));
+    }
+
+    @Test
+    void givenNewClient_whenFindMatches_thenScoreAgainstCandidates() {
+        // Arrange
+        ClientDuplicateCandidate probe = new ClientDuplicateCandidate(null, "Jose", "Rodrigues", null,
+                "351 444-0000", ClientType.TEMPORAL);
+        List<ClientDuplicateCandidate> candidates = List.of(
+                new ClientDuplicateCandidate(7L, "José", "Rodríguez", "30111222", "3514440000", ClientType.PERSONAL),
+                new ClientDuplicateCandidate(8L, "Pedro", "Rodríguez", "28111222", "3517770000", ClientType.PERSONAL));
+
+        // Act
+        List<ClientDuplicateMatch> result = detector.findMatches(probe, candidates, 0.85);
+
+        // Assert
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).primary().id()).isEqualTo(7L);
+        assertThat(result.get(0).duplicate()).isEqualTo(probe);
+    }
+}
@@ -0,0 +1,118 @@
+package com.autotech.client.service;
+
+import com.autotech.client.model.ClientType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientImportReaderTest {
+
+    private final ClientImportReader reader = new ClientImportReader();
+
+    @Test
+    void givenSemicolonCsv_whenRead_thenMapColumnsByHeader() {
+        // Arrange
+        String csv = """
+                Nombre;Apellido;DNI;Teléfono;Tipo;Fecha Entrada;Dirección;Provincia;País
+                Juan;Pérez;30111222;1155550000;personal;15/01/2024;Calle 1;Buenos Aires;Argentina
+                """;
+
+        // Act
+        List<ClientImportReader.Row> rows = read(csv, "clientes.csv");
+
+        // Assert
+        assertThat(rows).hasSize(1);
+        ClientImportReader.Row row = rows.get(0);
+        assertThat(row.number()).isEqualTo(2);
+        assertThat(row.error()).isNull();
+        assertThat(row.request().firstName()).isEqualTo("Juan");
+        assertThat(row.request().dni()).isEqualTo("30111222");
+        assertThat(row.request().clientType()).isEqualTo(ClientType.PERSONAL);
+        assertThat(row.request().entryDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(row.request().email()).isNull();
+    }
+
+    @Test
+    void givenInvalidClientType_whenRead_thenReportRowError() {
+        // Arrange
+        String csv = """
+                Nombre,Apellido,Teléfono,Tipo
+                Ana,Gómez,1155550000,TEMPORAL
+                Luis,Díaz,1155550001,VIP
+                """;
+
+        // Act
+        List<ClientImportReader.Row> rows = read(csv, "clientes.csv");
+
+        // Assert
+        assertThat(rows).extracting(ClientImportReader.Row::error)
+                .containsExactly(null, "Tipo de cliente inválido: VIP");
+        assertThat(rows.get(1).number()).isEqualTo(3);
+    }
+
+    @Test
+    void givenMissingRequiredColumns_whenRead_thenThrowIllegalArgument() {
+        // Act & Assert
+        assertThatThrownBy(() -> read("Nombre,Apellido\nAna,Gómez\n", "clientes.csv"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenUnsupportedExtension_whenRead_thenThrowIllegalArgument() {
+        // Act & Assert
+        assertThatThrownBy(() -> read("Nombre", "clientes.txt"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Formato de archivo no soportado, use CSV o XLSX");
+    }
+
+    @Test
+    void givenXlsxWithBlankCells_whenRead_thenKeepColumnsAligned() throws IOException {
+        // Arrange
+        byte[] xlsx;
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("Clientes");
+            Row header = sheet.createRow(0);
+            String[] headers = { "ID", "Nombre", "Apellido", "DNI", "Teléfono", "Tipo" };
+            for (int i = 0; i < headers.length; i++) {
+                header.createCell(i).setCellValue(headers[i]);
+            }
+            Row data = sheet.createRow(1);
+            data.createCell(1).setCellValue("María");
+            data.createCell(2).setCellValue("López");
+            data.createCell(4).setCellValue("1144443333");
+            data.createCell(5).setCellValue("TEMPORAL");
+            sheet.createRow(2);
+            workbook.write(out);
+            xlsx = out.toByteArray();
+        }
+        List<ClientImportReader.Row> rows = new ArrayList<>();
+
+        // Act
+        reader.read(new ByteArrayInputStream(xlsx), "clientes.xlsx", rows::add);
+
+        // Assert
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).number()).isEqualTo(2);
+        assertThat(rows.get(0).request().lastName()).isEqualTo("López");
+        assertThat(rows.get(0).request().dni()).isNull();
+        assertThat(rows.get(0).request().phone()).isEqualTo("1144443333");
+    }
+
+    private List<ClientImportReader.Row> read(String content, String filename) {
+        List<ClientImportReader.Row> rows = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), filename, rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,129 @@
+package com.autotech.client.service;
+
+import com.autotech.client.dto.ClientDocumentSummary;
+import com.autotech.client.dto.ClientDocumentTotals;
+import com.autotech.client.dto.ClientOverviewResponse;
+import com.autotech.client.dto.ClientRepairOrderSummary;
+import com.autotech.client.dto.ClientResponse;
+import com.autotech.client.model.ClientType;
+import com.autotech.client.repository.ClientActivityRepository;
+import com.autotech.common.exception.ResourceNotFoundException;
+import com.autotech.vehicle.dto.VehicleResponse;
+import com.autotech.vehicle.service.VehicleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClientOverviewServiceImplTest {
+
+    @Mock
+    private ClientService clientService;
+
+    @Mock
+    private VehicleService vehicleService;
+
+    @Mock
+    private ClientActivityRepository clientActivityRepository;
+
+    private ClientOverviewServiceImpl clientOverviewService;
+
+    @BeforeEach
+    void setUp() {
+        clientOverviewService = new ClientOverviewServiceImpl(
+                clientService, vehicleService, clientActivityRepository, 4, 20);
+    }
+
+    @Test
+    void givenExistingClient_whenGetOverview_thenCombineAllSections() {
+        // Arrange
+        ClientResponse client = new ClientResponse(1L, "Juan", "Perez", "12345678", null, null, "1155550000",
+                null, null, null, ClientType.TEMPORAL, null, LocalDateTime.now(), LocalDateTime.now());
+        VehicleResponse vehicle = new VehicleResponse(10L, 1L, "Juan", "Perez", "12345678", "ABC123",
+                null, null, 1L, "Toyota", "Corolla", 2020, 1L, "AUTO", null, LocalDateTime.now());
+        when(clientService.getById(1L)).thenReturn(client);
+        when(vehicleService.getByClientId(1L)).thenReturn(List.of(vehicle));
+        ClientRepairOrderSummary repairOrder = new ClientRepairOrderSummary(
+                5L, "Frenos", 10L, "ABC123", "REPARACION", LocalDateTime.now());
+        ClientDocumentSummary pendingEstimate = new ClientDocumentSummary(
+                7L, 10L, "ABC123", 5L, new BigDecimal("75000.00"), LocalDateTime.now());
+        ClientDocumentSummary unpaidInvoice = new ClientDocumentSummary(
+                8L, 10L, "ABC123", null, new BigDecimal("42000.00"), LocalDateTime.now());
+        ClientDocumentTotals pendingEstimates = new ClientDocumentTotals("PENDIENTE", 2, new BigDecimal("150000.00"));
+        ClientDocumentTotals paidInvoices = new ClientDocumentTotals("PAGADA", 3, new BigDecimal("420000.00"));
+        when(clientActivityRepository.findOpenRepairOrders(1L)).thenReturn(List.of(repairOrder));
+        when(clientActivityRepository.findPendingEstimates(1L, 20)).thenReturn(List.of(pendingEstimate));
+        when(clientActivityRepository.findUnpaidInvoices(1L, 20)).thenReturn(List.of(unpaidInvoice));
+        when(clientActivityRepository.findEstimateTotals(1L)).thenReturn(List.of(pendingEstimates));
+        when(clientActivityRepository.findInvoiceTotals(1L)).thenReturn(List.of(paidInvoices));
+
+        // Act
+        ClientOverviewResponse result = clientOverviewService.getOverview(1L);
+
+        // Assert
+        assertThat(result.client()).isEqualTo(client);
+        assertThat(result.vehicles()).containsExactly(vehicle);
+        assertThat(result.openRepairOrders()).containsExactly(repairOrder);
+        assertThat(result.pendingEstimates()).containsExactly(pendingEstimate);
+        assertThat(result.unpaidInvoices()).containsExactly(unpaidInvoice);
+        assertThat(result.estimateTotals()).containsExactly(pendingEstimates);
+        assertThat(result.invoiceTotals()).containsExactly(paidInvoices);
+    }
+
+    @Test
+    void givenSinglePermit_whenGetOverview_thenSectionsNeverQueryAtOnce() {
+        // Arrange
+        clientOverviewService = new ClientOverviewServiceImpl(
+                clientService, vehicleService, clientActivityRepository, 1, 20);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Answer<List<Object>> slowQuery = invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return List.of();
+        };
+        when(clientService.getById(1L)).thenReturn(null);
+        when(vehicleService.getByClientId(1L)).thenAnswer(slowQuery);
+        when(clientActivityRepository.findOpenRepairOrders(1L)).thenAnswer(slowQuery);
+        when(clientActivityRepository.findPendingEstimates(1L, 20)).thenAnswer(slowQuery);
+        when(clientActivityRepository.findUnpaidInvoices(1L, 20)).thenAnswer(slowQuery);
+        when(clientActivityRepository.findEstimateTotals(1L)).thenAnswer(slowQuery);
+        when(clientActivityRepository.findInvoiceTotals(1L)).thenAnswer(slowQuery);
+
+        // Act
+        clientOverviewService.getOverview(1L);
+
+        // Assert
+        assertThat(peak.get()).isEqualTo(1);
+    }
+
+    @Test
+    void givenUnknownClient_whenGetOverview_thenThrowResourceNotFoundException() {
+        // Arrange
+        when(clientService.getById(99L)).thenThrow(new ResourceNotFoundException("Client", 99L));
+        when(vehicleService.getByClientId(99L)).thenReturn(List.of());
+        when(clientActivityRepository.findOpenRepairOrders(99L)).thenReturn(List.of());
+        when(clientActivityRepository.findPendingEstimates(99L, 20)).thenReturn(List.of());
+        when(clientActivityRepository.findUnpaidInvoices(99L, 20)).thenReturn(List.of());
+        when(clientActivityRepository.findEstimateTotals(99L)).thenReturn(List.of());
+        when(clientActivityRepository.findInvoiceTotals(99L)).thenReturn(List.of());
+
+        // Act & Assert
+        assertThatThrownBy(() -> clientOverviewService.getOverview(99L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+}
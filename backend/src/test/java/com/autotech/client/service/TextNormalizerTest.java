@@ -0,0 +1,26 @@
+package com.autotech.client.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextNormalizerTest {
+
+    @Test
+    void givenAccentsAndCase_whenNormalize_thenStripMarksAndLowerCase() {
+        // Act
+        String normalized = TextNormalizer.normalize("Núñez GÜEMES Teléfono");
+
+        // Assert
+        assertThat(normalized).isEqualTo("nunez guemes telefono");
+    }
+
+    @Test
+    void givenPunctuationAndSpaces_whenNormalize_thenKeepThem() {
+        // Act
+        String normalized = TextNormalizer.normalize(" O'Brien-Díaz ");
+
+        // Assert
+        assertThat(normalized).isEqualTo(" o'brien-diaz ");
+    }
+}
@@ -0,0 +1,119 @@
+package com.autotech.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportEngineTest {
+
+    private static final ExportSchema<Item> SCHEMA = ExportSchema.<Item>builder("Items")
+            .column("name", "Nombre", 20, Item::name)
+            .column("quantity", "Cantidad", 10, Item::quantity)
+            .column("date", "Fecha", 12, Item::date)
+            .build();
+
+    private final ExportEngine engine = new ExportEngine(
+            new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+    @Test
+    void givenRows_whenWriteCsv_thenQuoteAndCountRows() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AtomicLong advanced = new AtomicLong();
+
+        // Act
+        long written = engine.write(SCHEMA, items(), ExportFormat.CSV, false, out, counting(advanced));
+
+        // Assert
+        assertThat(written).isEqualTo(2);
+        assertThat(advanced).hasValue(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "Nombre,Cantidad,Fecha\r\nFiltro,3,2024-05-01\r\n\"Aceite, 5W30\",1,\r\n");
+    }
+
+    @Test
+    void givenRows_whenWriteNdjson_thenOneObjectPerLine() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        engine.write(SCHEMA, items(), ExportFormat.NDJSON, false, out, ExportProgress.NONE);
+
+        // Assert
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "{\"name\":\"Filtro\",\"quantity\":3,\"date\":\"2024-05-01\"}",
+                "{\"name\":\"Aceite, 5W30\",\"quantity\":1,\"date\":null}");
+    }
+
+    @Test
+    void givenRows_whenWriteXlsx_thenNumbersAreNumericCells() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        engine.write(SCHEMA, items(), ExportFormat.XLSX, false, out, ExportProgress.NONE);
+
+        // Assert
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Items");
+            assertThat(sheet.getRow(0).getCell(1).getStringCellValue()).isEqualTo("Cantidad");
+            assertThat(sheet.getRow(1).getCell(1).getNumericCellValue()).isEqualTo(3.0);
+            assertThat(sheet.getRow(2).getCell(0).getStringCellValue()).isEqualTo("Aceite, 5W30");
+            assertThat(sheet.getLastRowNum()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void givenGzip_whenWrite_thenOutputDecompressesToPlainFormat() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        engine.write(SCHEMA, items(), ExportFormat.NDJSON, true, out, ExportProgress.NONE);
+
+        // Assert
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).startsWith("{\"name\":\"Filtro\"");
+        }
+    }
+
+    @Test
+    void givenUnknownFormat_whenFrom_thenThrowIllegalArgument() {
+        // Act & Assert
+        assertThat(ExportFormat.from("ndjson")).isEqualTo(ExportFormat.NDJSON);
+        assertThatThrownBy(() -> ExportFormat.from("pdf")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Stream<Item> items() {
+        return Stream.of(new Item("Filtro", 3, LocalDate.of(2024, 5, 1)), new Item("Aceite, 5W30", 1, null));
+    }
+
+    private static ExportProgress counting(AtomicLong counter) {
+        return new ExportProgress() {
+            @Override
+            public void setTotal(long totalRows) {
+            }
+
+            @Override
+            public void advance() {
+                counter.incrementAndGet();
+            }
+        };
+    }
+
+    private record Item(String name, Integer quantity, LocalDate date) {}
+}
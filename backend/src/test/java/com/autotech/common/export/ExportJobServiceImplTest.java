@@ -0,0 +1,167 @@
+package com.autotech.common.export;
+
+import com.autotech.common.dto.ExportJobResponse;
+import com.autotech.common.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportJobServiceImplTest {
+
+    @TempDir
+    Path directory;
+
+    private ExportJobServiceImpl exportJobService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        exportJobService = new ExportJobServiceImpl(1, 1, Duration.ofHours(1), directory.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportJobService.shutdown();
+    }
+
+    @Test
+    void givenSuccessfulWriter_whenSubmit_thenCompleteWithFileAndProgress() throws Exception {
+        // Act
+        ExportJobResponse submitted = exportJobService.submit("clients", "clientes.csv", (out, progress) -> {
+            progress.setTotal(2);
+            out.write("a\nb\n".getBytes(StandardCharsets.UTF_8));
+            progress.advance();
+            progress.advance();
+        });
+        ExportJobResponse finished = awaitFinished(submitted.id());
+
+        // Assert
+        assertThat(finished.status()).isEqualTo(ExportJobStatus.COMPLETED);
+        assertThat(finished.processedRows()).isEqualTo(2);
+        assertThat(finished.totalRows()).isEqualTo(2);
+        assertThat(finished.expiresAt()).isNotNull();
+        ExportFile file = exportJobService.getFile(submitted.id());
+        assertThat(file.filename()).isEqualTo("clientes.csv");
+        assertThat(Files.readString(file.path())).isEqualTo("a\nb\n");
+    }
+
+    @Test
+    void givenFailingWriter_whenSubmit_thenMarkFailedAndLeaveNoFile() throws Exception {
+        // Act
+        ExportJobResponse submitted = exportJobService.submit("clients", "clientes.xlsx", (out, progress) -> {
+            out.write(1);
+            throw new IOException("disk full");
+        });
+        ExportJobResponse finished = awaitFinished(submitted.id());
+
+        // Assert
+        assertThat(finished.status()).isEqualTo(ExportJobStatus.FAILED);
+        assertThat(finished.error()).isNotBlank();
+        assertThatThrownBy(() -> exportJobService.getFile(submitted.id()))
+                .isInstanceOf(IllegalArgumentException.class);
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void givenWorkerAndQueueBusy_whenSubmit_thenReject() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        ExportWriter blocking = (out, progress) -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        exportJobService.submit("clients", "a.xlsx", blocking);
+        exportJobService.submit("clients", "b.xlsx", blocking);
+
+        // Act & Assert
+        try {
+            assertThatThrownBy(() -> exportJobService.submit("clients", "c.xlsx", blocking))
+                    .isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void givenStreamedExportRunning_whenStreamAnother_thenRejectUntilFirstIsWritten() throws Exception {
+        // Arrange
+        StreamingResponseBody first = exportJobService.stream("clients",
+                (out, progress) -> out.write("a".getBytes(StandardCharsets.UTF_8)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> exportJobService.stream("employees", (out, progress) -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        first.writeTo(new ByteArrayOutputStream());
+        assertThat(exportJobService.stream("employees", (out, progress) -> { })).isNotNull();
+    }
+
+    @Test
+    void givenStreamedExportRunning_whenJobSubmitted_thenJobWaitsForTheSlot() throws Exception {
+        // Arrange
+        StreamingResponseBody streamed = exportJobService.stream("clients", (out, progress) -> { });
+
+        // Act
+        ExportJobResponse submitted = exportJobService.submit("clients", "clientes.csv",
+                (out, progress) -> out.write("a".getBytes(StandardCharsets.UTF_8)));
+        Thread.sleep(100);
+        ExportJobStatus whileStreaming = exportJobService.getJob(submitted.id()).status();
+        streamed.writeTo(new ByteArrayOutputStream());
+
+        // Assert
+        assertThat(whileStreaming).isEqualTo(ExportJobStatus.QUEUED);
+        assertThat(awaitFinished(submitted.id()).status()).isEqualTo(ExportJobStatus.COMPLETED);
+    }
+
+    @Test
+    void givenExpiredJob_whenDeleteExpired_thenForgetJobAndDeleteFile() throws Exception {
+        // Arrange
+        exportJobService.shutdown();
+        exportJobService = new ExportJobServiceImpl(1, 1, Duration.ofMillis(-1), directory.toString());
+        ExportJobResponse submitted = exportJobService.submit("clients", "clientes.csv",
+                (out, progress) -> out.write(1));
+        awaitFinished(submitted.id());
+
+        // Act
+        exportJobService.deleteExpired();
+
+        // Assert
+        assertThatThrownBy(() -> exportJobService.getJob(submitted.id()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private ExportJobResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ExportJobResponse job = exportJobService.getJob(jobId);
+        while (isPending(job) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = exportJobService.getJob(jobId);
+        }
+        return job;
+    }
+
+    private static boolean isPending(ExportJobResponse job) {
+        return job.status() == ExportJobStatus.QUEUED || job.status() == ExportJobStatus.RUNNING;
+    }
+}
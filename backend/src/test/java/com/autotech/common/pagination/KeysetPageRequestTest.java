@@ -0,0 +1,114 @@
+package com.autotech.common.pagination;
+
+import com.autotech.client.model.Client;
+import com.autotech.common.dto.CursorPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetPageRequestTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 10, 30, 15, 123_456_000);
+
+    @Test
+    void givenEmptyCursor_whenOf_thenReturnFirstPageSortedByColumnAndId() {
+        // Act
+        KeysetPageRequest request = KeysetPageRequest.of("", 12, "createdAt,desc");
+
+        // Assert
+        assertThat(request.isFirstPage()).isTrue();
+        assertThat(request.fetchSize()).isEqualTo(13);
+        assertThat(request.sort()).containsExactly(
+                Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    }
+
+    @Test
+    void givenMoreRowsThanSize_whenToPage_thenTrimAndIssueCursorForLastRow() {
+        // Arrange
+        KeysetPageRequest request = KeysetPageRequest.of("", 2, "createdAt,desc");
+        List<Client> rows = List.of(client(3L), client(2L), client(1L));
+
+        // Act
+        CursorPage<Long> page = request.toPage(rows, Client::getId);
+
+        // Assert
+        assertThat(page.content()).containsExactly(3L, 2L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isNotBlank();
+    }
+
+    @Test
+    void givenIssuedCursor_whenOf_thenResumeAfterLastRow() {
+        // Arrange
+        KeysetPageRequest first = KeysetPageRequest.of("", 2, "createdAt,desc");
+        String cursor = first.toPage(List.of(client(3L), client(2L), client(1L)), Client::getId).nextCursor();
+
+        // Act
+        KeysetPageRequest next = KeysetPageRequest.of(cursor, 2, "createdAt,desc");
+
+        // Assert
+        assertThat(next.isFirstPage()).isFalse();
+        assertThat(next.afterValue()).isEqualTo(CREATED_AT);
+        assertThat(next.afterId()).isEqualTo(2L);
+    }
+
+    @Test
+    void givenLastPage_whenToPage_thenNoNextCursor() {
+        // Arrange
+        KeysetPageRequest request = KeysetPageRequest.of("", 5, "createdAt,desc");
+
+        // Act
+        CursorPage<Long> page = request.toPage(List.of(client(1L)), Client::getId);
+
+        // Assert
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void givenCursorIssuedForAnotherSort_whenOf_thenThrowIllegalArgument() {
+        // Arrange
+        String cursor = KeysetPageRequest.of("", 1, "createdAt,desc")
+                .toPage(List.of(client(2L), client(1L)), Client::getId).nextCursor();
+
+        // Act & Assert
+        assertThatThrownBy(() -> KeysetPageRequest.of(cursor, 1, "createdAt,asc"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("El cursor no corresponde al orden solicitado");
+    }
+
+    @Test
+    void givenTamperedCursor_whenOf_thenThrowIllegalArgument() {
+        // Act & Assert
+        assertThatThrownBy(() -> KeysetPageRequest.of("not-a-cursor!", 12, "createdAt,desc"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor inválido");
+    }
+
+    @Test
+    void givenUnsupportedSortProperty_whenOf_thenThrowIllegalArgument() {
+        // Act & Assert
+        assertThatThrownBy(() -> KeysetPageRequest.of("", 12, "lastName,asc"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenSizeAboveMaximum_whenOf_thenThrowIllegalArgument() {
+        // Act & Assert
+        assertThatThrownBy(() -> KeysetPageRequest.of("", KeysetPageRequest.MAX_SIZE + 1, "createdAt,desc"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Client client(Long id) {
+        Client client = Client.builder().build();
+        client.setId(id);
+        client.setCreatedAt(CREATED_AT);
+        client.setUpdatedAt(CREATED_AT);
+        return client;
+    }
+}
@@ -0,0 +1,109 @@
+package com.autotech.common.pagination;
+
+import com.autotech.client.service.ClientService;
+import com.autotech.common.dto.CursorPage;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The seek predicate must reach the {@code (created_at DESC, id DESC)} index as a range
+ * condition: a plain OR is only applied as a filter, which makes deep pages walk every row
+ * already returned. The plan is taken from the SQL Hibernate actually sends.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.autotech.common.pagination.KeysetSeekPlanIT$CapturingInspector")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeysetSeekPlanIT {
+
+    private static final int SEEDED_CLIENTS = 20_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClientService clientService;
+
+    @BeforeAll
+    void seedClients() {
+        jdbcTemplate.update("""
+                INSERT INTO clients (first_name, last_name, dni, phone, client_type, created_at)
+                SELECT 'Nombre' || g, 'Apellido' || g, (70000000 + g)::text, '351' || g, 'PERSONAL',
+                       now() - g * interval '1 second'
+                FROM generate_series(1, ?) AS g
+                """, SEEDED_CLIENTS);
+        jdbcTemplate.execute("ANALYZE clients");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM clients WHERE dni BETWEEN '70000001' AND ? AND length(dni) = 8",
+                String.valueOf(70000000 + SEEDED_CLIENTS));
+    }
+
+    @Test
+    void givenCursor_whenNextPage_thenSeekValueIsAnIndexCondition() {
+        // Arrange
+        CursorPage<?> first = clientService.getAllByCursor(null, 20, "createdAt,desc");
+        CapturingInspector.STATEMENTS.clear();
+
+        // Act
+        clientService.getAllByCursor(first.nextCursor(), 20, "createdAt,desc");
+        String seekSql = CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains("from clients"))
+                .findFirst()
+                .orElseThrow();
+        String plan = explainGeneric(seekSql);
+
+        // Assert
+        assertThat(plan).contains("Index Scan using idx_clients_created_at_id");
+        assertThat(plan).containsPattern("Index Cond: \\(.*created_at <= \\$\\d+");
+    }
+
+    // GENERIC_PLAN (PostgreSQL 16) plans the statement with its placeholders unbound
+    private String explainGeneric(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            numbered.append(c == '?' ? "$" + (++parameter) : String.valueOf(c));
+        }
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                List<String> lines = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numbered)) {
+                    while (rs.next()) {
+                        lines.add(rs.getString(1));
+                    }
+                }
+                return String.join("\n", lines);
+            }
+        });
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.autotech.config;
+
+import com.autotech.role.service.PermissionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeePermissionEvaluatorTest {
+
+    @Mock
+    private PermissionService permissionService;
+
+    @InjectMocks
+    private EmployeePermissionEvaluator evaluator;
+
+    @Test
+    void givenEmployeePrincipal_whenHasPermission_thenCheckItsEmployeeId() {
+        // Arrange
+        Authentication authentication = authenticated(new EmployeePrincipal(7L, "jperez"));
+        when(permissionService.hasPermission(7L, "update_client")).thenReturn(true);
+
+        // Act
+        boolean result = evaluator.hasPermission(authentication, null, "update_client");
+
+        // Assert
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void givenPrincipalNamedLikeAnEmployeeId_whenHasPermission_thenDeny() {
+        // Arrange
+        Authentication authentication = authenticated("7");
+
+        // Act
+        boolean result = evaluator.hasPermission(authentication, null, "update_client");
+
+        // Assert
+        assertThat(result).isFalse();
+        verify(permissionService, never()).hasPermission(any(), anyString());
+    }
+
+    private static Authentication authenticated(Object principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null, List.of());
+    }
+}
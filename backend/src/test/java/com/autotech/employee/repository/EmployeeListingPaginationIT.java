@@ -0,0 +1,113 @@
+package com.autotech.employee.repository;
+
+import com.autotech.employee.dto.EmployeeResponse;
+import com.autotech.employee.model.EmployeeStatus;
+import com.autotech.employee.service.EmployeeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Employee listings must page in SQL and load roles in one extra query. With
+ * {@code fail_on_pagination_over_collection_fetch} enabled, a regression to fetch-join paging
+ * throws here instead of reading every employee and paginating in memory.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeListingPaginationIT {
+
+    private static final int SEEDED_EMPLOYEES = 500;
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10, Sort.by("lastName"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seedEmployees() {
+        jdbcTemplate.update("""
+                INSERT INTO employees (first_name, last_name, dni, phone, status)
+                SELECT 'Nombre' || g, 'Apellido' || lpad(g::text, 4, '0'), (40000000 + g)::text, '351' || g,
+                       CASE WHEN g % 2 = 0 THEN 'ACTIVO' ELSE 'INACTIVO' END
+                FROM generate_series(1, ?) AS g
+                """, SEEDED_EMPLOYEES);
+        jdbcTemplate.update("""
+                INSERT INTO employee_roles (employee_id, role_id)
+                SELECT e.id, r.id FROM employees e CROSS JOIN roles r
+                WHERE e.dni LIKE '4%' AND r.name IN ('MECANICO', 'RECEPCIONISTA')
+                """);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM employees WHERE dni LIKE '4%' AND last_name LIKE 'Apellido%'");
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    void givenManyEmployees_whenGetAll_thenPageInSqlAndBatchRoles() {
+        // Act
+        Page<EmployeeResponse> page = employeeService.getAll(FIRST_PAGE);
+
+        // Assert
+        assertPagedInSql(page);
+    }
+
+    @Test
+    void givenManyEmployees_whenFilterByStatus_thenPageInSqlAndBatchRoles() {
+        // Act
+        Page<EmployeeResponse> page = employeeService.filterByStatus(EmployeeStatus.ACTIVO, FIRST_PAGE);
+
+        // Assert
+        assertPagedInSql(page);
+        assertThat(page.getContent()).allMatch(employee -> employee.status() == EmployeeStatus.ACTIVO);
+    }
+
+    @Test
+    void givenManyEmployees_whenFilterByRole_thenPageInSqlAndBatchRoles() {
+        // Arrange
+        Long mechanicId = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = 'MECANICO'", Long.class);
+
+        // Act
+        Page<EmployeeResponse> page = employeeService.filterByRole(mechanicId, FIRST_PAGE);
+
+        // Assert
+        assertPagedInSql(page);
+    }
+
+    private void assertPagedInSql(Page<EmployeeResponse> page) {
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isGreaterThan(10);
+        assertThat(page.getContent()).allMatch(employee -> employee.roles().size() == 2);
+        // Page of rows, count, roles of that page; no entity hydrated, nothing paged in memory
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
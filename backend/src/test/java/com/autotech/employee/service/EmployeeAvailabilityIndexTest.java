@@ -0,0 +1,88 @@
+package com.autotech.employee.service;
+
+import com.autotech.employee.dto.BusyInterval;
+import com.autotech.employee.dto.EmployeeAssignmentRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeAvailabilityIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 3, 10, 0, 0);
+
+    private EmployeeAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeAvailabilityIndex();
+        index.rebuild(List.of(
+                new EmployeeAssignmentRow(1L, 100L, DAY.withHour(9), DAY.withHour(11)),
+                new EmployeeAssignmentRow(2L, 100L, DAY.withHour(9), DAY.withHour(11)),
+                new EmployeeAssignmentRow(2L, 101L, DAY.withHour(14), DAY.withHour(15))),
+                DAY, DAY.plusDays(7));
+    }
+
+    @Test
+    void givenBookedEmployees_whenFreeAmong_thenReturnOnlyUnbooked() {
+        // Act
+        List<Long> result = index.freeAmong(List.of(1L, 2L, 3L), DAY.withHour(10), DAY.withHour(12));
+
+        // Assert
+        assertThat(result).containsExactly(3L);
+    }
+
+    @Test
+    void givenRescheduledAppointment_whenPutAppointment_thenReplacePreviousSlot() {
+        // Act
+        index.putAppointment(100L, List.of(1L), DAY.withHour(16), DAY.withHour(17));
+
+        // Assert
+        assertThat(index.isFree(1L, DAY.withHour(9), DAY.withHour(11))).isTrue();
+        assertThat(index.isFree(2L, DAY.withHour(9), DAY.withHour(11))).isTrue();
+        assertThat(index.busy(1L, DAY, DAY.plusDays(1)))
+                .containsExactly(new BusyInterval(100L, DAY.withHour(16), DAY.withHour(17)));
+    }
+
+    @Test
+    void givenRemovedAppointment_whenBusy_thenOmitIt() {
+        // Act
+        index.removeAppointment(101L);
+
+        // Assert
+        assertThat(index.busy(2L, DAY, DAY.plusDays(1)))
+                .containsExactly(new BusyInterval(100L, DAY.withHour(9), DAY.withHour(11)));
+    }
+
+    @Test
+    void givenWritesDuringRebuild_whenRebuildSwaps_thenWritesAreKept() {
+        // Arrange
+        List<EmployeeAssignmentRow> snapshot = List.of(
+                new EmployeeAssignmentRow(1L, 100L, DAY.withHour(9), DAY.withHour(11)),
+                new EmployeeAssignmentRow(2L, 101L, DAY.withHour(14), DAY.withHour(15)));
+
+        // Act
+        index.rebuild(() -> {
+            // Committed after the snapshot was read, so the loaded rows do not reflect them
+            index.putAppointment(102L, List.of(3L), DAY.withHour(8), DAY.withHour(10));
+            index.removeAppointment(101L);
+            return snapshot;
+        }, DAY, DAY.plusDays(7));
+
+        // Assert
+        assertThat(index.isFree(3L, DAY.withHour(8), DAY.withHour(10))).isFalse();
+        assertThat(index.isFree(2L, DAY.withHour(14), DAY.withHour(15))).isTrue();
+        assertThat(index.isFree(1L, DAY.withHour(9), DAY.withHour(11))).isFalse();
+    }
+
+    @Test
+    void givenLoadedWindow_whenCovers_thenOnlyAcceptRangesInside() {
+        // Act & Assert
+        assertThat(index.covers(DAY.plusDays(1), DAY.plusDays(2))).isTrue();
+        assertThat(index.covers(DAY.minusHours(1), DAY.plusHours(1))).isFalse();
+        assertThat(new EmployeeAvailabilityIndex().covers(DAY, DAY.plusHours(1))).isFalse();
+    }
+}
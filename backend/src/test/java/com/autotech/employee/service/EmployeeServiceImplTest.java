@@ -0,0 +1,161 @@
+package com.autotech.employee.service;
+
+import com.autotech.common.exception.ResourceNotFoundException;
+import com.autotech.employee.dto.BulkRoleAssignmentRequest;
+import com.autotech.employee.dto.BulkRoleAssignmentResponse;
+import com.autotech.employee.dto.EmployeeMapper;
+import com.autotech.employee.dto.EmployeeResponse;
+import com.autotech.employee.dto.EmployeeRoleRow;
+import com.autotech.employee.model.EmployeeStatus;
+import com.autotech.employee.repository.EmployeeRepository;
+import com.autotech.employee.repository.EmployeeRoleBatchRepository;
+import com.autotech.role.dto.RoleResponse;
+import com.autotech.role.repository.RoleRepository;
+import com.autotech.role.service.PermissionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeServiceImplTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private PermissionService permissionService;
+
+    @Mock
+    private EmployeeRoleBatchRepository employeeRoleBatchRepository;
+
+    @InjectMocks
+    private EmployeeServiceImpl employeeService;
+
+    private final Pageable pageable = PageRequest.of(0, 12);
+
+    @Test
+    void givenRoleFilter_whenFilterByRole_thenPageIdsInSqlAndAttachRolesInOneQuery() {
+        // Arrange
+        Page<EmployeeResponse> page = new PageImpl<>(List.of(employee(1L), employee(2L)), pageable, 30);
+        when(employeeRepository.findResponsesByRoleId(3L, pageable)).thenReturn(page);
+        when(employeeRepository.findRoleRowsByEmployeeIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new EmployeeRoleRow(1L, 3L, "MECANICO", null),
+                new EmployeeRoleRow(1L, 4L, "RECEPCIONISTA", null),
+                new EmployeeRoleRow(2L, 3L, "MECANICO", null)));
+
+        // Act
+        Page<EmployeeResponse> result = employeeService.filterByRole(3L, pageable);
+
+        // Assert
+        assertThat(result.getTotalElements()).isEqualTo(30);
+        assertThat(result.getContent().get(0).roles()).extracting(RoleResponse::name)
+                .containsExactly("MECANICO", "RECEPCIONISTA");
+        assertThat(result.getContent().get(1).roles()).extracting(RoleResponse::name)
+                .containsExactly("MECANICO");
+        verify(employeeRepository, never()).findAll(any(Pageable.class));
+        verifyNoInteractions(employeeMapper);
+    }
+
+    @Test
+    void givenEmptyPage_whenFilterByStatus_thenSkipRolesQuery() {
+        // Arrange
+        when(employeeRepository.findResponsesByStatus(EmployeeStatus.INACTIVO, pageable)).thenReturn(Page.empty(pageable));
+
+        // Act
+        Page<EmployeeResponse> result = employeeService.filterByStatus(EmployeeStatus.INACTIVO, pageable);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(employeeRepository, never()).findRoleRowsByEmployeeIdIn(any());
+    }
+
+    @Test
+    void givenGrantsAndRevocations_whenBulkAssignRoles_thenWriteDeltaAndInvalidatePermissionsOnce() {
+        // Arrange
+        BulkRoleAssignmentRequest request = new BulkRoleAssignmentRequest(List.of(1L, 2L, 3L), List.of(5L), List.of(6L));
+        when(employeeRepository.findExistingIds(Set.of(1L, 2L, 3L))).thenReturn(List.of(1L, 2L, 3L));
+        when(roleRepository.findExistingIds(Set.of(5L, 6L))).thenReturn(List.of(5L, 6L));
+        when(employeeRoleBatchRepository.revoke(Set.of(1L, 2L, 3L), Set.of(6L))).thenReturn(List.of(2L));
+        when(employeeRoleBatchRepository.grant(Set.of(1L, 2L, 3L), Set.of(5L))).thenReturn(List.of(1L, 2L));
+
+        // Act
+        BulkRoleAssignmentResponse result = employeeService.bulkAssignRoles(request);
+
+        // Assert
+        assertThat(result).isEqualTo(new BulkRoleAssignmentResponse(3, 2, 1, 2));
+        verify(employeeRoleBatchRepository).touch(Set.of(1L, 2L));
+        verify(permissionService).invalidate();
+        verify(permissionService, never()).refreshEmployee(any());
+    }
+
+    @Test
+    void givenNothingChanges_whenBulkAssignRoles_thenSkipTouchAndInvalidation() {
+        // Arrange
+        BulkRoleAssignmentRequest request = new BulkRoleAssignmentRequest(List.of(1L), List.of(5L), null);
+        when(employeeRepository.findExistingIds(Set.of(1L))).thenReturn(List.of(1L));
+        when(roleRepository.findExistingIds(Set.of(5L))).thenReturn(List.of(5L));
+        when(employeeRoleBatchRepository.grant(Set.of(1L), Set.of(5L))).thenReturn(List.of());
+
+        // Act
+        BulkRoleAssignmentResponse result = employeeService.bulkAssignRoles(request);
+
+        // Assert
+        assertThat(result.employeesChanged()).isZero();
+        verify(employeeRoleBatchRepository, never()).touch(any());
+        verifyNoInteractions(permissionService);
+    }
+
+    @Test
+    void givenUnknownRole_whenBulkAssignRoles_thenThrowBeforeWriting() {
+        // Arrange
+        BulkRoleAssignmentRequest request = new BulkRoleAssignmentRequest(List.of(1L), List.of(5L, 9L), null);
+        when(employeeRepository.findExistingIds(Set.of(1L))).thenReturn(List.of(1L));
+        when(roleRepository.findExistingIds(Set.of(5L, 9L))).thenReturn(List.of(5L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> employeeService.bulkAssignRoles(request))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("9");
+        verifyNoInteractions(employeeRoleBatchRepository);
+    }
+
+    @Test
+    void givenSameRoleGrantedAndRevoked_whenBulkAssignRoles_thenThrowIllegalArgumentException() {
+        // Arrange
+        BulkRoleAssignmentRequest request = new BulkRoleAssignmentRequest(List.of(1L), List.of(5L), List.of(5L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> employeeService.bulkAssignRoles(request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(employeeRoleBatchRepository);
+    }
+
+    private static EmployeeResponse employee(Long id) {
+        return new EmployeeResponse(id, "Nombre" + id, "Apellido" + id, "4000000" + id, null, "351000000" + id,
+                null, null, null, null, 0, null, EmployeeStatus.ACTIVO, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
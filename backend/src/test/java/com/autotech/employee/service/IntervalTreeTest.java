@@ -0,0 +1,85 @@
+package com.autotech.employee.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    @Test
+    void givenAdjacentIntervals_whenOverlaps_thenEndsAreExclusive() {
+        // Arrange
+        IntervalTree tree = IntervalTree.of(List.of(
+                new IntervalTree.Interval(1L, 10, 20),
+                new IntervalTree.Interval(2L, 30, 40)));
+
+        // Act & Assert
+        assertThat(tree.overlaps(20, 30)).isFalse();
+        assertThat(tree.overlaps(0, 10)).isFalse();
+        assertThat(tree.overlaps(19, 21)).isTrue();
+        assertThat(tree.overlaps(25, 31)).isTrue();
+    }
+
+    @Test
+    void givenLongIntervalOnTheLeft_whenOverlapping_thenFindItThroughMaxEnd() {
+        // Arrange
+        IntervalTree tree = IntervalTree.of(List.of(
+                new IntervalTree.Interval(1L, 0, 1000),
+                new IntervalTree.Interval(2L, 10, 20),
+                new IntervalTree.Interval(3L, 30, 40),
+                new IntervalTree.Interval(4L, 50, 60)));
+
+        // Act
+        List<IntervalTree.Interval> result = tree.overlapping(500, 600);
+
+        // Assert
+        assertThat(result).extracting(IntervalTree.Interval::id).containsExactly(1L);
+    }
+
+    @Test
+    void givenTree_whenWithAndWithout_thenReturnNewTreesAndKeepOriginal() {
+        // Arrange
+        IntervalTree tree = IntervalTree.of(List.of(new IntervalTree.Interval(1L, 10, 20)));
+
+        // Act
+        IntervalTree moved = tree.with(new IntervalTree.Interval(1L, 50, 60));
+        IntervalTree removed = moved.without(1L);
+
+        // Assert
+        assertThat(tree.overlaps(10, 20)).isTrue();
+        assertThat(moved.overlaps(10, 20)).isFalse();
+        assertThat(moved.overlaps(50, 60)).isTrue();
+        assertThat(removed.isEmpty()).isTrue();
+    }
+
+    @Test
+    void givenRandomIntervals_whenOverlapping_thenMatchLinearScan() {
+        // Arrange
+        Random random = new Random(42);
+        List<IntervalTree.Interval> intervals = new ArrayList<>();
+        for (long id = 0; id < 300; id++) {
+            long start = random.nextInt(10_000);
+            intervals.add(new IntervalTree.Interval(id, start, start + 1 + random.nextInt(300)));
+        }
+        IntervalTree tree = IntervalTree.of(intervals);
+
+        for (int i = 0; i < 500; i++) {
+            long from = random.nextInt(10_000);
+            long to = from + 1 + random.nextInt(200);
+
+            // Act
+            List<IntervalTree.Interval> result = tree.overlapping(from, to);
+
+            // Assert
+            List<IntervalTree.Interval> expected = intervals.stream()
+                    .filter(interval -> interval.start() < to && interval.end() > from)
+                    .toList();
+            assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(tree.overlaps(from, to)).isEqualTo(!expected.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.autotech.role.service;
+
+import com.autotech.role.dto.EmployeeRoleLink;
+import com.autotech.role.dto.RolePermissionRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PermissionMatrixTest {
+
+    private static final long ADMIN = 1L;
+    private static final long MECHANIC = 3L;
+    private static final long RECEPTIONIST = 4L;
+
+    private PermissionMatrix matrix;
+
+    @BeforeEach
+    void setUp() {
+        matrix = PermissionMatrix.build(
+                List.of("read_client", "update_client", "read_order", "update_order", "manage_config"),
+                List.of(
+                        new RolePermissionRow(ADMIN, "manage_config"),
+                        new RolePermissionRow(MECHANIC, "read_order"),
+                        new RolePermissionRow(MECHANIC, "update_order"),
+                        new RolePermissionRow(RECEPTIONIST, "read_client"),
+                        new RolePermissionRow(RECEPTIONIST, "update_client")),
+                List.of(
+                        new EmployeeRoleLink(10L, MECHANIC),
+                        new EmployeeRoleLink(11L, MECHANIC),
+                        new EmployeeRoleLink(11L, RECEPTIONIST)));
+    }
+
+    @Test
+    void givenEmployeeWithSeveralRoles_whenHasPermission_thenUseUnionOfRoles() {
+        // Assert
+        assertThat(matrix.hasPermission(11L, "update_order")).isTrue();
+        assertThat(matrix.hasPermission(11L, "update_client")).isTrue();
+        assertThat(matrix.hasPermission(11L, "manage_config")).isFalse();
+        assertThat(matrix.permissionsOf(11L))
+                .containsExactly("read_client", "update_client", "read_order", "update_order");
+    }
+
+    @Test
+    void givenUnknownEmployeeOrCode_whenHasPermission_thenDeny() {
+        // Assert
+        assertThat(matrix.hasPermission(99L, "read_order")).isFalse();
+        assertThat(matrix.hasPermission(10L, "delete_everything")).isFalse();
+        assertThat(matrix.permissionsOf(99L)).isEmpty();
+    }
+
+    @Test
+    void givenRoleChange_whenWithEmployee_thenOnlyThatEmployeeChanges() {
+        // Act
+        PermissionMatrix updated = matrix.withEmployee(10L, List.of(ADMIN));
+
+        // Assert
+        assertThat(updated.hasPermission(10L, "manage_config")).isTrue();
+        assertThat(updated.hasPermission(10L, "read_order")).isFalse();
+        assertThat(updated.hasPermission(11L, "read_order")).isTrue();
+        assertThat(matrix.hasPermission(10L, "read_order")).isTrue();
+    }
+
+    @Test
+    void givenNoRoles_whenWithEmployee_thenRemoveEmployee() {
+        // Act
+        PermissionMatrix updated = matrix.withEmployee(11L, List.of());
+
+        // Assert
+        assertThat(updated.permissionsOf(11L)).isEmpty();
+        assertThat(updated.employeeCount()).isEqualTo(1);
+    }
+}
@@ -1,8 +1,14 @@
 package com.autotech.vehicle.controller;
 
+import com.autotech.common.dto.CursorPage;
 import com.autotech.common.exception.GlobalExceptionHandler;
+import com.autotech.vehicle.dto.FacetCount;
+import com.autotech.vehicle.dto.VehicleFacetsResponse;
+import com.autotech.vehicle.dto.VehicleFilter;
 import com.autotech.vehicle.dto.VehicleRequest;
 import com.autotech.vehicle.dto.VehicleResponse;
+import com.autotech.vehicle.dto.YearBucketCount;
+import com.autotech.vehicle.service.VehicleFacetService;
 import com.autotech.vehicle.service.VehicleService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -11,6 +17,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -18,12 +25,16 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -41,6 +52,9 @@ class VehicleControllerTest {
     @MockitoBean
     private VehicleService vehicleService;
 
+    @MockitoBean
+    private VehicleFacetService vehicleFacetService;
+
     private final VehicleResponse sampleResponse = new VehicleResponse(
             1L, 1L, "Juan", "Perez", "12345678", "ABC123",
             "CHASSIS001", "ENGINE001", 1L, "Toyota", "Corolla",
@@ -60,6 +74,56 @@ class VehicleControllerTest {
                 .andExpect(jsonPath("$.data.plate").value("ABC123"));
     }
 
+    @Test
+    void givenQueryParams_whenQuery_thenBindAllCriteriaIntoOneFilter() throws Exception {
+        // Arrange
+        VehicleFilter expected = new VehicleFilter(2L, 3L, null, 2015, 2020, "hilux", "ab1");
+        when(vehicleService.query(eq(expected), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(sampleResponse)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/vehicles/query")
+                        .param("brandId", "2")
+                        .param("vehicleTypeId", "3")
+                        .param("yearFrom", "2015")
+                        .param("yearTo", "2020")
+                        .param("model", "hilux")
+                        .param("plate", "ab1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].plate").value("ABC123"));
+    }
+
+    @Test
+    void givenFilter_whenFacets_thenReturnCountsPerFacet() throws Exception {
+        // Arrange
+        VehicleFilter filter = new VehicleFilter(2L, null, null, null, null, null, null);
+        when(vehicleFacetService.getFacets(filter, 10)).thenReturn(new VehicleFacetsResponse(3,
+                List.of(new FacetCount(2L, "Toyota", 3)),
+                List.of(new FacetCount(1L, "AUTO", 2), new FacetCount(null, null, 1)),
+                List.of(new YearBucketCount(2020, 2029, 3))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/vehicles/query/facets").param("brandId", "2").param("yearBucket", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.total").value(3))
+                .andExpect(jsonPath("$.data.brands[0].name").value("Toyota"))
+                .andExpect(jsonPath("$.data.vehicleTypes.length()").value(2))
+                .andExpect(jsonPath("$.data.years[0].fromYear").value(2020));
+    }
+
+    @Test
+    void givenClientIds_whenGetByClients_thenReturnVehiclesGroupedByClient() throws Exception {
+        // Arrange
+        when(vehicleService.getByClientIds(List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, List.of(sampleResponse), 2L, List.of()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/vehicles/by-clients").param("clientIds", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.1[0].plate").value("ABC123"))
+                .andExpect(jsonPath("$.data.2").isEmpty());
+    }
+
     @Test
     void givenExistingVehicle_whenGetById_thenReturnOk() throws Exception {
         // Arrange
@@ -71,6 +135,31 @@ class VehicleControllerTest {
                 .andExpect(jsonPath("$.data.plate").value("ABC123"));
     }
 
+    @Test
+    void givenUnchangedVehicle_whenGetByIdWithMatchingEtag_thenReturnNotModifiedWithoutLoading() throws Exception {
+        // Arrange
+        when(vehicleService.getLastModified(1L)).thenReturn(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/vehicles/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"1704067200000000\""))
+                .andExpect(status().isNotModified());
+        verify(vehicleService, never()).getById(1L);
+    }
+
+    @Test
+    void givenNoValidators_whenGetById_thenReturnEtagAndLastModified() throws Exception {
+        // Arrange
+        when(vehicleService.getLastModified(1L)).thenReturn(LocalDateTime.of(2024, 1, 1, 0, 0));
+        when(vehicleService.getById(1L)).thenReturn(sampleResponse);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/vehicles/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1704067200000000\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.data.plate").value("ABC123"));
+    }
+
     @Test
     void givenInvalidRequest_whenCreateVehicle_thenReturn400() throws Exception {
         // Arrange
@@ -83,6 +172,21 @@ class VehicleControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void givenCursorParam_whenGetAll_thenReturnCursorPageWithoutTotals() throws Exception {
+        // Arrange
+        when(vehicleService.getAllByCursor("", 12, "createdAt,desc"))
+                .thenReturn(new CursorPage<>(List.of(sampleResponse), 12, true, "next-token"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/vehicles").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].plate").value("ABC123"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
     @Test
     void givenPlateQuery_whenSearch_thenReturnMatchingResults() throws Exception {
         // Arrange
@@ -0,0 +1,140 @@
+package com.autotech.vehicle.repository;
+
+import com.autotech.client.dto.ClientMapper;
+import com.autotech.client.repository.ClientRepository;
+import com.autotech.vehicle.dto.VehicleMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares entity hydration + mapper against JPQL constructor projections for 10k-row
+ * client and vehicle pages. Prints bytes allocated per page and p50/p99 latency of each path.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListingProjectionBenchmarkIT {
+
+    private static final int SEEDED_ROWS = 50_000;
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 50;
+    private static final Pageable PAGE = PageRequest.of(1, 10_000, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ClientMapper clientMapper;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private VehicleMapper vehicleMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeAll
+    void seed() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        jdbcTemplate.update("""
+                INSERT INTO clients (first_name, last_name, dni, phone, address, province, country, client_type)
+                SELECT 'Nombre' || g, 'Apellido' || g, (30000000 + g)::text, '351' || g,
+                       'Calle ' || g, 'Córdoba', 'Argentina', 'PERSONAL'
+                FROM generate_series(1, ?) AS g
+                """, SEEDED_ROWS);
+        jdbcTemplate.update("INSERT INTO brands (name) VALUES ('Toyota') ON CONFLICT DO NOTHING");
+        jdbcTemplate.update("""
+                INSERT INTO vehicles (client_id, plate, brand_id, model, year)
+                SELECT c.id, 'BM' || c.id, (SELECT id FROM brands WHERE name = 'Toyota'), 'Corolla', 2000 + (c.id % 25)::int
+                FROM clients c
+                WHERE c.dni BETWEEN '30000001' AND ? AND length(c.dni) = 8
+                """, lastDni());
+        jdbcTemplate.execute("ANALYZE clients");
+        jdbcTemplate.execute("ANALYZE vehicles");
+    }
+
+    private static String lastDni() {
+        return String.valueOf(30000000 + SEEDED_ROWS);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM vehicles WHERE plate LIKE 'BM%'");
+        jdbcTemplate.update("DELETE FROM clients WHERE dni BETWEEN '30000001' AND ? AND length(dni) = 8", lastDni());
+        jdbcTemplate.update("DELETE FROM brands b WHERE b.name = 'Toyota' "
+                + "AND NOT EXISTS (SELECT 1 FROM vehicles v WHERE v.brand_id = b.id)");
+    }
+
+    @Test
+    void givenTenThousandRowPage_whenProjected_thenAllocatesLessThanEntities() {
+        // Act
+        Result clientEntities = measure(() -> clientRepository.findAll(PAGE).map(clientMapper::toResponse));
+        Result clientProjection = measure(() -> clientRepository.findAllResponses(PAGE));
+        Result vehicleEntities = measure(() -> vehicleRepository.findAll(PAGE).map(vehicleMapper::toResponse));
+        Result vehicleProjection = measure(() -> vehicleRepository.findAllResponses(PAGE));
+
+        log.info("Clients  entity+mapper: {}", clientEntities);
+        log.info("Clients  projection:    {}", clientProjection);
+        log.info("Vehicles entity+mapper: {}", vehicleEntities);
+        log.info("Vehicles projection:    {}", vehicleProjection);
+
+        // Assert
+        assertThat(clientProjection.bytesPerPage()).isLessThan(clientEntities.bytesPerPage());
+        assertThat(vehicleProjection.bytesPerPage()).isLessThan(vehicleEntities.bytesPerPage());
+    }
+
+    private Result measure(Supplier<?> query) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            readOnly.execute(status -> query.get());
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] samples = new long[MEASURED_RUNS];
+        long allocated = 0;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            readOnly.execute(status -> query.get());
+            samples[i] = (System.nanoTime() - start) / 1_000;
+            allocated += threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        }
+        Arrays.sort(samples);
+        return new Result(allocated / MEASURED_RUNS, samples[MEASURED_RUNS / 2],
+                samples[(int) Math.ceil(MEASURED_RUNS * 0.99) - 1]);
+    }
+
+    private record Result(long bytesPerPage, long p50Micros, long p99Micros) {
+
+        @Override
+        public String toString() {
+            return "%,d KB/page, p50 = %,d us, p99 = %,d us".formatted(bytesPerPage / 1024, p50Micros, p99Micros);
+        }
+    }
+}
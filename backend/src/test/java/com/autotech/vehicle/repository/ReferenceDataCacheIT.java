@@ -0,0 +1,129 @@
+package com.autotech.vehicle.repository;
+
+import com.autotech.role.model.Role;
+import com.autotech.role.repository.RoleRepository;
+import com.autotech.vehicle.dto.BrandRequest;
+import com.autotech.vehicle.model.Brand;
+import com.autotech.vehicle.model.VehicleType;
+import com.autotech.vehicle.service.BrandService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Brands, vehicle types and roles are served from the second-level and query caches once warm.
+ * Every repository call below runs in its own session, so a hit can only come from the shared
+ * cache, never from a persistence context.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReferenceDataCacheIT {
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private VehicleTypeRepository vehicleTypeRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long brandId;
+
+    @BeforeAll
+    void setUp() {
+        brandId = brandRepository.save(Brand.builder().name("Marca Cache").build()).getId();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        brandRepository.deleteById(brandId);
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @Test
+    void givenWarmCache_whenFindBrandById_thenNoSql() {
+        // Arrange
+        brandRepository.findById(brandId);
+        statistics.clear();
+
+        // Act
+        Brand brand = brandRepository.findById(brandId).orElseThrow();
+
+        // Assert
+        assertThat(brand.getId()).isEqualTo(brandId);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenWarmCache_whenFindAllVehicleTypes_thenNoSql() {
+        // Arrange
+        List<VehicleType> cold = vehicleTypeRepository.findAll();
+        statistics.clear();
+
+        // Act
+        List<VehicleType> warm = vehicleTypeRepository.findAll();
+
+        // Assert
+        assertThat(warm).hasSameSizeAs(cold).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void givenWarmCache_whenFindRolesByIdIn_thenNoSql() {
+        // Arrange
+        List<Long> ids = roleRepository.findAll().stream().map(Role::getId).limit(2).toList();
+        roleRepository.findByIdIn(ids);
+        statistics.clear();
+
+        // Act
+        List<Role> roles = roleRepository.findByIdIn(ids);
+
+        // Assert
+        assertThat(roles).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void givenBrandRenamed_whenFindAllBrands_thenQueryAgainAndSeeNewName() {
+        // Arrange
+        brandRepository.findAll();
+        brandService.update(brandId, new BrandRequest("Marca Renombrada"));
+        statistics.clear();
+
+        // Act
+        List<Brand> brands = brandRepository.findAll();
+
+        // Assert
+        assertThat(brands).extracting(Brand::getName).contains("Marca Renombrada");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,159 @@
+package com.autotech.vehicle.repository;
+
+import com.autotech.vehicle.dto.FacetCount;
+import com.autotech.vehicle.dto.VehicleFacetsResponse;
+import com.autotech.vehicle.dto.VehicleFilter;
+import com.autotech.vehicle.dto.VehicleResponse;
+import com.autotech.vehicle.dto.YearBucketCount;
+import com.autotech.vehicle.service.VehicleService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The combined vehicle filter returns the same rows as the criteria applied one by one, in one
+ * statement when the page is not full and without hydrating entities.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VehicleFilterQueryIT {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private VehicleFacetRepository vehicleFacetRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long brandId;
+    private Long typeId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO clients (first_name, last_name, dni, phone, client_type)
+                VALUES ('Filtro', 'Cliente', '60000001', '3510000000', 'PERSONAL')
+                """);
+        jdbcTemplate.update("INSERT INTO brands (name) VALUES ('Marca Filtro') ON CONFLICT DO NOTHING");
+        brandId = jdbcTemplate.queryForObject("SELECT id FROM brands WHERE name = 'Marca Filtro'", Long.class);
+        typeId = jdbcTemplate.queryForObject("SELECT id FROM vehicle_types ORDER BY id LIMIT 1", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO vehicles (client_id, plate, brand_id, vehicle_type_id, model, year)
+                SELECT (SELECT id FROM clients WHERE dni = '60000001'), 'FQ ' || lpad(g::text, 3, '0') || ' ZZ',
+                       ?, CASE WHEN g % 2 = 0 THEN ? END,
+                       CASE WHEN g % 3 = 0 THEN 'Hilux SRV' ELSE 'Corolla' END, 2000 + g % 20
+                FROM generate_series(1, 120) AS g
+                """, brandId, typeId);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM vehicles WHERE client_id = (SELECT id FROM clients WHERE dni = '60000001')");
+        jdbcTemplate.update("DELETE FROM clients WHERE dni = '60000001'");
+        jdbcTemplate.update("DELETE FROM brands WHERE id = ?", brandId);
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    void givenBrandYearRangeTypeAndModel_whenQuery_thenApplyAllCriteriaInOneStatement() {
+        // Arrange
+        VehicleFilter filter = new VehicleFilter(brandId, typeId, null, 2010, 2015, "hilux", null);
+
+        // Act
+        Page<VehicleResponse> page = vehicleService.query(filter, PAGE);
+
+        // Assert
+        assertThat(page.getContent()).isNotEmpty().allSatisfy(vehicle -> {
+            assertThat(vehicle.brandId()).isEqualTo(brandId);
+            assertThat(vehicle.vehicleTypeId()).isEqualTo(typeId);
+            assertThat(vehicle.year()).isBetween(2010, 2015);
+            assertThat(vehicle.model()).containsIgnoringCase("hilux");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void givenFormattedPlateFragment_whenQuery_thenMatchNormalizedPlate() {
+        // Act
+        Page<VehicleResponse> page = vehicleService.query(
+                new VehicleFilter(null, null, null, null, null, null, "fq-007"), PAGE);
+
+        // Assert
+        assertThat(page.getContent()).extracting(VehicleResponse::plate).containsExactly("FQ 007 ZZ");
+    }
+
+    @Test
+    void givenBrandFilter_whenCountFacets_thenEveryFacetAddsUpToTotal() {
+        // Act
+        VehicleFacetsResponse facets = vehicleFacetRepository.countFacets(
+                new VehicleFilter(brandId, null, null, null, null, null, null), 5);
+
+        // Assert
+        assertThat(facets.total()).isEqualTo(120);
+        assertThat(facets.brands()).containsExactly(new FacetCount(brandId, "Marca Filtro", 120));
+        assertThat(facets.vehicleTypes()).extracting(FacetCount::count).containsExactlyInAnyOrder(60L, 60L);
+        assertThat(facets.years()).extracting(YearBucketCount::fromYear).containsExactly(2015, 2010, 2005, 2000);
+        assertThat(facets.years()).extracting(YearBucketCount::count).allMatch(count -> count == 30);
+    }
+
+    @Test
+    void givenFullPage_whenQuery_thenCountTotalSeparately() {
+        // Act
+        Page<VehicleResponse> page = vehicleService.query(
+                new VehicleFilter(brandId, null, null, null, null, null, null), PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void givenSameFilter_whenCountFacetsAndQuery_thenFacetTotalEqualsListTotal() {
+        // Arrange
+        List<VehicleFilter> filters = List.of(
+                new VehicleFilter(brandId, null, null, null, null, null, null),
+                new VehicleFilter(brandId, typeId, null, 2010, 2015, "hilux", null),
+                new VehicleFilter(null, null, null, 2005, 2009, " HILUX ", null),
+                new VehicleFilter(brandId, null, null, null, null, null, "fq-00"));
+
+        for (VehicleFilter filter : filters) {
+            // Act
+            long facetTotal = vehicleFacetRepository.countFacets(filter, 5).total();
+            long listTotal = vehicleService.query(filter, PageRequest.of(0, 10)).getTotalElements();
+
+            // Assert
+            assertThat(facetTotal).as("total for %s", filter).isEqualTo(listTotal).isPositive();
+        }
+    }
+}
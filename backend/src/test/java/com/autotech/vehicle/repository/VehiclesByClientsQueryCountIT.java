@@ -0,0 +1,120 @@
+package com.autotech.vehicle.repository;
+
+import com.autotech.vehicle.dto.VehicleResponse;
+import com.autotech.vehicle.service.VehicleService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vehicles of any number of clients, with brand and type names, come back in a single
+ * statement. A lazy association slipping into the response would show up here as one extra
+ * statement per vehicle.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VehiclesByClientsQueryCountIT {
+
+    private static final int SEEDED_CLIENTS = 40;
+    private static final int VEHICLES_PER_CLIENT = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Long> clientIds;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO clients (first_name, last_name, dni, phone, client_type)
+                SELECT 'Nombre' || g, 'Apellido' || g, (50000000 + g)::text, '351' || g, 'PERSONAL'
+                FROM generate_series(1, ?) AS g
+                """, SEEDED_CLIENTS);
+        jdbcTemplate.update("INSERT INTO brands (name) VALUES ('Marca N+1') ON CONFLICT DO NOTHING");
+        jdbcTemplate.update("""
+                INSERT INTO vehicles (client_id, plate, brand_id, vehicle_type_id, model, year)
+                SELECT c.id, 'NP' || c.id || 'X' || n,
+                       (SELECT id FROM brands WHERE name = 'Marca N+1'),
+                       (SELECT id FROM vehicle_types ORDER BY id LIMIT 1),
+                       'Modelo', 2020
+                FROM clients c
+                CROSS JOIN generate_series(1, ?) AS n
+                WHERE c.dni LIKE '5%'
+                """, VEHICLES_PER_CLIENT);
+        clientIds = jdbcTemplate.queryForList("SELECT id FROM clients WHERE dni LIKE '5%' ORDER BY id", Long.class);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM vehicles WHERE client_id = ANY(?)", (Object) clientIds.toArray(Long[]::new));
+        jdbcTemplate.update("DELETE FROM clients WHERE id = ANY(?)", (Object) clientIds.toArray(Long[]::new));
+        jdbcTemplate.update("DELETE FROM brands WHERE name = 'Marca N+1'");
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    void givenFewClients_whenGetByClientIds_thenSingleStatement() {
+        // Act
+        Map<Long, List<VehicleResponse>> result = vehicleService.getByClientIds(clientIds.subList(0, 5));
+
+        // Assert
+        assertSingleStatement(result, 5);
+    }
+
+    @Test
+    void givenManyClients_whenGetByClientIds_thenStillSingleStatement() {
+        // Act
+        Map<Long, List<VehicleResponse>> result = vehicleService.getByClientIds(clientIds);
+
+        // Assert
+        assertSingleStatement(result, SEEDED_CLIENTS);
+    }
+
+    @Test
+    void givenOneClient_whenGetByClientId_thenSingleStatement() {
+        // Act
+        List<VehicleResponse> result = vehicleService.getByClientId(clientIds.getFirst());
+
+        // Assert
+        assertThat(result).hasSize(VEHICLES_PER_CLIENT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private void assertSingleStatement(Map<Long, List<VehicleResponse>> result, int clients) {
+        assertThat(result).hasSize(clients);
+        assertThat(result.values()).allSatisfy(vehicles -> {
+            assertThat(vehicles).hasSize(VEHICLES_PER_CLIENT);
+            assertThat(vehicles).allMatch(vehicle -> vehicle.brandName() != null && vehicle.vehicleTypeName() != null);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,83 @@
+package com.autotech.vehicle.service;
+
+import com.autotech.vehicle.dto.VehicleFacetsResponse;
+import com.autotech.vehicle.dto.VehicleFilter;
+import com.autotech.vehicle.repository.VehicleFacetRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleFacetServiceImplTest {
+
+    private static final VehicleFacetsResponse FACETS = new VehicleFacetsResponse(0, List.of(), List.of(), List.of());
+
+    @Mock
+    private VehicleFacetRepository vehicleFacetRepository;
+
+    private VehicleFacetServiceImpl vehicleFacetService;
+
+    @BeforeEach
+    void setUp() {
+        vehicleFacetService = new VehicleFacetServiceImpl(
+                vehicleFacetRepository, new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void givenEquivalentFilters_whenGetFacets_thenQueryOnceAndServeFromCache() {
+        // Arrange
+        VehicleFilter normalized = new VehicleFilter(1L, null, null, null, null, "hilux", "AB1");
+        when(vehicleFacetRepository.countFacets(normalized, 5)).thenReturn(FACETS);
+
+        // Act
+        VehicleFacetsResponse first = vehicleFacetService.getFacets(
+                new VehicleFilter(1L, null, null, null, null, " Hilux ", "ab-1"), 5);
+        VehicleFacetsResponse second = vehicleFacetService.getFacets(
+                new VehicleFilter(1L, null, null, null, null, "hilux", "AB 1"), 5);
+
+        // Assert
+        assertThat(first).isSameAs(second);
+        verify(vehicleFacetRepository, times(1)).countFacets(any(), anyInt());
+    }
+
+    @Test
+    void givenDifferentBucketSize_whenGetFacets_thenQueryAgain() {
+        // Arrange
+        VehicleFilter filter = new VehicleFilter(null, null, null, null, null, null, null);
+        when(vehicleFacetRepository.countFacets(filter, 5)).thenReturn(FACETS);
+        when(vehicleFacetRepository.countFacets(filter, 10)).thenReturn(FACETS);
+
+        // Act
+        vehicleFacetService.getFacets(filter, 5);
+        vehicleFacetService.getFacets(filter, 10);
+
+        // Assert
+        verify(vehicleFacetRepository, times(2)).countFacets(any(), anyInt());
+    }
+
+    @Test
+    void givenInvalidBucketSize_whenGetFacets_thenThrowIllegalArgumentException() {
+        // Arrange
+        VehicleFilter filter = new VehicleFilter(null, null, null, null, null, null, null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> vehicleFacetService.getFacets(filter, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(vehicleFacetRepository);
+    }
+}
@@ -4,6 +4,7 @@ import com.autotech.client.model.Client;
 import com.autotech.client.model.ClientType;
 import com.autotech.client.service.ClientService;
 import com.autotech.common.exception.ResourceNotFoundException;
+import com.autotech.vehicle.dto.VehicleFilter;
 import com.autotech.vehicle.dto.VehicleMapper;
 import com.autotech.vehicle.dto.VehicleRequest;
 import com.autotech.vehicle.dto.VehicleResponse;
@@ -11,27 +12,36 @@ import com.autotech.vehicle.model.Brand;
 import com.autotech.vehicle.model.Vehicle;
 import com.autotech.vehicle.model.VehicleType;
 import com.autotech.vehicle.repository.BrandRepository;
+import com.autotech.vehicle.repository.VehicleQueryRepository;
 import com.autotech.vehicle.repository.VehicleRepository;
 import com.autotech.vehicle.repository.VehicleTypeRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +62,9 @@ class VehicleServiceImplTest {
     @Mock
     private VehicleTypeRepository vehicleTypeRepository;
 
+    @Mock
+    private VehicleQueryRepository vehicleQueryRepository;
+
     @InjectMocks
     private VehicleServiceImpl vehicleService;
 
@@ -95,12 +108,12 @@ class VehicleServiceImplTest {
         Vehicle saved = buildVehicle(1L);
         VehicleResponse response = buildResponse(1L);
 
-        when(vehicleRepository.existsByPlate("ABC123")).thenReturn(false);
+        when(vehicleRepository.existsByPlateNormalized("ABC123")).thenReturn(false);
         when(clientService.findEntityById(1L)).thenReturn(client);
         when(brandRepository.findById(1L)).thenReturn(Optional.of(brand));
         when(vehicleTypeRepository.findById(1L)).thenReturn(Optional.of(vehicleType));
         when(vehicleMapper.toEntity(request)).thenReturn(entity);
-        when(vehicleRepository.save(entity)).thenReturn(saved);
+        when(vehicleRepository.saveAndFlush(entity)).thenReturn(saved);
         when(vehicleMapper.toResponse(saved)).thenReturn(response);
 
         // Act
@@ -115,7 +128,26 @@ class VehicleServiceImplTest {
     void givenDuplicatePlate_whenCreate_thenThrowIllegalArgumentException() {
         // Arrange
         VehicleRequest request = buildRequest();
-        when(vehicleRepository.existsByPlate("ABC123")).thenReturn(true);
+        when(vehicleRepository.existsByPlateNormalized("ABC123")).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> vehicleService.create(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("patente");
+    }
+
+    @Test
+    void givenConcurrentInsertOfSamePlate_whenCreate_thenThrowIllegalArgumentException() {
+        // Arrange
+        VehicleRequest request = buildRequest();
+        Vehicle entity = buildVehicle(null);
+        when(vehicleRepository.existsByPlateNormalized("ABC123")).thenReturn(false);
+        when(clientService.findEntityById(1L)).thenReturn(buildClient());
+        when(brandRepository.findById(1L)).thenReturn(Optional.of(buildBrand(1L)));
+        when(vehicleTypeRepository.findById(1L)).thenReturn(Optional.of(buildVehicleType(1L)));
+        when(vehicleMapper.toEntity(request)).thenReturn(entity);
+        when(vehicleRepository.saveAndFlush(entity)).thenThrow(new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException(), "uq_vehicles_plate_normalized")));
 
         // Act & Assert
         assertThatThrownBy(() -> vehicleService.create(request))
@@ -127,7 +159,7 @@ class VehicleServiceImplTest {
     void givenNonExistentClient_whenCreate_thenThrowResourceNotFoundException() {
         // Arrange
         VehicleRequest request = buildRequest();
-        when(vehicleRepository.existsByPlate("ABC123")).thenReturn(false);
+        when(vehicleRepository.existsByPlateNormalized("ABC123")).thenReturn(false);
         when(clientService.findEntityById(1L)).thenThrow(new ResourceNotFoundException("Client", 1L));
 
         // Act & Assert
@@ -148,11 +180,11 @@ class VehicleServiceImplTest {
         VehicleResponse response = buildResponse(1L);
 
         when(vehicleRepository.findById(1L)).thenReturn(Optional.of(existing));
-        when(vehicleRepository.existsByPlateAndIdNot("ABC123", 1L)).thenReturn(false);
+        when(vehicleRepository.existsByPlateNormalizedAndIdNot("ABC123", 1L)).thenReturn(false);
         when(clientService.findEntityById(1L)).thenReturn(client);
         when(brandRepository.findById(1L)).thenReturn(Optional.of(brand));
         when(vehicleTypeRepository.findById(1L)).thenReturn(Optional.of(vehicleType));
-        when(vehicleRepository.save(existing)).thenReturn(saved);
+        when(vehicleRepository.saveAndFlush(existing)).thenReturn(saved);
         when(vehicleMapper.toResponse(saved)).thenReturn(response);
 
         // Act
@@ -168,7 +200,7 @@ class VehicleServiceImplTest {
         VehicleRequest request = buildRequest();
         Vehicle existing = buildVehicle(1L);
         when(vehicleRepository.findById(1L)).thenReturn(Optional.of(existing));
-        when(vehicleRepository.existsByPlateAndIdNot("ABC123", 1L)).thenReturn(true);
+        when(vehicleRepository.existsByPlateNormalizedAndIdNot("ABC123", 1L)).thenReturn(true);
 
         // Act & Assert
         assertThatThrownBy(() -> vehicleService.update(1L, request))
@@ -200,37 +232,154 @@ class VehicleServiceImplTest {
     }
 
     @Test
-    void givenPlateQuery_whenSearchByPlate_thenReturnMatchingVehicles() {
+    void givenPlateQuery_whenSearchByPlate_thenReturnProjectedVehicles() {
         // Arrange
-        Vehicle entity = buildVehicle(1L);
         VehicleResponse response = buildResponse(1L);
-        Page<Vehicle> entityPage = new PageImpl<>(List.of(entity));
-
-        when(vehicleRepository.findByPlateContainingIgnoreCase("ABC", pageable)).thenReturn(entityPage);
-        when(vehicleMapper.toResponse(entity)).thenReturn(response);
+        when(vehicleRepository.findResponsesByNormalizedPlateContaining("ABC", pageable))
+                .thenReturn(new PageImpl<>(List.of(response)));
 
         // Act
-        Page<VehicleResponse> result = vehicleService.searchByPlate("ABC", pageable);
+        Page<VehicleResponse> result = vehicleService.searchByPlate("abc", pageable);
 
         // Assert
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().getFirst().plate()).isEqualTo("ABC123");
+        verify(vehicleRepository, never()).findResponsesByNormalizedPlate(any());
+        verifyNoInteractions(vehicleMapper);
     }
 
     @Test
-    void givenClientId_whenGetByClientId_thenReturnClientVehicles() {
+    void givenFormattedFullPlate_whenSearchByPlate_thenReturnExactMatchWithoutFuzzySearch() {
         // Arrange
-        Vehicle entity = buildVehicle(1L);
-        VehicleResponse response = buildResponse(1L);
+        when(vehicleRepository.findResponsesByNormalizedPlate("AB123CD")).thenReturn(List.of(buildResponse(1L)));
 
-        when(vehicleRepository.findByClientId(1L)).thenReturn(List.of(entity));
-        when(vehicleMapper.toResponse(entity)).thenReturn(response);
+        // Act
+        Page<VehicleResponse> result = vehicleService.searchByPlate("ab 123-cd", pageable);
+
+        // Assert
+        assertThat(result.getContent()).hasSize(1);
+        verify(vehicleRepository, never()).findResponsesByNormalizedPlateContaining(any(), any());
+    }
+
+    @Test
+    void givenExactMatchAndLaterPage_whenSearchByPlate_thenReturnEmptyPageWithSameTotal() {
+        // Arrange
+        when(vehicleRepository.findResponsesByNormalizedPlate("AB123CD")).thenReturn(List.of(buildResponse(1L)));
+
+        // Act
+        Page<VehicleResponse> result = vehicleService.searchByPlate("AB123CD", PageRequest.of(1, 12));
+
+        // Assert
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(vehicleRepository, never()).findResponsesByNormalizedPlateContaining(any(), any());
+    }
+
+    @Test
+    void givenFullPlateWithoutExactMatch_whenSearchByPlate_thenFallBackToContains() {
+        // Arrange
+        when(vehicleRepository.findResponsesByNormalizedPlate("AB123CD")).thenReturn(List.of());
+        when(vehicleRepository.findResponsesByNormalizedPlateContaining("AB123CD", pageable))
+                .thenReturn(Page.empty(pageable));
+
+        // Act
+        Page<VehicleResponse> result = vehicleService.searchByPlate("AB123CD", pageable);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void givenPlateWithSeparators_whenCreate_thenCheckDuplicatesOnNormalizedPlate() {
+        // Arrange
+        VehicleRequest request = new VehicleRequest(1L, "ab 123 cd", null, null, null, null, null, null, null);
+        when(vehicleRepository.existsByPlateNormalized("AB123CD")).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> vehicleService.create(request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenClientId_whenGetByClientId_thenReturnProjectedClientVehicles() {
+        // Arrange
+        when(vehicleRepository.findResponsesByClientIdIn(List.of(1L))).thenReturn(List.of(buildResponse(1L)));
 
         // Act
         List<VehicleResponse> result = vehicleService.getByClientId(1L);
 
         // Assert
         assertThat(result).hasSize(1);
+        verifyNoInteractions(vehicleMapper);
+    }
+
+    @Test
+    void givenCombinedFilter_whenQuery_thenRunSingleProjectedQuery() {
+        // Arrange
+        VehicleFilter filter = new VehicleFilter(1L, null, null, 2015, 2020, "cor", null);
+        when(vehicleQueryRepository.findResponses(any(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(buildResponse(1L))));
+
+        // Act
+        Page<VehicleResponse> result = vehicleService.query(filter, pageable);
+
+        // Assert
+        assertThat(result.getContent()).hasSize(1);
+        verifyNoInteractions(vehicleRepository, vehicleMapper);
+    }
+
+    @Test
+    void givenInvertedYearRange_whenQuery_thenThrowIllegalArgumentException() {
+        // Arrange
+        VehicleFilter filter = new VehicleFilter(null, null, null, 2021, 2020, null, null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> vehicleService.query(filter, pageable))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(vehicleQueryRepository);
+    }
+
+    @Test
+    void givenClientIds_whenGetByClientIds_thenGroupInRequestOrderIncludingClientsWithoutVehicles() {
+        // Arrange
+        VehicleResponse first = buildResponse(1L);
+        VehicleResponse second = new VehicleResponse(2L, 3L, "Ana", "Gomez", "23456789", "XYZ789",
+                null, null, 1L, "Toyota", "Hilux", 2021, 1L, "AUTO", null, LocalDateTime.now());
+        when(vehicleRepository.findResponsesByClientIdIn(Set.of(3L, 1L, 2L))).thenReturn(List.of(first, second));
+
+        // Act
+        Map<Long, List<VehicleResponse>> result = vehicleService.getByClientIds(List.of(3L, 1L, 2L, 3L));
+
+        // Assert
+        assertThat(result).containsOnlyKeys(3L, 1L, 2L);
+        assertThat(result.keySet()).containsExactly(3L, 1L, 2L);
+        assertThat(result.get(1L)).containsExactly(first);
+        assertThat(result.get(3L)).containsExactly(second);
+        assertThat(result.get(2L)).isEmpty();
+    }
+
+    @Test
+    void givenTooManyClientIds_whenGetByClientIds_thenThrowIllegalArgumentException() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 201).boxed().toList();
+
+        // Act & Assert
+        assertThatThrownBy(() -> vehicleService.getByClientIds(ids))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(vehicleRepository);
+    }
+
+    @Test
+    void givenPageable_whenGetAll_thenReturnProjectedPageWithoutMapping() {
+        // Arrange
+        when(vehicleRepository.findAllResponses(pageable)).thenReturn(new PageImpl<>(List.of(buildResponse(1L))));
+
+        // Act
+        Page<VehicleResponse> result = vehicleService.getAll(pageable);
+
+        // Assert
+        assertThat(result.getContent()).extracting(VehicleResponse::id).containsExactly(1L);
+        verifyNoInteractions(vehicleMapper);
     }
 
     // --- Helpers ---
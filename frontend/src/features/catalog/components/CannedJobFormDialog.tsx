@@ -56,8 +56,8 @@ export function CannedJobFormDialog({ open, onClose, onSave, initialData }: Cann
       if (initialData) {
         setTitle(initialData.title);
         setDescription(initialData.description ?? "");
-        setServices(initialData.services.map((s) => ({ serviceName: s.serviceName, price: s.price })));
-        setProducts(initialData.products.map((p) => ({ productName: p.productName, quantity: p.quantity, unitPrice: p.unitPrice })));
+        setServices(initialData.services.map((s) => ({ id: s.id, serviceName: s.serviceName, price: s.price })));
+        setProducts(initialData.products.map((p) => ({ id: p.id, productName: p.productName, quantity: p.quantity, unitPrice: p.unitPrice })));
       } else {
         setTitle("");
         setDescription("");
@@ -113,7 +113,7 @@ export function CannedJobFormDialog({ open, onClose, onSave, initialData }: Cann
       setServices((prev) =>
         prev.map((item, i) =>
           i === index
-            ? { serviceName: selected.name, price: selected.price ?? 0 }
+            ? { id: item.id, serviceName: selected.name, price: selected.price ?? 0 }
             : item
         )
       );
@@ -123,7 +123,7 @@ export function CannedJobFormDialog({ open, onClose, onSave, initialData }: Cann
   const handleServiceFieldChange = (index: number, field: keyof CannedJobServiceRequest, value: string | number) => {
     setServices((prev) =>
       prev.map((item, i) =>
-        i === index ? { serviceName: item.serviceName, price: item.price, [field]: value } : item
+        i === index ? { id: item.id, serviceName: item.serviceName, price: item.price, [field]: value } : item
       )
     );
   };
@@ -141,7 +141,7 @@ export function CannedJobFormDialog({ open, onClose, onSave, initialData }: Cann
       setProducts((prev) =>
         prev.map((item, i) =>
           i === index
-            ? { productName: selected.name, quantity: 1, unitPrice: selected.unitPrice ?? 0 }
+            ? { id: item.id, productName: selected.name, quantity: 1, unitPrice: selected.unitPrice ?? 0 }
             : item
         )
       );
@@ -152,7 +152,7 @@ export function CannedJobFormDialog({ open, onClose, onSave, initialData }: Cann
     setProducts((prev) =>
       prev.map((item, i) =>
         i === index
-          ? { productName: item.productName, quantity: item.quantity, unitPrice: item.unitPrice, [field]: value }
+          ? { id: item.id, productName: item.productName, quantity: item.quantity, unitPrice: item.unitPrice, [field]: value }
           : item
       )
     );
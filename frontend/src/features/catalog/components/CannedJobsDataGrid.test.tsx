@@ -7,8 +7,14 @@ import { CannedJobsDataGrid } from "./CannedJobsDataGrid";
 import type { CannedJobResponse } from "@/types/catalog";
 
 const mockRows: CannedJobResponse[] = [
-  { id: 1, title: "Full Service", description: "Complete service", createdAt: "", updatedAt: "" },
-  { id: 2, title: "Brake Overhaul", description: null, createdAt: "", updatedAt: "" },
+  {
+    id: 1, title: "Full Service", description: "Complete service",
+    servicesTotal: 50, productsTotal: 15, total: 65, lineCount: 2, createdAt: "", updatedAt: "",
+  },
+  {
+    id: 2, title: "Brake Overhaul", description: null,
+    servicesTotal: 0, productsTotal: 0, total: 0, lineCount: 0, createdAt: "", updatedAt: "",
+  },
 ];
 
 const defaultProps = {
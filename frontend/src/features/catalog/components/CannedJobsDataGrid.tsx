@@ -31,6 +31,14 @@ export function CannedJobsDataGrid({
   const columns: GridColDef[] = [
     { field: "title", headerName: "Título", flex: 1 },
     { field: "description", headerName: "Descripción", flex: 2 },
+    { field: "lineCount", headerName: "Ítems", width: 100, type: "number" },
+    {
+      field: "total",
+      headerName: "Total",
+      width: 150,
+      type: "number",
+      valueFormatter: (value: number | null) => (value != null ? `$${value.toFixed(2)}` : "—"),
+    },
     {
       field: "actions",
       type: "actions",
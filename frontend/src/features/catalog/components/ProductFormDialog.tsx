@@ -99,6 +99,9 @@ export function ProductFormDialog({ open, onClose, onSave, initialData }: Produc
                   const val = e.target.value;
                   handleChange("quantity", val === "" ? 0 : Math.max(0, parseInt(val)));
                 }}
+                // Only the initial stock is set here; afterwards stock moves through reservations and adjustments
+                disabled={!!initialData}
+                helperText={initialData ? "El stock se modifica con ajustes de stock" : undefined}
                 slotProps={{ htmlInput: { min: 0 } }}
               />
             </Grid>
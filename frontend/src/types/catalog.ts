@@ -43,6 +43,7 @@ export interface CannedJobServiceResponse {
 }
 
 export interface CannedJobServiceRequest {
+  id?: number | null;
   serviceName: string;
   price: number;
 }
@@ -55,6 +56,7 @@ export interface CannedJobProductResponse {
 }
 
 export interface CannedJobProductRequest {
+  id?: number | null;
   productName: string;
   quantity: number;
   unitPrice: number;
@@ -64,6 +66,10 @@ export interface CannedJobResponse {
   id: number;
   title: string;
   description: string | null;
+  servicesTotal: number;
+  productsTotal: number;
+  total: number;
+  lineCount: number;
   createdAt: string;
   updatedAt: string;
 }